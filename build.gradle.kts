@@ -107,6 +107,7 @@ plugins {
 spinePublishing {
     modules = setOf(
         "change",
+        "change-codegen",
     )
     destinations = with(PublishingRepos) {
         setOf(
@@ -33,6 +33,7 @@ import io.spine.dependency.lib.Protobuf
 import io.spine.dependency.local.McJava
 import io.spine.dependency.local.ProtoData
 import io.spine.dependency.local.ProtoTap
+import io.spine.dependency.test.Jmh
 import io.spine.dependency.test.Kotest
 import io.spine.dependency.test.Kover
 import io.spine.gradle.standardToSpineSdk
@@ -150,6 +151,9 @@ val PluginDependenciesSpec.kover: PluginDependencySpec
 val PluginDependenciesSpec.ksp: PluginDependencySpec
     get() = id(Ksp.id).version(Ksp.version)
 
+val PluginDependenciesSpec.jmh: PluginDependencySpec
+    get() = id(Jmh.GradlePlugin.id).version(Jmh.GradlePlugin.version)
+
 /**
  * Configures the dependencies between third-party Gradle tasks
  * and those defined via ProtoData and Spine Model Compiler.
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.benchmark;
+
+import io.spine.base.FieldPath;
+import io.spine.change.ChangeSet;
+import io.spine.change.Changes;
+import io.spine.change.ConcurrentChangeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures adding changes to an accumulator shared by all the threads of the benchmark.
+ *
+ * <p>Each thread changes its own fields, as projections do when they are updated
+ * on a thread pool. The {@link ConcurrentChangeSet} is compared to a {@link ChangeSet}
+ * guarded by a lock.
+ *
+ * <p>The benchmark runs with as many threads as there are available processors.
+ * Pass {@code -t <threads>} to JMH to measure how the throughput scales.
+ */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class ChangeSetContentionBenchmark {
+
+    private static final int FIELDS_PER_THREAD = 64;
+
+    private final ConcurrentChangeSet concurrentSet = new ConcurrentChangeSet();
+    private final ChangeSet lockedSet = new ChangeSet();
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Benchmark
+    public ConcurrentChangeSet concurrent(Fields fields) {
+        var field = fields.next();
+        var value = fields.values[field]++;
+        return concurrentSet.add(fields.paths[field], Changes.ofInt64(value, value + 1));
+    }
+
+    @Benchmark
+    public ChangeSet locked(Fields fields) {
+        var field = fields.next();
+        var value = fields.values[field]++;
+        var change = Changes.ofInt64(value, value + 1);
+        synchronized (lockedSet) {
+            return lockedSet.add(fields.paths[field], change);
+        }
+    }
+
+    /**
+     * The fields changed by one thread, with their current values.
+     */
+    @State(Scope.Thread)
+    @SuppressWarnings("NotNullFieldNotInitialized" /* Initialized in `setUp()`. */)
+    public static class Fields {
+
+        private FieldPath[] paths;
+        private long[] values;
+        private int cursor;
+
+        @Setup
+        public void setUp(ChangeSetContentionBenchmark benchmark) {
+            var thread = benchmark.threads.getAndIncrement();
+            paths = new FieldPath[FIELDS_PER_THREAD];
+            values = new long[FIELDS_PER_THREAD];
+            for (var i = 0; i < FIELDS_PER_THREAD; i++) {
+                paths[i] = FieldPath.newBuilder()
+                        .addFieldName("thread" + thread)
+                        .addFieldName("field" + i)
+                        .build();
+            }
+        }
+
+        private int next() {
+            cursor = (cursor + 1) % FIELDS_PER_THREAD;
+            return cursor;
+        }
+    }
+}
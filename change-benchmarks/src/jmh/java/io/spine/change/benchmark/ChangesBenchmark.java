@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import io.spine.change.BooleanChange;
+import io.spine.change.BytesChange;
+import io.spine.change.Changes;
+import io.spine.change.DoubleChange;
+import io.spine.change.Fixed32Change;
+import io.spine.change.Fixed64Change;
+import io.spine.change.FloatChange;
+import io.spine.change.Int32Change;
+import io.spine.change.Int64Change;
+import io.spine.change.SInt32Change;
+import io.spine.change.SInt64Change;
+import io.spine.change.Sfixed32Change;
+import io.spine.change.Sfixed64Change;
+import io.spine.change.StringChange;
+import io.spine.change.TimestampChange;
+import io.spine.change.UInt32Change;
+import io.spine.change.UInt64Change;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import static com.google.protobuf.ByteString.copyFromUtf8;
+
+/**
+ * Measures the factory methods of {@link Changes}.
+ *
+ * <p>The values passed to the factories are kept in non-final fields of the state,
+ * so that the JIT cannot fold them into constants.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"FieldMayBeFinal", "OverlyCoupledClass" /* We measure all the change types. */})
+public class ChangesBenchmark {
+
+    private String previousString = "Previous value of a string field";
+    private String newString = "New value of a string field";
+
+    private Timestamp previousTimestamp = Timestamp.newBuilder()
+            .setSeconds(1_600_000_000L)
+            .build();
+    private Timestamp newTimestamp = Timestamp.newBuilder()
+            .setSeconds(1_700_000_000L)
+            .setNanos(42)
+            .build();
+
+    private ByteString previousBytes = copyFromUtf8("Previous value of a bytes field");
+    private ByteString newBytes = copyFromUtf8("New value of a bytes field");
+
+    private double previousDouble = 3.14;
+    private double newDouble = 2.71;
+
+    private float previousFloat = 3.14f;
+    private float newFloat = 2.71f;
+
+    private int previousInt = 1986;
+    private int newInt = 2024;
+
+    private long previousLong = 1_986_000_000_000L;
+    private long newLong = 2_024_000_000_000L;
+
+    private boolean previousBoolean = true;
+    private boolean newBoolean = false;
+
+    @Benchmark
+    public StringChange ofString() {
+        return Changes.of(previousString, newString);
+    }
+
+    @Benchmark
+    public TimestampChange ofTimestamp() {
+        return Changes.of(previousTimestamp, newTimestamp);
+    }
+
+    @Benchmark
+    public BytesChange ofBytes() {
+        return Changes.of(previousBytes, newBytes);
+    }
+
+    @Benchmark
+    public DoubleChange ofDouble() {
+        return Changes.of(previousDouble, newDouble);
+    }
+
+    @Benchmark
+    public FloatChange ofFloat() {
+        return Changes.of(previousFloat, newFloat);
+    }
+
+    @Benchmark
+    public BooleanChange ofBoolean() {
+        return Changes.of(previousBoolean, newBoolean);
+    }
+
+    @Benchmark
+    public Int32Change ofInt32() {
+        return Changes.ofInt32(previousInt, newInt);
+    }
+
+    @Benchmark
+    public Int64Change ofInt64() {
+        return Changes.ofInt64(previousLong, newLong);
+    }
+
+    @Benchmark
+    public UInt32Change ofUInt32() {
+        return Changes.ofUInt32(previousInt, newInt);
+    }
+
+    @Benchmark
+    public UInt64Change ofUInt64() {
+        return Changes.ofUInt64(previousLong, newLong);
+    }
+
+    @Benchmark
+    public SInt32Change ofSInt32() {
+        return Changes.ofSInt32(previousInt, newInt);
+    }
+
+    @Benchmark
+    public SInt64Change ofSInt64() {
+        return Changes.ofSInt64(previousLong, newLong);
+    }
+
+    @Benchmark
+    public Fixed32Change ofFixed32() {
+        return Changes.ofFixed32(previousInt, newInt);
+    }
+
+    @Benchmark
+    public Fixed64Change ofFixed64() {
+        return Changes.ofFixed64(previousLong, newLong);
+    }
+
+    @Benchmark
+    public Sfixed32Change ofSfixed32() {
+        return Changes.ofSfixed32(previousInt, newInt);
+    }
+
+    @Benchmark
+    public Sfixed64Change ofSfixed64() {
+        return Changes.ofSfixed64(previousLong, newLong);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.benchmark;
+
+import com.google.protobuf.Timestamp;
+import io.spine.change.BooleanMismatch;
+import io.spine.change.DoubleMismatch;
+import io.spine.change.FloatMismatch;
+import io.spine.change.IntMismatch;
+import io.spine.change.LongMismatch;
+import io.spine.change.MessageMismatch;
+import io.spine.change.StringMismatch;
+import io.spine.change.ValueMismatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the factory methods of the {@code *Mismatch} utilities.
+ *
+ * <p>The values of the primitive fields are compared without boxing, so the allocation
+ * rate reported by the GC profiler for the primitive factories is that of the built
+ * messages only. The values are outside the ranges cached by the wrapper classes,
+ * so that boxing would show in the allocation rate.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings("FieldMayBeFinal")
+public class MismatchFactoriesBenchmark {
+
+    private int version = 42;
+
+    private int expectedInt = 1986;
+    private int actualInt = 1567;
+    private int newInt = 1452;
+
+    private long expectedLong = 1_986_000_000_000L;
+    private long actualLong = 1_567_000_000_000L;
+    private long newLong = 1_452_000_000_000L;
+
+    private float expectedFloat = 19.86f;
+    private float actualFloat = 15.67f;
+    private float newFloat = 14.52f;
+
+    private double expectedDouble = 19.86;
+    private double actualDouble = 15.67;
+    private double newDouble = 14.52;
+
+    private String expectedString = "expected";
+    private String actualString = "actual";
+    private String newString = "new value";
+
+    private Timestamp expectedMessage = Timestamp.newBuilder()
+            .setSeconds(1_986L)
+            .build();
+    private Timestamp actualMessage = Timestamp.newBuilder()
+            .setSeconds(1_567L)
+            .build();
+    private Timestamp newMessage = Timestamp.newBuilder()
+            .setSeconds(1_452L)
+            .build();
+
+    @Benchmark
+    public ValueMismatch booleanExpectedTrue() {
+        return BooleanMismatch.expectedTrue(version);
+    }
+
+    @Benchmark
+    public ValueMismatch booleanExpectedFalse() {
+        return BooleanMismatch.expectedFalse(version);
+    }
+
+    @Benchmark
+    public ValueMismatch intOf() {
+        return IntMismatch.of(expectedInt, actualInt, newInt, version);
+    }
+
+    @Benchmark
+    public ValueMismatch intExpectedZero() {
+        return IntMismatch.expectedZero(actualInt, newInt, version);
+    }
+
+    @Benchmark
+    public ValueMismatch intExpectedNonZero() {
+        return IntMismatch.expectedNonZero(expectedInt, newInt, version);
+    }
+
+    @Benchmark
+    public ValueMismatch intUnexpectedValue() {
+        return IntMismatch.unexpectedValue(expectedInt, actualInt, newInt, version);
+    }
+
+    @Benchmark
+    public ValueMismatch longOf() {
+        return LongMismatch.of(expectedLong, actualLong, newLong, version);
+    }
+
+    @Benchmark
+    public ValueMismatch longExpectedZero() {
+        return LongMismatch.expectedZero(actualLong, newLong, version);
+    }
+
+    @Benchmark
+    public ValueMismatch longExpectedNonZero() {
+        return LongMismatch.expectedNonZero(expectedLong, newLong, version);
+    }
+
+    @Benchmark
+    public ValueMismatch longUnexpectedValue() {
+        return LongMismatch.unexpectedValue(expectedLong, actualLong, newLong, version);
+    }
+
+    @Benchmark
+    public ValueMismatch floatOf() {
+        return FloatMismatch.of(expectedFloat, actualFloat, newFloat, version);
+    }
+
+    @Benchmark
+    public ValueMismatch floatExpectedZero() {
+        return FloatMismatch.expectedZero(actualFloat, newFloat, version);
+    }
+
+    @Benchmark
+    public ValueMismatch floatExpectedNonZero() {
+        return FloatMismatch.expectedNonZero(expectedFloat, newFloat, version);
+    }
+
+    @Benchmark
+    public ValueMismatch floatUnexpectedValue() {
+        return FloatMismatch.unexpectedValue(expectedFloat, actualFloat, newFloat, version);
+    }
+
+    @Benchmark
+    public ValueMismatch doubleOf() {
+        return DoubleMismatch.of(expectedDouble, actualDouble, newDouble, version);
+    }
+
+    @Benchmark
+    public ValueMismatch doubleExpectedZero() {
+        return DoubleMismatch.expectedZero(actualDouble, newDouble, version);
+    }
+
+    @Benchmark
+    public ValueMismatch doubleExpectedNonZero() {
+        return DoubleMismatch.expectedNonZero(expectedDouble, newDouble, version);
+    }
+
+    @Benchmark
+    public ValueMismatch doubleUnexpectedValue() {
+        return DoubleMismatch.unexpectedValue(expectedDouble, actualDouble, newDouble, version);
+    }
+
+    @Benchmark
+    public ValueMismatch stringExpectedEmpty() {
+        return StringMismatch.expectedEmpty(actualString, newString, version);
+    }
+
+    @Benchmark
+    public ValueMismatch stringExpectedNotEmpty() {
+        return StringMismatch.expectedNotEmpty(expectedString, version);
+    }
+
+    @Benchmark
+    public ValueMismatch stringUnexpectedValue() {
+        return StringMismatch.unexpectedValue(expectedString, actualString, newString, version);
+    }
+
+    @Benchmark
+    public ValueMismatch messageExpectedDefault() {
+        return MessageMismatch.expectedDefault(actualMessage, newMessage, version);
+    }
+
+    @Benchmark
+    public ValueMismatch messageExpectedNotDefault() {
+        return MessageMismatch.expectedNotDefault(expectedMessage, version);
+    }
+
+    @Benchmark
+    public ValueMismatch messageExpectedNotDefaultWithNewValue() {
+        return MessageMismatch.expectedNotDefault(expectedMessage, newMessage, version);
+    }
+
+    @Benchmark
+    public ValueMismatch messageUnexpectedValue() {
+        return MessageMismatch.unexpectedValue(expectedMessage, actualMessage,
+                                               newMessage, version);
+    }
+}
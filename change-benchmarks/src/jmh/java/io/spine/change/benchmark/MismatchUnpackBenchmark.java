@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.benchmark;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.change.BooleanMismatch;
+import io.spine.change.DoubleMismatch;
+import io.spine.change.FloatMismatch;
+import io.spine.change.IntMismatch;
+import io.spine.change.LongMismatch;
+import io.spine.change.MessageMismatch;
+import io.spine.change.StringMismatch;
+import io.spine.change.ValueMismatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures obtaining values from {@link ValueMismatch}es via
+ * the {@code unpack*} methods of the {@code *Mismatch} utilities.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings("NotNullFieldNotInitialized" /* Initialized in `setUp()`. */)
+public class MismatchUnpackBenchmark {
+
+    private static final int VERSION = 42;
+
+    private ValueMismatch booleanMismatch;
+    private ValueMismatch intMismatch;
+    private ValueMismatch longMismatch;
+    private ValueMismatch floatMismatch;
+    private ValueMismatch doubleMismatch;
+    private ValueMismatch stringMismatch;
+    private ValueMismatch messageMismatch;
+
+    @Setup
+    public void setUp() {
+        booleanMismatch = BooleanMismatch.expectedTrue(VERSION);
+        intMismatch = IntMismatch.of(1986, 1567, 1452, VERSION);
+        longMismatch = LongMismatch.of(1_986_000_000_000L, 1_567_000_000_000L,
+                                       1_452_000_000_000L, VERSION);
+        floatMismatch = FloatMismatch.of(19.86f, 15.67f, 14.52f, VERSION);
+        doubleMismatch = DoubleMismatch.of(19.86, 15.67, 14.52, VERSION);
+        stringMismatch = StringMismatch.unexpectedValue("expected", "actual",
+                                                        "new value", VERSION);
+        messageMismatch = MessageMismatch.unexpectedValue(timestamp(1_986L),
+                                                          timestamp(1_567L),
+                                                          timestamp(1_452L),
+                                                          VERSION);
+    }
+
+    private static Timestamp timestamp(long seconds) {
+        return Timestamp.newBuilder()
+                .setSeconds(seconds)
+                .build();
+    }
+
+    @Benchmark
+    public boolean booleanExpected() {
+        return BooleanMismatch.unpackExpected(booleanMismatch);
+    }
+
+    @Benchmark
+    public boolean booleanActual() {
+        return BooleanMismatch.unpackActual(booleanMismatch);
+    }
+
+    @Benchmark
+    public boolean booleanNewValue() {
+        return BooleanMismatch.unpackNewValue(booleanMismatch);
+    }
+
+    @Benchmark
+    public int intExpected() {
+        return IntMismatch.unpackExpected(intMismatch);
+    }
+
+    @Benchmark
+    public int intActual() {
+        return IntMismatch.unpackActual(intMismatch);
+    }
+
+    @Benchmark
+    public int intNewValue() {
+        return IntMismatch.unpackNewValue(intMismatch);
+    }
+
+    @Benchmark
+    public long longExpected() {
+        return LongMismatch.unpackExpected(longMismatch);
+    }
+
+    @Benchmark
+    public long longActual() {
+        return LongMismatch.unpackActual(longMismatch);
+    }
+
+    @Benchmark
+    public long longNewValue() {
+        return LongMismatch.unpackNewValue(longMismatch);
+    }
+
+    @Benchmark
+    public float floatExpected() {
+        return FloatMismatch.unpackExpected(floatMismatch);
+    }
+
+    @Benchmark
+    public float floatActual() {
+        return FloatMismatch.unpackActual(floatMismatch);
+    }
+
+    @Benchmark
+    public float floatNewValue() {
+        return FloatMismatch.unpackNewValue(floatMismatch);
+    }
+
+    @Benchmark
+    public double doubleExpected() {
+        return DoubleMismatch.unpackExpected(doubleMismatch);
+    }
+
+    @Benchmark
+    public double doubleActual() {
+        return DoubleMismatch.unpackActual(doubleMismatch);
+    }
+
+    @Benchmark
+    public double doubleNewValue() {
+        return DoubleMismatch.unpackNewValue(doubleMismatch);
+    }
+
+    @Benchmark
+    public String stringExpected() {
+        return StringMismatch.unpackExpected(stringMismatch);
+    }
+
+    @Benchmark
+    public String stringActual() {
+        return StringMismatch.unpackActual(stringMismatch);
+    }
+
+    @Benchmark
+    public String stringNewValue() {
+        return StringMismatch.unpackNewValue(stringMismatch);
+    }
+
+    @Benchmark
+    public Message messageExpected() {
+        return MessageMismatch.unpackExpected(messageMismatch);
+    }
+
+    @Benchmark
+    public Message messageActual() {
+        return MessageMismatch.unpackActual(messageMismatch);
+    }
+
+    @Benchmark
+    public Message messageNewValue() {
+        return MessageMismatch.unpackNewValue(messageMismatch);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.Type;
+import com.google.protobuf.Timestamp;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import io.spine.change.DiffBuilder;
+import io.spine.change.Differ;
+
+import javax.annotation.processing.Generated;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * Generates the source code of a {@link Differ} for a message type.
+ *
+ * <p>The generated differ compares the fields via the getters of the message class and
+ * reports them to {@link DiffBuilder} with the method matching the field type, so that
+ * the differ reports the same changes as {@code MessageDiff} does:
+ * <ul>
+ *     <li>{@code Timestamp} fields are compared as values;
+ *     <li>enum fields are compared by the numbers of their values;
+ *     <li>other message fields are compared field by field, taking into account
+ *         if they are set;
+ *     <li>repeated and map fields are not compared.
+ * </ul>
+ */
+final class DifferGenerator {
+
+    private static final String PREVIOUS_VALUE = "previousValue";
+    private static final String NEW_VALUE = "newValue";
+    private static final String DIFF = "diff";
+    private static final String COMPARE = "compare";
+    private static final String PROTO3 = "proto3";
+
+    /**
+     * The methods of {@link DiffBuilder} comparing the values of the fields of scalar types.
+     */
+    private static final ImmutableMap<Type, String> compareMethods =
+            ImmutableMap.<Type, String>builder()
+                    .put(Type.STRING, COMPARE)
+                    .put(Type.BYTES, COMPARE)
+                    .put(Type.BOOL, COMPARE)
+                    .put(Type.DOUBLE, COMPARE)
+                    .put(Type.FLOAT, COMPARE)
+                    .put(Type.INT32, "compareInt32")
+                    .put(Type.INT64, "compareInt64")
+                    .put(Type.UINT32, "compareUInt32")
+                    .put(Type.UINT64, "compareUInt64")
+                    .put(Type.SINT32, "compareSInt32")
+                    .put(Type.SINT64, "compareSInt64")
+                    .put(Type.FIXED32, "compareFixed32")
+                    .put(Type.FIXED64, "compareFixed64")
+                    .put(Type.SFIXED32, "compareSfixed32")
+                    .put(Type.SFIXED64, "compareSfixed64")
+                    .buildOrThrow();
+
+    /** Prevent instantiation of this utility class. */
+    private DifferGenerator() {
+    }
+
+    /**
+     * Generates the differ for the passed message type.
+     */
+    static JavaFile generate(Descriptor type) {
+        checkNotNull(type);
+        var messageClass = JavaNames.messageClass(type);
+        var differClass = JavaNames.differClass(type);
+        var differ = TypeSpec.classBuilder(differClass)
+                .addJavadoc("Compares {@link $T} messages via the getters of the message class.\n",
+                            messageClass)
+                .addAnnotation(AnnotationSpec.builder(Generated.class)
+                                             .addMember("value", "$S",
+                                                        DifferPlugin.class.getName())
+                                             .build())
+                .addModifiers(PUBLIC, FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(Differ.class),
+                                                             messageClass))
+                .addMethod(messageClassMethod(messageClass))
+                .addMethod(diffMethod(type, messageClass))
+                .build();
+        return JavaFile.builder(differClass.packageName(), differ)
+                       .skipJavaLangImports(true)
+                       .build();
+    }
+
+    private static MethodSpec messageClassMethod(ClassName messageClass) {
+        return MethodSpec.methodBuilder("messageClass")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(Class.class), messageClass))
+                .addStatement("return $T.class", messageClass)
+                .build();
+    }
+
+    private static MethodSpec diffMethod(Descriptor type, ClassName messageClass) {
+        var code = CodeBlock.builder();
+        for (var field : type.getFields()) {
+            if (!field.isRepeated()) {
+                code.add(compare(field));
+            }
+        }
+        return MethodSpec.methodBuilder(DIFF)
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(messageClass, PREVIOUS_VALUE)
+                .addParameter(messageClass, NEW_VALUE)
+                .addParameter(DiffBuilder.class, DIFF)
+                .addCode(code.build())
+                .build();
+    }
+
+    /**
+     * Generates the statement comparing the values of the passed field.
+     *
+     * <p>Groups are not compared, as {@code MessageDiff} does not compare them either.
+     */
+    private static CodeBlock compare(FieldDescriptor field) {
+        var type = field.getType();
+        if (type == Type.MESSAGE) {
+            return isTimestamp(field)
+                   ? compareValues(COMPARE, field, JavaNames.getter(field))
+                   : comparePresent(field);
+        }
+        if (type == Type.ENUM) {
+            return isOpen(field)
+                   ? compareValues("compareInt32", field, JavaNames.valueGetter(field))
+                   : compareValues(COMPARE, field, JavaNames.getter(field));
+        }
+        var method = compareMethods.get(type);
+        if (method == null) {
+            return CodeBlock.of("");
+        }
+        return compareValues(method, field, JavaNames.getter(field));
+    }
+
+    private static CodeBlock compareValues(String method, FieldDescriptor field, String getter) {
+        return CodeBlock.of("$L.$L($S, $L.$L(), $L.$L());\n",
+                            DIFF, method, field.getName(),
+                            PREVIOUS_VALUE, getter,
+                            NEW_VALUE, getter);
+    }
+
+    private static CodeBlock comparePresent(FieldDescriptor field) {
+        var presence = JavaNames.presenceGetter(field);
+        var getter = JavaNames.getter(field);
+        return CodeBlock.of("$L.$L($S,\n$>$>$L.$L(), $L.$L(),\n$L.$L(), $L.$L());\n$<$<",
+                            DIFF, COMPARE, field.getName(),
+                            PREVIOUS_VALUE, presence, PREVIOUS_VALUE, getter,
+                            NEW_VALUE, presence, NEW_VALUE, getter);
+    }
+
+    /**
+     * Tells if the passed message field holds a {@code Timestamp}, which is compared as
+     * a value.
+     *
+     * <p>The types are compared by their names, as the descriptors passed to the plugin are
+     * built from the request, and so differ from the descriptor of the {@code Timestamp} class.
+     */
+    private static boolean isTimestamp(FieldDescriptor field) {
+        return field.getMessageType()
+                    .getFullName()
+                    .equals(Timestamp.getDescriptor().getFullName());
+    }
+
+    /**
+     * Tells if the passed enum field keeps the numbers of unknown values, so that
+     * they are obtained via the {@code get...Value()} getter.
+     */
+    private static boolean isOpen(FieldDescriptor field) {
+        return PROTO3.equals(field.getFile()
+                                  .toProto()
+                                  .getSyntax());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse.Feature;
+import com.squareup.javapoet.JavaFile;
+import io.spine.change.Differ;
+import io.spine.change.DifferOptionsProto;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The plugin of the Protobuf compiler which generates {@link Differ}s.
+ *
+ * <p>A differ is generated for each message type marked with the {@code (generate_differ)}
+ * option in the files passed for generation. The generated differs are listed in
+ * the {@code META-INF/services/io.spine.change.Differ} file, so that {@code MessageDiff}
+ * finds them. Therefore, the output directory of the plugin should be added to both
+ * the Java sources and the resources of the source set.
+ *
+ * <p>The services file lists the differs generated by one run of the compiler. If
+ * the messages of a source set are compiled in several runs, the differs should be
+ * generated in one of them.
+ */
+public final class DifferPlugin {
+
+    /**
+     * The path of the file listing the generated differs for
+     * {@link java.util.ServiceLoader ServiceLoader}.
+     */
+    static final String SERVICES_FILE = "META-INF/services/" + Differ.class.getName();
+
+    /** Prevent instantiation of this utility class. */
+    private DifferPlugin() {
+    }
+
+    /**
+     * Reads {@code CodeGeneratorRequest} from the standard input and writes
+     * {@code CodeGeneratorResponse} to the standard output.
+     */
+    public static void main(String[] args) throws IOException {
+        var registry = ExtensionRegistry.newInstance();
+        DifferOptionsProto.registerAllExtensions(registry);
+        var request = CodeGeneratorRequest.parseFrom(System.in, registry);
+        process(request).writeTo(System.out);
+        System.out.flush();
+    }
+
+    /**
+     * Generates the differs for the message types of the requested files.
+     *
+     * <p>If the passed files cannot be resolved, the response contains the error
+     * instead of the files.
+     */
+    static CodeGeneratorResponse process(CodeGeneratorRequest request) {
+        checkNotNull(request);
+        var response = CodeGeneratorResponse.newBuilder()
+                .setSupportedFeatures(Feature.FEATURE_PROTO3_OPTIONAL_VALUE);
+        Map<String, FileDescriptor> files;
+        try {
+            files = resolve(request.getProtoFileList());
+        } catch (DescriptorValidationException e) {
+            return response.setError(e.getMessage())
+                           .build();
+        }
+        var services = new StringBuilder();
+        for (var fileName : request.getFileToGenerateList()) {
+            for (var type : markedTypes(files.get(fileName))) {
+                var differ = DifferGenerator.generate(type);
+                response.addFile(sourceFile(differ));
+                services.append(JavaNames.differClass(type).reflectionName())
+                        .append('\n');
+            }
+        }
+        if (services.length() > 0) {
+            response.addFileBuilder()
+                    .setName(SERVICES_FILE)
+                    .setContent(services.toString());
+        }
+        return response.build();
+    }
+
+    /**
+     * Builds the descriptors of the passed files.
+     *
+     * <p>The compiler passes the files so that each file goes after its dependencies.
+     */
+    private static Map<String, FileDescriptor> resolve(List<FileDescriptorProto> protos)
+            throws DescriptorValidationException {
+        Map<String, FileDescriptor> result = new HashMap<>();
+        for (var proto : protos) {
+            var dependencies = proto.getDependencyList()
+                                    .stream()
+                                    .map(result::get)
+                                    .toArray(FileDescriptor[]::new);
+            result.put(proto.getName(), FileDescriptor.buildFrom(proto, dependencies));
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the message types of the passed file marked with the {@code (generate_differ)}
+     * option, including the nested ones.
+     */
+    private static ImmutableList<Descriptor> markedTypes(FileDescriptor file) {
+        var result = ImmutableList.<Descriptor>builder();
+        collectMarked(file.getMessageTypes(), result);
+        return result.build();
+    }
+
+    private static void collectMarked(List<Descriptor> types,
+                                      ImmutableList.Builder<Descriptor> result) {
+        for (var type : types) {
+            if (type.getOptions().getExtension(DifferOptionsProto.generateDiffer)) {
+                result.add(type);
+            }
+            collectMarked(type.getNestedTypes(), result);
+        }
+    }
+
+    private static CodeGeneratorResponse.File sourceFile(JavaFile differ) {
+        var fileName = differ.typeSpec.name + ".java";
+        var path = differ.packageName.isEmpty()
+                   ? fileName
+                   : differ.packageName.replace('.', '/') + '/' + fileName;
+        return CodeGeneratorResponse.File.newBuilder()
+                .setName(path)
+                .setContent(differ.toString())
+                .build();
+    }
+}
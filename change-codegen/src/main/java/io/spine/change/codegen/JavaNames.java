@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Descriptors.ServiceDescriptor;
+import com.squareup.javapoet.ClassName;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Resolves the names of the Java classes and methods generated by the Protobuf compiler.
+ *
+ * <p>The names are resolved by the rules of the Java code generator of the compiler,
+ * so that the generated differs refer to the existing message classes and their getters.
+ */
+final class JavaNames {
+
+    private static final String PROTO_EXTENSION = ".proto";
+    private static final String OUTER_CLASS_SUFFIX = "OuterClass";
+    private static final String DIFFER_SUFFIX = "Differ";
+
+    /**
+     * The field name which would produce a getter clashing with {@link Object#getClass()}.
+     *
+     * <p>The compiler adds an underscore to the names of the accessors of such a field.
+     */
+    private static final String CLASS = "Class";
+
+    /** Prevent instantiation of this utility class. */
+    private JavaNames() {
+    }
+
+    /**
+     * Obtains the name of the Java class generated for the passed message type.
+     */
+    static ClassName messageClass(Descriptor type) {
+        var file = type.getFile();
+        var names = simpleNames(type);
+        var packageName = javaPackage(file);
+        if (file.getOptions().getJavaMultipleFiles()) {
+            return ClassName.get(packageName, names.get(0), tail(names));
+        }
+        return ClassName.get(packageName, outerClass(file), names.toArray(new String[0]));
+    }
+
+    /**
+     * Obtains the name of the differ generated for the passed message type.
+     *
+     * <p>The differ is a top-level class in the package of the message class. The name of
+     * the differ of a nested type joins the names of the enclosing types, e.g.
+     * {@code ProjectMemberDiffer} for {@code Project.Member}.
+     */
+    static ClassName differClass(Descriptor type) {
+        var name = Joiner.on("").join(simpleNames(type)) + DIFFER_SUFFIX;
+        return ClassName.get(javaPackage(type.getFile()), name);
+    }
+
+    /**
+     * Obtains the name of the getter of the passed field, e.g. {@code getDueDate}.
+     */
+    static String getter(FieldDescriptor field) {
+        return "get" + capitalizedName(field);
+    }
+
+    /**
+     * Obtains the name of the getter of the number of the value of an enum field,
+     * e.g. {@code getStatusValue}.
+     */
+    static String valueGetter(FieldDescriptor field) {
+        return getter(field) + "Value";
+    }
+
+    /**
+     * Obtains the name of the method telling if a message field is set, e.g. {@code hasOwner}.
+     */
+    static String presenceGetter(FieldDescriptor field) {
+        return "has" + capitalizedName(field);
+    }
+
+    private static String capitalizedName(FieldDescriptor field) {
+        var result = camelCase(field.getName());
+        if (CLASS.equals(result)) {
+            return result + '_';
+        }
+        return result;
+    }
+
+    private static String javaPackage(FileDescriptor file) {
+        var options = file.getOptions();
+        return options.hasJavaPackage()
+               ? options.getJavaPackage()
+               : file.getPackage();
+    }
+
+    /**
+     * Obtains the name of the outer class of the passed file.
+     *
+     * <p>If the name is not set via the {@code java_outer_classname} option, it is made of
+     * the name of the file. If such a name clashes with a type declared in the file,
+     * the {@code OuterClass} suffix is added.
+     */
+    private static String outerClass(FileDescriptor file) {
+        var options = file.getOptions();
+        if (options.hasJavaOuterClassname()) {
+            return options.getJavaOuterClassname();
+        }
+        var fileName = file.getName();
+        var baseName = fileName.substring(fileName.lastIndexOf('/') + 1);
+        if (baseName.endsWith(PROTO_EXTENSION)) {
+            baseName = baseName.substring(0, baseName.length() - PROTO_EXTENSION.length());
+        }
+        var result = camelCase(baseName);
+        if (declares(file, result)) {
+            return result + OUTER_CLASS_SUFFIX;
+        }
+        return result;
+    }
+
+    /**
+     * Tells if a type with the passed name is declared in the passed file,
+     * at any level of nesting.
+     */
+    private static boolean declares(FileDescriptor file, String name) {
+        for (EnumDescriptor type : file.getEnumTypes()) {
+            if (type.getName().equals(name)) {
+                return true;
+            }
+        }
+        for (ServiceDescriptor service : file.getServices()) {
+            if (service.getName().equals(name)) {
+                return true;
+            }
+        }
+        Deque<Descriptor> types = new ArrayDeque<>(file.getMessageTypes());
+        while (!types.isEmpty()) {
+            var type = types.pop();
+            if (type.getName().equals(name)) {
+                return true;
+            }
+            for (var nested : type.getEnumTypes()) {
+                if (nested.getName().equals(name)) {
+                    return true;
+                }
+            }
+            types.addAll(type.getNestedTypes());
+        }
+        return false;
+    }
+
+    /**
+     * Obtains the simple names of the passed type and the types enclosing it,
+     * starting from the top-level one.
+     */
+    private static ImmutableList<String> simpleNames(Descriptor type) {
+        Deque<String> result = new ArrayDeque<>();
+        for (var current = type; current != null; current = current.getContainingType()) {
+            result.push(current.getName());
+        }
+        return ImmutableList.copyOf(result);
+    }
+
+    private static String[] tail(ImmutableList<String> names) {
+        return names.subList(1, names.size())
+                    .toArray(new String[0]);
+    }
+
+    /**
+     * Converts the passed name to the camel case with the first letter capitalized.
+     *
+     * <p>A letter following an underscore, another non-alphanumeric character, or a digit is
+     * capitalized, and the non-alphanumeric characters are dropped, e.g. {@code due_date_2x}
+     * becomes {@code DueDate2X}.
+     */
+    private static String camelCase(String name) {
+        var result = new StringBuilder(name.length());
+        var capitalizeNext = true;
+        for (var i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                result.append(capitalizeNext ? Character.toUpperCase(c) : c);
+                capitalizeNext = false;
+            } else if (c >= 'A' && c <= 'Z') {
+                result.append(c);
+                capitalizeNext = false;
+            } else if (c >= '0' && c <= '9') {
+                result.append(c);
+                capitalizeNext = true;
+            } else {
+                capitalizeNext = true;
+            }
+        }
+        return result.toString();
+    }
+}
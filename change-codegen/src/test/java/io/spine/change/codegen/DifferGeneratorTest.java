@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Descriptors.Descriptor;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.change.codegen.given.TestFiles.JAVA_PACKAGE;
+import static io.spine.change.codegen.given.TestFiles.legacy;
+import static io.spine.change.codegen.given.TestFiles.task;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`DifferGenerator` should")
+class DifferGeneratorTest extends UtilityClassTest<DifferGenerator> {
+
+    DifferGeneratorTest() {
+        super(DifferGenerator.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(Descriptor.class, task());
+    }
+
+    @Test
+    @DisplayName("generate a differ in the package of the message")
+    void differClass() {
+        var differ = DifferGenerator.generate(task());
+
+        assertEquals(JAVA_PACKAGE, differ.packageName);
+        assertEquals("TaskDiffer", differ.typeSpec.name);
+        assertContains(differ.toString(), "implements Differ<Task>");
+        assertContains(differ.toString(), "return Task.class;");
+    }
+
+    @Test
+    @DisplayName("compare scalar fields by the method matching the field type")
+    void scalars() {
+        var source = DifferGenerator.generate(task()).toString();
+
+        assertContains(source,
+                       "diff.compare(\"title\", previousValue.getTitle(), newValue.getTitle());");
+        assertContains(source,
+                       "diff.compareInt32(\"priority\", previousValue.getPriority(), "
+                               + "newValue.getPriority());");
+        assertContains(source,
+                       "diff.compareUInt64(\"budget\", previousValue.getBudget(), "
+                               + "newValue.getBudget());");
+        assertContains(source,
+                       "diff.compare(\"done\", previousValue.getDone(), newValue.getDone());");
+    }
+
+    @Test
+    @DisplayName("compare `Timestamp` fields as values")
+    void timestamps() {
+        var source = DifferGenerator.generate(task()).toString();
+
+        assertContains(source,
+                       "diff.compare(\"due\", previousValue.getDue(), newValue.getDue());");
+    }
+
+    @Test
+    @DisplayName("compare open enum fields by the numbers of their values")
+    void openEnums() {
+        var source = DifferGenerator.generate(task()).toString();
+
+        assertContains(source,
+                       "diff.compareInt32(\"status\", previousValue.getStatusValue(), "
+                               + "newValue.getStatusValue());");
+    }
+
+    @Test
+    @DisplayName("compare closed enum fields by their values")
+    void closedEnums() {
+        var source = DifferGenerator.generate(legacy()).toString();
+
+        assertContains(source,
+                       "diff.compare(\"status\", previousValue.getStatus(), "
+                               + "newValue.getStatus());");
+    }
+
+    @Test
+    @DisplayName("compare message fields taking into account if they are set")
+    void messages() {
+        var source = DifferGenerator.generate(task()).toString();
+
+        assertContains(source, "previousValue.hasOwner(), previousValue.getOwner(),");
+        assertContains(source, "newValue.hasOwner(), newValue.getOwner());");
+    }
+
+    @Test
+    @DisplayName("not compare repeated fields")
+    void repeated() {
+        var source = DifferGenerator.generate(task()).toString();
+
+        assertFalse(source.contains("\"tag\""));
+    }
+
+    private static void assertContains(String source, String expected) {
+        assertTrue(source.contains(expected),
+                   () -> "The generated code does not contain `" + expected + "`:\n" + source);
+    }
+}
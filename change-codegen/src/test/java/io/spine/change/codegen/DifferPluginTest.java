@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.spine.change.codegen.DifferPlugin.SERVICES_FILE;
+import static io.spine.change.codegen.given.TestFiles.TASK_FILE;
+import static io.spine.change.codegen.given.TestFiles.taskFile;
+import static io.spine.change.codegen.given.TestFiles.timestampFile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`DifferPlugin` should")
+class DifferPluginTest {
+
+    private static final String DIFFER_FILE = "io/spine/change/codegen/given/TaskDiffer.java";
+
+    @Test
+    @DisplayName("generate differs for the marked message types")
+    void generate() {
+        var response = DifferPlugin.process(request(taskFile()));
+
+        assertFalse(response.hasError());
+        assertEquals(List.of(DIFFER_FILE, SERVICES_FILE), fileNames(response));
+    }
+
+    @Test
+    @DisplayName("list the generated differs for `ServiceLoader`")
+    void services() {
+        var response = DifferPlugin.process(request(taskFile()));
+
+        var services = response.getFileList()
+                               .stream()
+                               .filter(file -> file.getName().equals(SERVICES_FILE))
+                               .findFirst()
+                               .orElseThrow();
+        assertEquals("io.spine.change.codegen.given.TaskDiffer\n", services.getContent());
+    }
+
+    @Test
+    @DisplayName("not generate files if there are no marked message types")
+    void noMarked() {
+        var file = taskFile().toBuilder();
+        file.getMessageTypeBuilder(0)
+            .clearOptions();
+
+        var response = DifferPlugin.process(request(file.build()));
+
+        assertFalse(response.hasError());
+        assertEquals(0, response.getFileCount());
+    }
+
+    @Test
+    @DisplayName("report the files which cannot be resolved")
+    void invalidFile() {
+        var file = taskFile().toBuilder();
+        file.getMessageTypeBuilder(0)
+            .getFieldBuilder(0)
+            .setTypeName(".given.task.Unknown")
+            .setType(FieldDescriptorProto.Type.TYPE_MESSAGE);
+
+        var response = DifferPlugin.process(request(file.build()));
+
+        assertTrue(response.hasError());
+        assertEquals(0, response.getFileCount());
+    }
+
+    private static CodeGeneratorRequest request(FileDescriptorProto file) {
+        return CodeGeneratorRequest.newBuilder()
+                .addProtoFile(timestampFile())
+                .addProtoFile(file)
+                .addFileToGenerate(TASK_FILE)
+                .build();
+    }
+
+    private static List<String> fileNames(CodeGeneratorResponse response) {
+        return response.getFileList()
+                       .stream()
+                       .map(CodeGeneratorResponse.File::getName)
+                       .toList();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.squareup.javapoet.ClassName;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.change.codegen.given.TestFiles.JAVA_PACKAGE;
+import static io.spine.change.codegen.given.TestFiles.legacy;
+import static io.spine.change.codegen.given.TestFiles.task;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("`JavaNames` should")
+class JavaNamesTest extends UtilityClassTest<JavaNames> {
+
+    JavaNamesTest() {
+        super(JavaNames.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(Descriptor.class, task());
+    }
+
+    @Test
+    @DisplayName("name the class of a message declared in its own file")
+    void multipleFiles() {
+        assertEquals(ClassName.get(JAVA_PACKAGE, "Task"), JavaNames.messageClass(task()));
+    }
+
+    @Test
+    @DisplayName("name the class of a nested message")
+    void nested() {
+        var member = task().findNestedTypeByName("Member");
+
+        assertEquals(ClassName.get(JAVA_PACKAGE, "Task", "Member"),
+                     JavaNames.messageClass(member));
+        assertEquals(ClassName.get(JAVA_PACKAGE, "TaskMemberDiffer"),
+                     JavaNames.differClass(member));
+    }
+
+    @Test
+    @DisplayName("name the class of a message declared in the outer class")
+    void outerClass() {
+        assertEquals(ClassName.get(JAVA_PACKAGE, "LegacyOuterClass", "Legacy"),
+                     JavaNames.messageClass(legacy()));
+    }
+
+    @Test
+    @DisplayName("name getters of fields")
+    void getters() {
+        var type = task();
+        var timeZone = type.findFieldByName("time_zone_id");
+        var owner = type.findFieldByName("owner");
+        var status = type.findFieldByName("status");
+
+        assertEquals("getTimeZoneId", JavaNames.getter(timeZone));
+        assertEquals("hasOwner", JavaNames.presenceGetter(owner));
+        assertEquals("getStatusValue", JavaNames.valueGetter(status));
+    }
+
+    @Test
+    @DisplayName("add underscore to getter clashing with `getClass()`")
+    void clashingGetter() {
+        var field = task().findFieldByName("class");
+
+        assertEquals("getClass_", JavaNames.getter(field));
+    }
+}
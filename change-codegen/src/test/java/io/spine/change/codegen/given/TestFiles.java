@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.codegen.given;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileOptions;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Timestamp;
+import io.spine.change.DifferOptionsProto;
+
+/**
+ * Provides the descriptors of the files passed to the differ generator in tests.
+ *
+ * <p>The descriptors are built by hand, so that the tests do not depend on the classes
+ * generated for them.
+ */
+public final class TestFiles {
+
+    public static final String TASK_FILE = "given/task.proto";
+    public static final String LEGACY_FILE = "given/legacy.proto";
+    public static final String JAVA_PACKAGE = "io.spine.change.codegen.given";
+
+    private static final String TIMESTAMP_FILE = Timestamp.getDescriptor()
+                                                          .getFile()
+                                                          .getName();
+
+    /** Prevent instantiation of this utility class. */
+    private TestFiles() {
+    }
+
+    /**
+     * Creates the {@code proto3} file declaring the {@code Task} message, marked with
+     * the {@code (generate_differ)} option, and its nested {@code Member} message,
+     * which is not marked.
+     */
+    public static FileDescriptorProto taskFile() {
+        var member = DescriptorProto.newBuilder()
+                .setName("Member")
+                .addField(field("name", 1, Type.TYPE_STRING));
+        var task = DescriptorProto.newBuilder()
+                .setName("Task")
+                .setOptions(MessageOptions.newBuilder()
+                                    .setExtension(DifferOptionsProto.generateDiffer, true))
+                .addField(field("title", 1, Type.TYPE_STRING))
+                .addField(field("priority", 2, Type.TYPE_INT32))
+                .addField(field("budget", 3, Type.TYPE_UINT64))
+                .addField(field("done", 4, Type.TYPE_BOOL))
+                .addField(field("due", 5, Type.TYPE_MESSAGE)
+                                  .setTypeName(".google.protobuf.Timestamp"))
+                .addField(field("status", 6, Type.TYPE_ENUM)
+                                  .setTypeName(".given.task.Status"))
+                .addField(field("owner", 7, Type.TYPE_MESSAGE)
+                                  .setTypeName(".given.task.Task.Member"))
+                .addField(field("tag", 8, Type.TYPE_STRING)
+                                  .setLabel(Label.LABEL_REPEATED))
+                .addField(field("class", 9, Type.TYPE_STRING))
+                .addField(field("time_zone_id", 10, Type.TYPE_STRING))
+                .addNestedType(member);
+        return FileDescriptorProto.newBuilder()
+                .setName(TASK_FILE)
+                .setPackage("given.task")
+                .setSyntax("proto3")
+                .addDependency(TIMESTAMP_FILE)
+                .setOptions(FileOptions.newBuilder()
+                                    .setJavaPackage(JAVA_PACKAGE)
+                                    .setJavaMultipleFiles(true))
+                .addMessageType(task)
+                .addEnumType(status())
+                .build();
+    }
+
+    /**
+     * Creates the {@code proto2} file declaring the {@code Legacy} message in the outer class,
+     * the name of which is not set and clashes with the name of the message.
+     */
+    public static FileDescriptorProto legacyFile() {
+        var legacy = DescriptorProto.newBuilder()
+                .setName("Legacy")
+                .addField(field("status", 1, Type.TYPE_ENUM)
+                                  .setLabel(Label.LABEL_OPTIONAL)
+                                  .setTypeName(".given.legacy.Status"));
+        return FileDescriptorProto.newBuilder()
+                .setName(LEGACY_FILE)
+                .setPackage("given.legacy")
+                .setOptions(FileOptions.newBuilder()
+                                    .setJavaPackage(JAVA_PACKAGE))
+                .addMessageType(legacy)
+                .addEnumType(status())
+                .build();
+    }
+
+    /**
+     * Obtains the descriptor of the {@code Task} message.
+     */
+    public static Descriptor task() {
+        return build(taskFile(), Timestamp.getDescriptor().getFile())
+                .findMessageTypeByName("Task");
+    }
+
+    /**
+     * Obtains the descriptor of the {@code Legacy} message.
+     */
+    public static Descriptor legacy() {
+        return build(legacyFile()).findMessageTypeByName("Legacy");
+    }
+
+    /**
+     * Obtains the descriptor of the file declaring {@code Timestamp}, on which
+     * the {@linkplain #taskFile() task file} depends.
+     */
+    public static FileDescriptorProto timestampFile() {
+        return Timestamp.getDescriptor()
+                        .getFile()
+                        .toProto();
+    }
+
+    private static FileDescriptor build(FileDescriptorProto file,
+                                        FileDescriptor... dependencies) {
+        try {
+            return FileDescriptor.buildFrom(file, dependencies);
+        } catch (DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number, Type type) {
+        return FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(Label.LABEL_OPTIONAL);
+    }
+
+    private static EnumDescriptorProto status() {
+        return EnumDescriptorProto.newBuilder()
+                .setName("Status")
+                .addValue(EnumValueDescriptorProto.newBuilder()
+                                  .setName("S_UNKNOWN")
+                                  .setNumber(0))
+                .addValue(EnumValueDescriptorProto.newBuilder()
+                                  .setName("OPEN")
+                                  .setNumber(1))
+                .build();
+    }
+}
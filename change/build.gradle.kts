@@ -44,3 +44,33 @@ dependencies {
     implementation(Validation.runtime)
     testImplementation(Time.testLib)
 }
+
+/**
+ * The tests of the metrics reported by the library.
+ *
+ * `ChangeMetrics` are loaded once per JVM, so these tests run separately with
+ * `InMemoryChangeMetrics` listed in their `META-INF/services`. The other tests run
+ * without any metrics.
+ */
+val metricsTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[metricsTest.implementationConfigurationName]
+    .extendsFrom(configurations.testImplementation.get())
+configurations[metricsTest.runtimeOnlyConfigurationName]
+    .extendsFrom(configurations.testRuntimeOnly.get())
+
+val metricsTestTask = tasks.register<Test>("metricsTest") {
+    description = "Executes the tests of the metrics reported by the library."
+    group = "Verification"
+    testClassesDirs = metricsTest.output.classesDirs
+    classpath = metricsTest.runtimeClasspath
+    useJUnitPlatform()
+    shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+    dependsOn(metricsTestTask)
+}
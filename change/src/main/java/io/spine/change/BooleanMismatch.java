@@ -26,12 +26,7 @@
 
 package io.spine.change;
 
-import com.google.protobuf.Any;
-import com.google.protobuf.BoolValue;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.protobuf.AnyPacker.unpack;
-import static io.spine.protobuf.TypeConverter.toAny;
 
 /**
  * Utility class for working with {@code boolean} values in {@link ValueMismatch}es.
@@ -75,17 +70,25 @@ public final class BooleanMismatch {
                                     boolean actual,
                                     boolean newValue,
                                     int version) {
-        var builder = ValueMismatch.newBuilder()
-                .setExpected(toAny(expected))
-                .setActual(toAny(actual))
-                .setNewValue(toAny(newValue))
-                .setVersion(version);
-        return builder.build();
+        var start = Metrics.start();
+        var result = create(expected, actual, newValue, version);
+        Metrics.mismatchCreated(result, start);
+        return result;
     }
 
-    private static boolean unpacked(Any any) {
-        var unpacked = unpack(any, BoolValue.class);
-        return unpacked.getValue();
+    /**
+     * Creates a new instance of {@code ValueMismatch} with the passed values without
+     * reporting it to {@link ChangeMetrics}.
+     *
+     * <p>Used for the mismatches discovered by the library itself.
+     */
+    static ValueMismatch create(boolean expected, boolean actual, boolean newValue, int version) {
+        return ValueMismatch.newBuilder()
+                .setTypedExpected(MismatchValues.of(expected))
+                .setTypedActual(MismatchValues.of(actual))
+                .setTypedNewValue(MismatchValues.of(newValue))
+                .setVersion(version)
+                .build();
     }
 
     /**
@@ -95,8 +98,7 @@ public final class BooleanMismatch {
      */
     public static boolean unpackExpected(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var expected = mismatch.getExpected();
-        return unpacked(expected);
+        return MismatchValues.unpackBoolean(mismatch.getTypedExpected(), mismatch.getExpected());
     }
 
     /**
@@ -106,8 +108,7 @@ public final class BooleanMismatch {
      */
     public static boolean unpackActual(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var actual = mismatch.getActual();
-        return unpacked(actual);
+        return MismatchValues.unpackBoolean(mismatch.getTypedActual(), mismatch.getActual());
     }
 
     /**
@@ -117,7 +118,6 @@ public final class BooleanMismatch {
      */
     public static boolean unpackNewValue(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var newValue = mismatch.getNewValue();
-        return unpacked(newValue);
+        return MismatchValues.unpackBoolean(mismatch.getTypedNewValue(), mismatch.getNewValue());
     }
 }
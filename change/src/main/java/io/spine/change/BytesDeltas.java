@@ -0,0 +1,296 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.change.ChangePreconditions.checkNotEqual;
+
+/**
+ * Utility class for working with {@link BytesDelta}s.
+ *
+ * <p>A delta is calculated in the way similar to {@code rsync}. The previous value is split
+ * into blocks, which are indexed by their hashes. Then a window of the block size slides over
+ * the new value. Its hash is updated in constant time on each step and looked up in the index.
+ * Once a block of the previous value is found, the match is extended in both directions and
+ * is recorded as a copy of the range of the previous value. The bytes not found in the previous
+ * value are recorded as they are.
+ *
+ * <p>The values are read via {@link ByteString#byteAt(int)}, and the parts of the new value
+ * are stored as {@linkplain ByteString#substring(int, int) substrings}, so that no intermediate
+ * copies of the values are made. Applying a delta concatenates the substrings of the previous
+ * value and the stored bytes without copying them, too.
+ */
+public final class BytesDeltas {
+
+    /**
+     * The smallest size of a block of the previous value which can be copied.
+     */
+    private static final int MIN_BLOCK_SIZE = 16;
+
+    /**
+     * The largest size of a block of the previous value.
+     */
+    private static final int MAX_BLOCK_SIZE = 4096;
+
+    /**
+     * The multiplier of the polynomial rolling hash.
+     */
+    private static final int MULTIPLIER = 0x01000193;
+
+    /** Prevent instantiation of this utility class. */
+    private BytesDeltas() {
+    }
+
+    /**
+     * Creates {@link BytesDelta} which turns the previous field value into the new one.
+     *
+     * <p>Passed values cannot be equal.
+     */
+    public static BytesDelta of(ByteString previousValue, ByteString newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkNotEqual(previousValue, newValue);
+
+        var encoder = new Encoder(previousValue, newValue);
+        return encoder.encode();
+    }
+
+    /**
+     * Obtains the new value of the field by applying the delta to the previous value.
+     *
+     * @throws IllegalArgumentException
+     *         if the delta was created for another previous value
+     */
+    public static ByteString apply(BytesDelta delta, ByteString previousValue) {
+        checkNotNull(delta);
+        checkNotNull(previousValue);
+        var size = previousValue.size();
+        checkArgument(size == delta.getPreviousSize(),
+                      "The delta expects the previous value of %s bytes, but got %s.",
+                      delta.getPreviousSize(), size);
+        var parts = new ArrayList<ByteString>(delta.getInstructionCount());
+        for (var instruction : delta.getInstructionList()) {
+            if (instruction.hasCopy()) {
+                var range = instruction.getCopy();
+                var offset = range.getOffset();
+                var end = offset + range.getLength();
+                checkArgument(offset >= 0 && end <= size,
+                              "The range at %s does not fit the previous value.", offset);
+                parts.add(previousValue.substring(offset, end));
+            } else {
+                parts.add(instruction.getInsert());
+            }
+        }
+        return ByteString.copyFrom(parts);
+    }
+
+    /**
+     * Creates {@link BytesChange} from the delta and the value it was created for.
+     *
+     * @throws IllegalArgumentException
+     *         if the delta was created for another previous value
+     */
+    public static BytesChange toChange(BytesDelta delta, ByteString previousValue) {
+        var newValue = apply(delta, previousValue);
+        return Changes.of(previousValue, newValue);
+    }
+
+    private static int blockSize(int previousSize) {
+        var sqrt = (int) Math.sqrt(previousSize);
+        return Math.max(MIN_BLOCK_SIZE, Math.min(MAX_BLOCK_SIZE, sqrt));
+    }
+
+    /**
+     * Calculates the hash of the range of the passed bytes.
+     */
+    private static int hash(ByteString bytes, int offset, int length) {
+        var result = 0;
+        for (var i = offset; i < offset + length; i++) {
+            result = result * MULTIPLIER + bytes.byteAt(i);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates a delta of two values.
+     */
+    private static final class Encoder {
+
+        private final ByteString previousValue;
+        private final ByteString newValue;
+        private final int blockSize;
+
+        /**
+         * The multiplier of the byte leaving the window of the rolling hash.
+         */
+        private final int outgoingMultiplier;
+
+        private final BytesDelta.Builder delta;
+
+        /**
+         * The start of the bytes of the new value not yet written to the delta.
+         */
+        private int pendingStart;
+
+        private int copyOffset;
+        private int copyLength;
+
+        private Encoder(ByteString previousValue, ByteString newValue) {
+            this.previousValue = previousValue;
+            this.newValue = newValue;
+            this.blockSize = blockSize(previousValue.size());
+            var multiplier = 1;
+            for (var i = 1; i < blockSize; i++) {
+                multiplier *= MULTIPLIER;
+            }
+            this.outgoingMultiplier = multiplier;
+            this.delta = BytesDelta.newBuilder()
+                    .setPreviousSize(previousValue.size());
+        }
+
+        private BytesDelta encode() {
+            var newSize = newValue.size();
+            if (previousValue.size() >= blockSize && newSize >= blockSize) {
+                findCopies(indexBlocks());
+            }
+            insertPending(newSize);
+            flushCopy();
+            return delta.build();
+        }
+
+        /**
+         * Maps hashes of the blocks of the previous value to their offsets.
+         */
+        private Map<Integer, Integer> indexBlocks() {
+            var previousSize = previousValue.size();
+            var result = new HashMap<Integer, Integer>(previousSize / blockSize * 2);
+            for (var offset = 0; offset + blockSize <= previousSize; offset += blockSize) {
+                result.putIfAbsent(hash(previousValue, offset, blockSize), offset);
+            }
+            return result;
+        }
+
+        private void findCopies(Map<Integer, Integer> blocks) {
+            var newSize = newValue.size();
+            var position = 0;
+            var hash = hash(newValue, 0, blockSize);
+            while (position + blockSize <= newSize) {
+                var candidate = blocks.get(hash);
+                if (candidate != null && sameBlock(candidate, position)) {
+                    position = copy(candidate, position);
+                    if (position + blockSize <= newSize) {
+                        hash = hash(newValue, position, blockSize);
+                    }
+                } else {
+                    if (position + blockSize < newSize) {
+                        var outgoing = newValue.byteAt(position);
+                        var incoming = newValue.byteAt(position + blockSize);
+                        hash = (hash - outgoing * outgoingMultiplier) * MULTIPLIER + incoming;
+                    }
+                    position++;
+                }
+            }
+        }
+
+        private boolean sameBlock(int previousOffset, int newOffset) {
+            for (var i = 0; i < blockSize; i++) {
+                if (previousValue.byteAt(previousOffset + i) != newValue.byteAt(newOffset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Extends the match of the blocks in both directions and records it as a copy.
+         *
+         * @return the position in the new value after the copied range
+         */
+        private int copy(int previousOffset, int newOffset) {
+            var previousStart = previousOffset;
+            var newStart = newOffset;
+            var length = blockSize;
+            var previousSize = previousValue.size();
+            var newSize = newValue.size();
+            while (previousStart + length < previousSize
+                    && newStart + length < newSize
+                    && previousValue.byteAt(previousStart + length)
+                        == newValue.byteAt(newStart + length)) {
+                length++;
+            }
+            while (previousStart > 0
+                    && newStart > pendingStart
+                    && previousValue.byteAt(previousStart - 1)
+                        == newValue.byteAt(newStart - 1)) {
+                previousStart--;
+                newStart--;
+                length++;
+            }
+            insertPending(newStart);
+            if (copyLength > 0 && copyOffset + copyLength == previousStart) {
+                copyLength += length;
+            } else {
+                flushCopy();
+                copyOffset = previousStart;
+                copyLength = length;
+            }
+            pendingStart = newStart + length;
+            return pendingStart;
+        }
+
+        /**
+         * Records the bytes of the new value from the pending start to the given index
+         * as an insertion.
+         */
+        private void insertPending(int end) {
+            if (end > pendingStart) {
+                flushCopy();
+                delta.addInstruction(BytesInstruction.newBuilder()
+                                             .setInsert(newValue.substring(pendingStart, end)));
+                pendingStart = end;
+            }
+        }
+
+        private void flushCopy() {
+            if (copyLength > 0) {
+                var range = BytesRange.newBuilder()
+                        .setOffset(copyOffset)
+                        .setLength(copyLength);
+                delta.addInstruction(BytesInstruction.newBuilder()
+                                             .setCopy(range));
+                copyLength = 0;
+            }
+        }
+    }
+}
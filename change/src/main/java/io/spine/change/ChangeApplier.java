@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Descriptors.FieldDescriptor.Type;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import io.spine.base.FieldPath;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Applies changes to message builders.
+ *
+ * <p>A change is applied only if the current value of the field is equal to
+ * the previous value of the change. Otherwise, the field is left intact and
+ * the conflict is reported as a {@link ValueMismatch}.
+ *
+ * <p>Any of the {@code Change} messages declared in {@code spine/change/change.proto}
+ * can be applied to a field of the corresponding type. An {@link Int32Change} can
+ * also be applied to an enum field, in which case it holds the numbers of
+ * the enum values, as {@link MessageDiff} reports them. A {@link BooleanChange} can
+ * also be applied to a message field, in which case it tells if the field is set.
+ *
+ * <p>The numeric deltas declared in {@code spine/change/numeric_delta.proto} are added to
+ * the current values of the fields, and never cause a mismatch.
+ *
+ * <p>The field paths are resolved once per message type and then reused, so that
+ * applying many changes to the messages of the same type does not look up
+ * the descriptors again.
+ */
+public final class ChangeApplier {
+
+    private static final ConcurrentMap<Descriptor,
+                                       ConcurrentMap<FieldPath, ImmutableList<FieldDescriptor>>>
+            paths = new ConcurrentHashMap<>();
+
+    /** Prevent instantiation of this utility class. */
+    private ChangeApplier() {
+    }
+
+    /**
+     * Applies the change to the field of the passed builder.
+     *
+     * @param builder
+     *         the builder of the message to change
+     * @param path
+     *         the path to the changed field
+     * @param change
+     *         the change of the field value
+     * @param version
+     *         the version of the entity to report in case of a mismatch
+     * @return empty {@code Optional} if the change is applied, or the mismatch between
+     *         the previous value of the change and the current value of the field
+     * @throws IllegalArgumentException
+     *         if the path does not denote a singular field of the message type,
+     *         or the change cannot be applied to a field of such a type
+     */
+    public static Optional<ValueMismatch> apply(Message.Builder builder,
+                                                FieldPath path,
+                                                Message change,
+                                                int version) {
+        checkNotNull(builder);
+        checkNotNull(path);
+        checkNotNull(change);
+        var fields = fieldsOf(builder.getDescriptorForType(), path);
+        var field = fields.get(fields.size() - 1);
+        if (NumericDeltas.isDelta(change)) {
+            addDelta(builder, fields, change);
+            return Optional.empty();
+        }
+        var kind = ChangeKind.of(change);
+        if (kind == ChangeKind.BOOL && field.getJavaType() == JavaType.MESSAGE) {
+            return applyPresence(builder, fields, (BooleanChange) change, version);
+        }
+        checkArgument(kind.accepts(field),
+                      "A `%s` cannot be applied to the field `%s`.",
+                      change.getDescriptorForType().getName(), field.getFullName());
+        var expected = kind.previousValue(change);
+        var newValue = kind.newValue(change);
+        var actual = ChangeKind.valueOf(field, parentOf(builder, fields).getField(field));
+        if (!expected.equals(actual)) {
+            var mismatch = kind.mismatch(expected, actual, newValue, version);
+            return Optional.of(mismatch);
+        }
+        parentBuilderOf(builder, fields).setField(field, fieldValue(field, newValue));
+        return Optional.empty();
+    }
+
+    /**
+     * Sets or clears the last message field of the path.
+     */
+    private static Optional<ValueMismatch> applyPresence(Message.Builder builder,
+                                                         ImmutableList<FieldDescriptor> fields,
+                                                         BooleanChange change,
+                                                         int version) {
+        var field = fields.get(fields.size() - 1);
+        var expected = change.getPreviousValue();
+        var actual = parentOf(builder, fields).hasField(field);
+        if (expected != actual) {
+            var mismatch = ChangeKind.BOOL.mismatch(expected, actual, change.getNewValue(),
+                                                    version);
+            return Optional.of(mismatch);
+        }
+        var parent = parentBuilderOf(builder, fields);
+        if (change.getNewValue()) {
+            parent.setField(field, parent.getField(field));
+        } else {
+            parent.clearField(field);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Adds the numeric delta to the last field of the path.
+     */
+    private static void addDelta(Message.Builder builder,
+                                 ImmutableList<FieldDescriptor> fields,
+                                 Message delta) {
+        var field = fields.get(fields.size() - 1);
+        checkArgument(NumericDeltas.accepts(delta, field),
+                      "A `%s` cannot be applied to the field `%s`.",
+                      delta.getDescriptorForType().getName(), field.getFullName());
+        var value = parentOf(builder, fields).getField(field);
+        checkArgument(NumericDeltas.appliesTo(delta, value),
+                      "A `%s` cannot be applied to the field `%s`, which holds `%s`"
+                              + " rather than a decimal number.",
+                      delta.getDescriptorForType().getName(), field.getFullName(), value);
+        parentBuilderOf(builder, fields).setField(field, NumericDeltas.applyTo(delta, value));
+    }
+
+    /**
+     * Applies the changes to the fields of the passed builder.
+     *
+     * <p>The changes are applied in the iteration order of the passed map. The changes
+     * which conflict with the current values of the fields are skipped.
+     *
+     * @param builder
+     *         the builder of the message to change
+     * @param changes
+     *         the changes keyed by the paths of the fields, e.g. as obtained
+     *         from {@link MessageDiff#of}
+     * @param version
+     *         the version of the entity to report in case of mismatches
+     * @return the mismatches for the skipped changes, or empty list if all changes
+     *         are applied
+     * @see #apply(Message.Builder, FieldPath, Message, int)
+     */
+    public static ImmutableList<ValueMismatch>
+    applyAll(Message.Builder builder, Map<FieldPath, ? extends Message> changes, int version) {
+        checkNotNull(builder);
+        checkNotNull(changes);
+        var result = ImmutableList.<ValueMismatch>builder();
+        for (var entry : changes.entrySet()) {
+            apply(builder, entry.getKey(), entry.getValue(), version)
+                    .ifPresent(result::add);
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the message which holds the last field of the path.
+     */
+    private static MessageOrBuilder parentOf(Message.Builder builder,
+                                             ImmutableList<FieldDescriptor> fields) {
+        MessageOrBuilder result = builder;
+        for (int i = 0, last = fields.size() - 1; i < last; i++) {
+            result = (MessageOrBuilder) result.getField(fields.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the builder of the message which holds the last field of the path.
+     */
+    private static Message.Builder parentBuilderOf(Message.Builder builder,
+                                                   ImmutableList<FieldDescriptor> fields) {
+        var result = builder;
+        for (int i = 0, last = fields.size() - 1; i < last; i++) {
+            result = result.getFieldBuilder(fields.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Converts the value stored in a change to the value accepted by
+     * {@link Message.Builder#setField}.
+     */
+    private static Object fieldValue(FieldDescriptor field, Object value) {
+        if (field.getType() == Type.ENUM) {
+            var number = (int) value;
+            var result = field.getEnumType()
+                              .findValueByNumber(number);
+            checkArgument(result != null,
+                          "The enum `%s` has no value with the number %s.",
+                          field.getEnumType().getFullName(), number);
+            return result;
+        }
+        return value;
+    }
+
+    private static ImmutableList<FieldDescriptor> fieldsOf(Descriptor type, FieldPath path) {
+        var byPath = paths.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        var result = byPath.get(path);
+        if (result == null) {
+            result = resolve(type, path);
+            byPath.put(path, result);
+        }
+        return result;
+    }
+
+    private static ImmutableList<FieldDescriptor> resolve(Descriptor type, FieldPath path) {
+        var names = path.getFieldNameList();
+        checkArgument(!names.isEmpty(), "The field path must not be empty.");
+        var result = ImmutableList.<FieldDescriptor>builder();
+        var current = type;
+        for (int i = 0, last = names.size() - 1; i <= last; i++) {
+            var name = names.get(i);
+            var field = current.findFieldByName(name);
+            checkArgument(field != null,
+                          "The type `%s` has no field `%s`.", current.getFullName(), name);
+            checkArgument(!field.isRepeated(),
+                          "The field `%s` is repeated.", field.getFullName());
+            if (i < last) {
+                checkArgument(field.getJavaType() == FieldDescriptor.JavaType.MESSAGE,
+                              "The field `%s` is not a message.", field.getFullName());
+                current = field.getMessageType();
+            }
+            result.add(field);
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+
+import static io.spine.change.ChangePreconditions.checkNotEqual;
+
+/**
+ * Utility class for creating changes of many numeric fields at once.
+ *
+ * <p>The previous and the new values are passed as two arrays of the same length,
+ * in which the elements at the same index define a change of one field. The elements
+ * at the same index cannot be equal.
+ *
+ * <p>The arrays are validated in a single pass before any change is created.
+ * The changes can be obtained either as a list of the individual change messages,
+ * or as a list message, which stores the values in packed repeated fields.
+ *
+ * <p>Each created change, or a list message as a whole, is reported to
+ * the {@link ChangeMetrics}, as the changes created by {@link Changes} are.
+ */
+@SuppressWarnings("OverloadedMethodsWithSameNumberOfParameters")
+public final class ChangeBatch {
+
+    /** Prevent instantiation of this utility class. */
+    private ChangeBatch() {
+    }
+
+    /**
+     * Creates {@link Int32Change}s for the passed previous and new field values.
+     */
+    public static ImmutableList<Int32Change> ofInt32(int[] previousValue, int[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var result = ImmutableList.<Int32Change>builderWithExpectedSize(previousValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            var start = Metrics.start();
+            var change = Int32Change.newBuilder()
+                    .setPreviousValue(previousValue[i])
+                    .setNewValue(newValue[i])
+                    .build();
+            Metrics.changeCreated(change, start);
+            result.add(change);
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates {@link Int64Change}s for the passed previous and new field values.
+     */
+    public static ImmutableList<Int64Change> ofInt64(long[] previousValue, long[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var result = ImmutableList.<Int64Change>builderWithExpectedSize(previousValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            var start = Metrics.start();
+            var change = Int64Change.newBuilder()
+                    .setPreviousValue(previousValue[i])
+                    .setNewValue(newValue[i])
+                    .build();
+            Metrics.changeCreated(change, start);
+            result.add(change);
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates {@link FloatChange}s for the passed previous and new field values.
+     */
+    public static ImmutableList<FloatChange> of(float[] previousValue, float[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var result = ImmutableList.<FloatChange>builderWithExpectedSize(previousValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            var start = Metrics.start();
+            var change = FloatChange.newBuilder()
+                    .setPreviousValue(previousValue[i])
+                    .setNewValue(newValue[i])
+                    .build();
+            Metrics.changeCreated(change, start);
+            result.add(change);
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates {@link DoubleChange}s for the passed previous and new field values.
+     */
+    public static ImmutableList<DoubleChange> of(double[] previousValue, double[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var result = ImmutableList.<DoubleChange>builderWithExpectedSize(previousValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            var start = Metrics.start();
+            var change = DoubleChange.newBuilder()
+                    .setPreviousValue(previousValue[i])
+                    .setNewValue(newValue[i])
+                    .build();
+            Metrics.changeCreated(change, start);
+            result.add(change);
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates {@link Int32ChangeList} for the passed previous and new field values.
+     */
+    public static Int32ChangeList packInt32(int[] previousValue, int[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var start = Metrics.start();
+        var result = Int32ChangeList.newBuilder();
+        for (var i = 0; i < previousValue.length; i++) {
+            result.addPreviousValue(previousValue[i])
+                  .addNewValue(newValue[i]);
+        }
+        var list = result.build();
+        Metrics.changeCreated(list, start);
+        return list;
+    }
+
+    /**
+     * Creates {@link Int64ChangeList} for the passed previous and new field values.
+     */
+    public static Int64ChangeList packInt64(long[] previousValue, long[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var start = Metrics.start();
+        var result = Int64ChangeList.newBuilder();
+        for (var i = 0; i < previousValue.length; i++) {
+            result.addPreviousValue(previousValue[i])
+                  .addNewValue(newValue[i]);
+        }
+        var list = result.build();
+        Metrics.changeCreated(list, start);
+        return list;
+    }
+
+    /**
+     * Creates {@link FloatChangeList} for the passed previous and new field values.
+     */
+    public static FloatChangeList pack(float[] previousValue, float[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var start = Metrics.start();
+        var result = FloatChangeList.newBuilder();
+        for (var i = 0; i < previousValue.length; i++) {
+            result.addPreviousValue(previousValue[i])
+                  .addNewValue(newValue[i]);
+        }
+        var list = result.build();
+        Metrics.changeCreated(list, start);
+        return list;
+    }
+
+    /**
+     * Creates {@link DoubleChangeList} for the passed previous and new field values.
+     */
+    public static DoubleChangeList pack(double[] previousValue, double[] newValue) {
+        checkNotEqual(previousValue, newValue);
+        var start = Metrics.start();
+        var result = DoubleChangeList.newBuilder();
+        for (var i = 0; i < previousValue.length; i++) {
+            result.addPreviousValue(previousValue[i])
+                  .addNewValue(newValue[i]);
+        }
+        var list = result.build();
+        Metrics.changeCreated(list, start);
+        return list;
+    }
+}
@@ -0,0 +1,607 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.Type;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The kinds of the {@code Change} messages declared in {@code spine/change/change.proto}.
+ *
+ * <p>Provides uniform access to the values of the changes of different types.
+ * The values are of the types returned by {@link Message#getField}.
+ */
+@SuppressWarnings("OverlyComplexClass" /* One constant per the change type. */)
+enum ChangeKind {
+
+    STRING(StringChange.getDescriptor(), ChangeKind::stringMismatch, Type.STRING) {
+        @Override
+        Object previousValue(Message change) {
+            return ((StringChange) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((StringChange) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return StringChange.newBuilder()
+                    .setPreviousValue((String) previousValue)
+                    .setNewValue((String) newValue)
+                    .build();
+        }
+    },
+    BYTES(BytesChange.getDescriptor(), ChangeKind::bytesMismatch, Type.BYTES) {
+        @Override
+        Object previousValue(Message change) {
+            return ((BytesChange) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((BytesChange) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return BytesChange.newBuilder()
+                    .setPreviousValue((ByteString) previousValue)
+                    .setNewValue((ByteString) newValue)
+                    .build();
+        }
+    },
+    BOOL(BooleanChange.getDescriptor(), ChangeKind::booleanMismatch, Type.BOOL) {
+        @Override
+        Object previousValue(Message change) {
+            return ((BooleanChange) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((BooleanChange) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return BooleanChange.newBuilder()
+                    .setPreviousValue((Boolean) previousValue)
+                    .setNewValue((Boolean) newValue)
+                    .build();
+        }
+    },
+    DOUBLE(DoubleChange.getDescriptor(), ChangeKind::doubleMismatch, Type.DOUBLE) {
+        @Override
+        Object previousValue(Message change) {
+            return ((DoubleChange) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((DoubleChange) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return DoubleChange.newBuilder()
+                    .setPreviousValue((Double) previousValue)
+                    .setNewValue((Double) newValue)
+                    .build();
+        }
+    },
+    FLOAT(FloatChange.getDescriptor(), ChangeKind::floatMismatch, Type.FLOAT) {
+        @Override
+        Object previousValue(Message change) {
+            return ((FloatChange) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((FloatChange) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return FloatChange.newBuilder()
+                    .setPreviousValue((Float) previousValue)
+                    .setNewValue((Float) newValue)
+                    .build();
+        }
+    },
+    INT32(Int32Change.getDescriptor(), ChangeKind::intMismatch, Type.INT32, Type.ENUM) {
+        @Override
+        Object previousValue(Message change) {
+            return ((Int32Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((Int32Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return Int32Change.newBuilder()
+                    .setPreviousValue((Integer) previousValue)
+                    .setNewValue((Integer) newValue)
+                    .build();
+        }
+    },
+    INT64(Int64Change.getDescriptor(), ChangeKind::longMismatch, Type.INT64) {
+        @Override
+        Object previousValue(Message change) {
+            return ((Int64Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((Int64Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return Int64Change.newBuilder()
+                    .setPreviousValue((Long) previousValue)
+                    .setNewValue((Long) newValue)
+                    .build();
+        }
+    },
+    UINT32(UInt32Change.getDescriptor(), ChangeKind::intMismatch, Type.UINT32) {
+        @Override
+        Object previousValue(Message change) {
+            return ((UInt32Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((UInt32Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return UInt32Change.newBuilder()
+                    .setPreviousValue((Integer) previousValue)
+                    .setNewValue((Integer) newValue)
+                    .build();
+        }
+    },
+    UINT64(UInt64Change.getDescriptor(), ChangeKind::longMismatch, Type.UINT64) {
+        @Override
+        Object previousValue(Message change) {
+            return ((UInt64Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((UInt64Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return UInt64Change.newBuilder()
+                    .setPreviousValue((Long) previousValue)
+                    .setNewValue((Long) newValue)
+                    .build();
+        }
+    },
+    SINT32(SInt32Change.getDescriptor(), ChangeKind::intMismatch, Type.SINT32) {
+        @Override
+        Object previousValue(Message change) {
+            return ((SInt32Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((SInt32Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return SInt32Change.newBuilder()
+                    .setPreviousValue((Integer) previousValue)
+                    .setNewValue((Integer) newValue)
+                    .build();
+        }
+    },
+    SINT64(SInt64Change.getDescriptor(), ChangeKind::longMismatch, Type.SINT64) {
+        @Override
+        Object previousValue(Message change) {
+            return ((SInt64Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((SInt64Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return SInt64Change.newBuilder()
+                    .setPreviousValue((Long) previousValue)
+                    .setNewValue((Long) newValue)
+                    .build();
+        }
+    },
+    FIXED32(Fixed32Change.getDescriptor(), ChangeKind::intMismatch, Type.FIXED32) {
+        @Override
+        Object previousValue(Message change) {
+            return ((Fixed32Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((Fixed32Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return Fixed32Change.newBuilder()
+                    .setPreviousValue((Integer) previousValue)
+                    .setNewValue((Integer) newValue)
+                    .build();
+        }
+    },
+    FIXED64(Fixed64Change.getDescriptor(), ChangeKind::longMismatch, Type.FIXED64) {
+        @Override
+        Object previousValue(Message change) {
+            return ((Fixed64Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((Fixed64Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return Fixed64Change.newBuilder()
+                    .setPreviousValue((Long) previousValue)
+                    .setNewValue((Long) newValue)
+                    .build();
+        }
+    },
+    SFIXED32(Sfixed32Change.getDescriptor(), ChangeKind::intMismatch, Type.SFIXED32) {
+        @Override
+        Object previousValue(Message change) {
+            return ((Sfixed32Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((Sfixed32Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return Sfixed32Change.newBuilder()
+                    .setPreviousValue((Integer) previousValue)
+                    .setNewValue((Integer) newValue)
+                    .build();
+        }
+    },
+    SFIXED64(Sfixed64Change.getDescriptor(), ChangeKind::longMismatch, Type.SFIXED64) {
+        @Override
+        Object previousValue(Message change) {
+            return ((Sfixed64Change) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((Sfixed64Change) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return Sfixed64Change.newBuilder()
+                    .setPreviousValue((Long) previousValue)
+                    .setNewValue((Long) newValue)
+                    .build();
+        }
+    },
+    TIMESTAMP(TimestampChange.getDescriptor(), ChangeKind::messageMismatch, Type.MESSAGE) {
+        @Override
+        Object previousValue(Message change) {
+            return ((TimestampChange) change).getPreviousValue();
+        }
+
+        @Override
+        Object newValue(Message change) {
+            return ((TimestampChange) change).getNewValue();
+        }
+
+        @Override
+        Message create(Object previousValue, Object newValue) {
+            return TimestampChange.newBuilder()
+                    .setPreviousValue((Timestamp) previousValue)
+                    .setNewValue((Timestamp) newValue)
+                    .build();
+        }
+
+        @Override
+        boolean accepts(FieldDescriptor field) {
+            return super.accepts(field)
+                    && field.getMessageType().equals(Timestamp.getDescriptor());
+        }
+    };
+
+    private static final ImmutableMap<Descriptor, ChangeKind> kinds = byChangeType();
+    private static final long MAX_UNSIGNED_INT = 0xFFFF_FFFFL;
+
+    private final Descriptor changeType;
+    private final MismatchFactory mismatch;
+    private final ImmutableSet<Type> fieldTypes;
+
+    ChangeKind(Descriptor changeType, MismatchFactory mismatch, Type... fieldTypes) {
+        this.changeType = changeType;
+        this.mismatch = mismatch;
+        this.fieldTypes = ImmutableSet.copyOf(fieldTypes);
+    }
+
+    /**
+     * Obtains the kind of the passed change, or {@code null} if the message
+     * is not a change.
+     */
+    static @Nullable ChangeKind find(Message change) {
+        return kinds.get(change.getDescriptorForType());
+    }
+
+    /**
+     * Obtains the kind of the passed change.
+     *
+     * @throws IllegalArgumentException
+     *         if the message is not a change
+     */
+    static ChangeKind of(Message change) {
+        var result = find(change);
+        checkArgument(result != null,
+                      "Unsupported change type: `%s`.",
+                      change.getDescriptorForType().getFullName());
+        return result;
+    }
+
+    /**
+     * Obtains the kind of the changes of the passed field, or {@code null} if the field
+     * is repeated or of a type which has no change.
+     */
+    static @Nullable ChangeKind forField(FieldDescriptor field) {
+        if (field.isRepeated()) {
+            return null;
+        }
+        for (var kind : values()) {
+            if (kind.accepts(field)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts the value obtained via {@link Message#getField} to the value stored
+     * in a change.
+     *
+     * <p>An enum value is converted to its number. Other values are returned as is.
+     */
+    static Object valueOf(FieldDescriptor field, Object value) {
+        if (field.getType() == Type.ENUM) {
+            return ((EnumValueDescriptor) value).getNumber();
+        }
+        return value;
+    }
+
+    /**
+     * Obtains the previous value of the passed change.
+     */
+    abstract Object previousValue(Message change);
+
+    /**
+     * Obtains the new value of the passed change.
+     */
+    abstract Object newValue(Message change);
+
+    /**
+     * Creates a change of this kind with the passed values.
+     *
+     * <p>Unlike {@link Changes}, does not check the values, so that the library can derive
+     * changes which the public factories reject, such as clearing a {@code string} field.
+     * The callers pass the values which differ.
+     */
+    abstract Message create(Object previousValue, Object newValue);
+
+    /**
+     * Tells if the later change of this kind starts from the new value of the earlier one.
+     */
+    boolean continues(Message earlier, Message later) {
+        return newValue(earlier).equals(previousValue(later));
+    }
+
+    /**
+     * Tells if the passed numeric delta can be added to the new value of a change of this kind.
+     */
+    boolean shiftedBy(Message delta) {
+        return fieldTypes.stream()
+                         .anyMatch(type -> NumericDeltas.accepts(delta, type));
+    }
+
+    /**
+     * Tells if a change of this kind can be applied to the passed field.
+     */
+    boolean accepts(FieldDescriptor field) {
+        return fieldTypes.contains(field.getType());
+    }
+
+    /**
+     * Adds the difference between the new and the previous value of a change to
+     * the passed value.
+     *
+     * <p>The integer values are added up in the same way as {@link NumericDeltas} adds
+     * an {@link Int64Delta}, failing instead of wrapping around on overflow. The values of
+     * unsigned types are added up as unsigned.
+     *
+     * @return the shifted value, or {@code null} if the values of this kind are not numbers
+     * @throws ArithmeticException
+     *         if the shifted value overflows the type of the field
+     */
+    @Nullable Object shift(Object value, Object previousValue, Object newValue) {
+        if (value instanceof Integer) {
+            return unsigned()
+                   ? shiftUnsigned((int) value, (int) previousValue, (int) newValue)
+                   : Math.addExact((int) value,
+                                   Math.subtractExact((int) newValue, (int) previousValue));
+        }
+        if (value instanceof Long) {
+            return unsigned()
+                   ? shiftUnsigned((long) value, (long) previousValue, (long) newValue)
+                   : Math.addExact((long) value,
+                                   Math.subtractExact((long) newValue, (long) previousValue));
+        }
+        if (value instanceof Float) {
+            return (float) value + ((float) newValue - (float) previousValue);
+        }
+        if (value instanceof Double) {
+            return (double) value + ((double) newValue - (double) previousValue);
+        }
+        return null;
+    }
+
+    private boolean unsigned() {
+        return this == UINT32 || this == FIXED32 || this == UINT64 || this == FIXED64;
+    }
+
+    private static int shiftUnsigned(int value, int previousValue, int newValue) {
+        var result = Integer.toUnsignedLong(value)
+                + Integer.toUnsignedLong(newValue)
+                - Integer.toUnsignedLong(previousValue);
+        if (result < 0 || result > MAX_UNSIGNED_INT) {
+            throw new ArithmeticException("The unsigned `int` overflows.");
+        }
+        return (int) result;
+    }
+
+    private static long shiftUnsigned(long value, long previousValue, long newValue) {
+        if (Long.compareUnsigned(newValue, previousValue) >= 0) {
+            var result = value + (newValue - previousValue);
+            if (Long.compareUnsigned(result, value) < 0) {
+                throw new ArithmeticException("The unsigned `long` overflows.");
+            }
+            return result;
+        }
+        var result = value - (previousValue - newValue);
+        if (Long.compareUnsigned(result, value) > 0) {
+            throw new ArithmeticException("The unsigned `long` overflows.");
+        }
+        return result;
+    }
+
+    /**
+     * Creates a mismatch of the values of a field of this kind.
+     *
+     * <p>Unlike the {@code *Mismatch} utility classes, does not check the values and does not
+     * report the mismatch to {@link ChangeMetrics}.
+     */
+    ValueMismatch mismatch(Object expected, Object actual, Object newValue, int version) {
+        return mismatch.create(expected, actual, newValue, version);
+    }
+
+    private static ValueMismatch stringMismatch(Object expected, Object actual,
+                                                Object newValue, int version) {
+        return StringMismatch.create((String) expected, (String) actual,
+                                     (String) newValue, version);
+    }
+
+    private static ValueMismatch bytesMismatch(Object expected, Object actual,
+                                               Object newValue, int version) {
+        return MessageMismatch.create(BytesValue.of((ByteString) expected),
+                                      BytesValue.of((ByteString) actual),
+                                      BytesValue.of((ByteString) newValue),
+                                      version);
+    }
+
+    private static ValueMismatch messageMismatch(Object expected, Object actual,
+                                                 Object newValue, int version) {
+        return MessageMismatch.create((Message) expected, (Message) actual,
+                                      (Message) newValue, version);
+    }
+
+    private static ValueMismatch booleanMismatch(Object expected, Object actual,
+                                                 Object newValue, int version) {
+        return BooleanMismatch.create((boolean) expected, (boolean) actual,
+                                      (boolean) newValue, version);
+    }
+
+    private static ValueMismatch intMismatch(Object expected, Object actual,
+                                             Object newValue, int version) {
+        return IntMismatch.create((int) expected, (int) actual, (int) newValue, version);
+    }
+
+    private static ValueMismatch longMismatch(Object expected, Object actual,
+                                              Object newValue, int version) {
+        return LongMismatch.create((long) expected, (long) actual, (long) newValue, version);
+    }
+
+    private static ValueMismatch floatMismatch(Object expected, Object actual,
+                                               Object newValue, int version) {
+        return FloatMismatch.create((float) expected, (float) actual, (float) newValue, version);
+    }
+
+    private static ValueMismatch doubleMismatch(Object expected, Object actual,
+                                                Object newValue, int version) {
+        return DoubleMismatch.create((double) expected, (double) actual,
+                                     (double) newValue, version);
+    }
+
+    /**
+     * Creates a mismatch of the values of a field.
+     *
+     * <p>The values are of the types returned by {@link Message#getField}, except for
+     * enum values, which are passed as numbers.
+     */
+    @FunctionalInterface
+    private interface MismatchFactory {
+
+        ValueMismatch create(Object expected, Object actual, Object newValue, int version);
+    }
+
+    private static ImmutableMap<Descriptor, ChangeKind> byChangeType() {
+        var result = ImmutableMap.<Descriptor, ChangeKind>builder();
+        for (var kind : values()) {
+            result.put(kind.changeType, kind);
+        }
+        return result.build();
+    }
+}
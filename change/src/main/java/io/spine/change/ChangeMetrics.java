@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.Message;
+
+/**
+ * Receives the measurements of the creation of changes and mismatches.
+ *
+ * <p>{@link Changes}, {@link ChangeBatch}, and the {@code *Mismatch} utility classes report
+ * each created change and {@link ValueMismatch} along with the time it took to build it.
+ * Implementations may count them by type, or obtain their serialized size. The methods are
+ * called on the thread creating the message, so they should be fast and must be thread-safe.
+ *
+ * <p>Only the messages created by the public factories are reported. The changes and
+ * mismatches which the library creates itself, e.g. when computing a {@link MessageDiff},
+ * combining changes in a {@link ChangeSet}, or {@linkplain ChangeApplier applying} changes,
+ * are not.
+ *
+ * <p>Implementations are discovered via {@link java.util.ServiceLoader ServiceLoader}.
+ * In order to be used, an implementation must be listed in
+ * the {@code META-INF/services/io.spine.change.ChangeMetrics} resource and have a public
+ * no-argument constructor. If there are several implementations, the first found is used.
+ * If there are none, nothing is measured. The time is then not obtained, and the checks
+ * whether to report a message can be removed by the JIT compiler, as the implementation
+ * is loaded once and never replaced.
+ *
+ * @see InMemoryChangeMetrics
+ */
+public interface ChangeMetrics {
+
+    /**
+     * Obtains the metrics used by the library.
+     *
+     * @return the loaded implementation, or an implementation ignoring the measurements
+     *         if there is none
+     */
+    static ChangeMetrics installed() {
+        return Metrics.installed();
+    }
+
+    /**
+     * Receives a created change of a field.
+     *
+     * @param change
+     *         the created change, e.g. a {@code StringChange} or an {@code Int64Delta},
+     *         or a list of changes, such as an {@code Int32ChangeList}
+     * @param nanos
+     *         the time it took to build the change, in nanoseconds
+     */
+    void changeCreated(Message change, long nanos);
+
+    /**
+     * Receives a created mismatch of field values.
+     *
+     * @param mismatch
+     *         the created mismatch
+     * @param nanos
+     *         the time it took to build the mismatch, in nanoseconds
+     */
+    void mismatchCreated(ValueMismatch mismatch, long nanos);
+}
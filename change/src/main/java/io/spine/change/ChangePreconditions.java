@@ -30,6 +30,7 @@ import com.google.protobuf.ByteString;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
  * Checking of parameters for working with changes.
@@ -43,6 +44,12 @@ final class ChangePreconditions {
     private static final String VALUES_CANNOT_BE_EQUAL =
             "newValue cannot be equal to previousValue";
 
+    private static final String ELEMENTS_CANNOT_BE_EQUAL =
+            "newValue cannot be equal to previousValue, but they are equal at index %s";
+
+    private static final String LENGTHS_MUST_MATCH =
+            "previousValue and newValue must have the same length, but were %s and %s";
+
     private static final String ERR_CANNOT_BE_EQUAL =
             "`expected` and `actual` cannot be equal in ValueMismatch";
 
@@ -99,6 +106,83 @@ final class ChangePreconditions {
         checkArgument(!newValue.equals(previousValue), VALUES_CANNOT_BE_EQUAL);
     }
 
+    /**
+     * Ensures that the arrays are of the same length and their elements
+     * at the same indexes are not equal.
+     *
+     * @throws IllegalArgumentException in case if the lengths differ or some elements are equal
+     */
+    static void checkNotEqual(int[] previousValue, int[] newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkSameLength(previousValue.length, newValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            if (previousValue[i] == newValue[i]) {
+                throw newIllegalArgumentException(ELEMENTS_CANNOT_BE_EQUAL, i);
+            }
+        }
+    }
+
+    /**
+     * Ensures that the arrays are of the same length and their elements
+     * at the same indexes are not equal.
+     *
+     * @throws IllegalArgumentException in case if the lengths differ or some elements are equal
+     */
+    static void checkNotEqual(long[] previousValue, long[] newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkSameLength(previousValue.length, newValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            if (previousValue[i] == newValue[i]) {
+                throw newIllegalArgumentException(ELEMENTS_CANNOT_BE_EQUAL, i);
+            }
+        }
+    }
+
+    /**
+     * Ensures that the arrays are of the same length and their elements
+     * at the same indexes are not equal.
+     *
+     * <p>The elements are compared in the same way as {@link Float#compare} does.
+     *
+     * @throws IllegalArgumentException in case if the lengths differ or some elements are equal
+     */
+    static void checkNotEqual(float[] previousValue, float[] newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkSameLength(previousValue.length, newValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            if (Float.floatToIntBits(previousValue[i]) == Float.floatToIntBits(newValue[i])) {
+                throw newIllegalArgumentException(ELEMENTS_CANNOT_BE_EQUAL, i);
+            }
+        }
+    }
+
+    /**
+     * Ensures that the arrays are of the same length and their elements
+     * at the same indexes are not equal.
+     *
+     * <p>The elements are compared in the same way as {@link Double#compare} does.
+     *
+     * @throws IllegalArgumentException in case if the lengths differ or some elements are equal
+     */
+    static void checkNotEqual(double[] previousValue, double[] newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkSameLength(previousValue.length, newValue.length);
+        for (var i = 0; i < previousValue.length; i++) {
+            if (Double.doubleToLongBits(previousValue[i])
+                    == Double.doubleToLongBits(newValue[i])) {
+                throw newIllegalArgumentException(ELEMENTS_CANNOT_BE_EQUAL, i);
+            }
+        }
+    }
+
+    private static void checkSameLength(int previousLength, int newLength) {
+        checkArgument(previousLength == newLength, LENGTHS_MUST_MATCH, previousLength, newLength);
+    }
+
     /**
      * Ensures that parameter size is more than 0.
      *
@@ -119,9 +203,63 @@ final class ChangePreconditions {
         checkArgument(!newValue.isEmpty(), NEW_VALUE_CANNOT_BE_EMPTY);
     }
 
+    /**
+     * Ensures that the expected and actual values are not {@code null} and not equal.
+     *
+     * @throws NullPointerException in case if one of the values is {@code null}
+     * @throws IllegalArgumentException in case if values are equal
+     */
     static void checkNotNullOrEqual(Object expected, Object actual) {
         checkNotNull(expected);
         checkNotNull(actual);
         checkArgument(!expected.equals(actual), ERR_CANNOT_BE_EQUAL);
     }
+
+    /**
+     * Ensures that the expected and actual values of a mismatch are not equal.
+     *
+     * <p>Compares the values without boxing them.
+     *
+     * @throws IllegalArgumentException in case if values are equal
+     */
+    static void checkMismatch(int expected, int actual) {
+        checkArgument(expected != actual, ERR_CANNOT_BE_EQUAL);
+    }
+
+    /**
+     * Ensures that the expected and actual values of a mismatch are not equal.
+     *
+     * <p>Compares the values without boxing them.
+     *
+     * @throws IllegalArgumentException in case if values are equal
+     */
+    static void checkMismatch(long expected, long actual) {
+        checkArgument(expected != actual, ERR_CANNOT_BE_EQUAL);
+    }
+
+    /**
+     * Ensures that the expected and actual values of a mismatch are not equal.
+     *
+     * <p>Compares the values without boxing them, in the same way as {@link Float#equals}
+     * does, so that {@code NaN}s are equal and zeros of different signs are not.
+     *
+     * @throws IllegalArgumentException in case if values are equal
+     */
+    static void checkMismatch(float expected, float actual) {
+        checkArgument(Float.floatToIntBits(expected) != Float.floatToIntBits(actual),
+                      ERR_CANNOT_BE_EQUAL);
+    }
+
+    /**
+     * Ensures that the expected and actual values of a mismatch are not equal.
+     *
+     * <p>Compares the values without boxing them, in the same way as {@link Double#equals}
+     * does, so that {@code NaN}s are equal and zeros of different signs are not.
+     *
+     * @throws IllegalArgumentException in case if values are equal
+     */
+    static void checkMismatch(double expected, double actual) {
+        checkArgument(Double.doubleToLongBits(expected) != Double.doubleToLongBits(actual),
+                      ERR_CANNOT_BE_EQUAL);
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Accumulates changes of message fields, keeping one change per field.
+ *
+ * <p>Successive changes of the same field are combined into one. A change from
+ * {@code A} to {@code B} followed by a change from {@code B} to {@code C} becomes
+ * a change from {@code A} to {@code C}. If the field returns to its original value,
+ * the change of the field disappears from the set.
+ *
+ * <p>Accepts any of the {@code Change} messages declared in
+ * {@code spine/change/change.proto}, and the numeric deltas declared in
+ * {@code spine/change/numeric_delta.proto}. Successive deltas of the same field are added
+ * together. A delta following a change shifts the new value of the change.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class ChangeSet {
+
+    private final Map<FieldPath, Message> changes = new LinkedHashMap<>();
+
+    /**
+     * Adds the change of the field to this set.
+     *
+     * @param path
+     *         the path to the changed field
+     * @param change
+     *         the change of the field
+     * @return this instance for call chaining
+     * @throws IllegalArgumentException
+     *         if the change does not continue the change of the field already
+     *         present in this set
+     */
+    @CanIgnoreReturnValue
+    @SuppressWarnings("ReturnOfThis")
+    public ChangeSet add(FieldPath path, Message change) {
+        checkNotNull(path);
+        checkNotNull(change);
+        if (isNoOp(change)) {
+            return this;
+        }
+        changes.compute(path, (p, earlier) -> earlier == null ? change : combine(earlier, change));
+        return this;
+    }
+
+    /**
+     * Adds the changes of the fields to this set in the iteration order of the passed map.
+     *
+     * @return this instance for call chaining
+     * @throws IllegalArgumentException
+     *         if a change does not continue the change of the field already
+     *         present in this set
+     * @see #add(FieldPath, Message)
+     */
+    @CanIgnoreReturnValue
+    @SuppressWarnings("ReturnOfThis")
+    public ChangeSet addAll(Map<FieldPath, ? extends Message> changes) {
+        checkNotNull(changes);
+        changes.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Tells if the change of the field can be added to this set.
+     *
+     * <p>A change can be added if it is supported and continues the change of the field
+     * already present in this set, if any.
+     *
+     * @see #add(FieldPath, Message)
+     */
+    public boolean canAdd(FieldPath path, Message change) {
+        checkNotNull(path);
+        checkNotNull(change);
+        if (!supports(change)) {
+            return false;
+        }
+        var earlier = changes.get(path);
+        return earlier == null || isNoOp(change) || continues(earlier, change);
+    }
+
+    /**
+     * Tells if this set contains no changes.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Obtains the number of changed fields.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Obtains the accumulated changes keyed by the paths of the fields, in the order
+     * of the first change of each field.
+     */
+    public ImmutableMap<FieldPath, Message> changes() {
+        return ImmutableMap.copyOf(changes);
+    }
+
+    /**
+     * Removes all the changes from this set.
+     */
+    public void clear() {
+        changes.clear();
+    }
+
+    /**
+     * Tells if the passed message is a change which can be added to a set.
+     */
+    public static boolean supports(Message change) {
+        checkNotNull(change);
+        return ChangeKind.find(change) != null || NumericDeltas.isDelta(change);
+    }
+
+    /**
+     * Tells if the passed change leaves the field intact.
+     *
+     * @throws IllegalArgumentException
+     *         if the message is not a supported change
+     */
+    static boolean isNoOp(Message change) {
+        if (NumericDeltas.isDelta(change)) {
+            return NumericDeltas.isZero(change);
+        }
+        var kind = ChangeKind.of(change);
+        return kind.previousValue(change).equals(kind.newValue(change));
+    }
+
+    /**
+     * Tells if the later change of a field continues the earlier one, so that they
+     * can be {@linkplain #combine combined}.
+     */
+    static boolean continues(Message earlier, Message later) {
+        var kind = ChangeKind.find(earlier);
+        if (NumericDeltas.isDelta(later)) {
+            return NumericDeltas.isDelta(earlier)
+                   ? earlier.getDescriptorForType().equals(later.getDescriptorForType())
+                   : kind != null
+                           && kind.shiftedBy(later)
+                           && NumericDeltas.appliesTo(later, kind.newValue(earlier));
+        }
+        return kind != null && kind == ChangeKind.find(later) && kind.continues(earlier, later);
+    }
+
+    /**
+     * Combines two successive changes of the same field.
+     *
+     * @return the combined change, or {@code null} if the field returns to
+     *         the previous value of the earlier change
+     * @throws IllegalArgumentException
+     *         if the later change does not continue the earlier one
+     */
+    static @Nullable Message combine(Message earlier, Message later) {
+        if (NumericDeltas.isDelta(later)) {
+            return NumericDeltas.isDelta(earlier)
+                   ? NumericDeltas.sum(earlier, later)
+                   : shift(earlier, later);
+        }
+        var kind = ChangeKind.find(earlier);
+        checkArgument(kind != null && kind == ChangeKind.find(later),
+                      "A `%s` cannot follow a `%s`.",
+                      later.getDescriptorForType().getName(),
+                      earlier.getDescriptorForType().getName());
+        checkArgument(kind.continues(earlier, later),
+                      "The change `%s` does not continue the change `%s`.",
+                      later, earlier);
+        var previousValue = kind.previousValue(earlier);
+        var newValue = kind.newValue(later);
+        if (previousValue.equals(newValue)) {
+            return null;
+        }
+        return kind.create(previousValue, newValue);
+    }
+
+    /**
+     * Adds the delta to the new value of the passed change.
+     */
+    private static @Nullable Message shift(Message change, Message delta) {
+        var kind = ChangeKind.of(change);
+        checkArgument(kind.shiftedBy(delta),
+                      "A `%s` cannot follow a `%s`.",
+                      delta.getDescriptorForType().getName(),
+                      change.getDescriptorForType().getName());
+        var newValue = kind.newValue(change);
+        checkArgument(NumericDeltas.appliesTo(delta, newValue),
+                      "A `%s` cannot be added to `%s`, which is not a decimal number.",
+                      delta.getDescriptorForType().getName(), newValue);
+        var previousValue = kind.previousValue(change);
+        var shifted = NumericDeltas.applyTo(delta, newValue);
+        if (previousValue.equals(shifted)) {
+            return null;
+        }
+        return kind.create(previousValue, shifted);
+    }
+}
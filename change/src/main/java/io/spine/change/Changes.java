@@ -27,11 +27,16 @@
 package io.spine.change;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
 
+import java.math.BigDecimal;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.change.ChangePreconditions.checkNewValueNotEmpty;
 import static io.spine.change.ChangePreconditions.checkNotEqual;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
  * Utility class for working with field changes.
@@ -39,6 +44,8 @@ import static io.spine.change.ChangePreconditions.checkNotEqual;
 /* ... because we want one utility class for all the Changes classes. */
 public final class Changes {
 
+    private static final String DELTA_CANNOT_BE_ZERO = "The delta cannot be zero.";
+
     /** Prevent instantiation of this utility class. */
     private Changes() {
     }
@@ -46,7 +53,7 @@ public final class Changes {
     /**
      * Creates {@link StringChange} object for the passed previous and new field values.
      *
-     * <p>Passed values cannot be equal.
+     * <p>Passed values cannot be equal. The new value cannot be empty.
      */
     public static StringChange of(String previousValue, String newValue) {
         checkNotNull(previousValue);
@@ -54,10 +61,12 @@ public final class Changes {
         checkNewValueNotEmpty(newValue);
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = StringChange.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -71,10 +80,12 @@ public final class Changes {
         checkNotNull(newValue);
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = TimestampChange.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -86,10 +97,12 @@ public final class Changes {
     public static DoubleChange of(double previousValue, double newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = DoubleChange.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -101,10 +114,12 @@ public final class Changes {
     public static FloatChange of(float previousValue, float newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = FloatChange.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -116,10 +131,12 @@ public final class Changes {
     public static Int32Change ofInt32(int previousValue, int newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = Int32Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -131,10 +148,64 @@ public final class Changes {
     public static Int64Change ofInt64(long previousValue, long newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = Int64Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
+        return result;
+    }
+
+    /**
+     * Creates {@link Int64Delta} object which adds the passed amount to a field.
+     *
+     * <p>Passed amount cannot be zero.
+     */
+    public static Int64Delta ofInt64Delta(long delta) {
+        checkArgument(delta != 0L, DELTA_CANNOT_BE_ZERO);
+
+        var start = Metrics.start();
+        var result = Int64Delta.newBuilder()
+                .setDelta(delta)
+                .build();
+        Metrics.changeCreated(result, start);
+        return result;
+    }
+
+    /**
+     * Creates {@link DoubleDelta} object which adds the passed amount to a field.
+     *
+     * <p>Passed amount must be a finite number other than zero.
+     */
+    public static DoubleDelta ofDoubleDelta(double delta) {
+        checkArgument(delta != 0.0, DELTA_CANNOT_BE_ZERO);
+        if (!Double.isFinite(delta)) {
+            throw newIllegalArgumentException("The delta must be finite, but was %s.", delta);
+        }
+
+        var start = Metrics.start();
+        var result = DoubleDelta.newBuilder()
+                .setDelta(delta)
+                .build();
+        Metrics.changeCreated(result, start);
+        return result;
+    }
+
+    /**
+     * Creates {@link DecimalDelta} object which adds the passed amount to a field.
+     *
+     * <p>Passed amount cannot be zero.
+     */
+    public static DecimalDelta ofDecimalDelta(BigDecimal delta) {
+        checkNotNull(delta);
+        checkArgument(delta.signum() != 0, DELTA_CANNOT_BE_ZERO);
+
+        var start = Metrics.start();
+        var result = DecimalDelta.newBuilder()
+                .setDelta(delta.toPlainString())
+                .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -146,10 +217,12 @@ public final class Changes {
     public static UInt32Change ofUInt32(int previousValue, int newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = UInt32Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -161,10 +234,12 @@ public final class Changes {
     public static UInt64Change ofUInt64(long previousValue, long newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = UInt64Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -176,10 +251,12 @@ public final class Changes {
     public static SInt32Change ofSInt32(int previousValue, int newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = SInt32Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -191,10 +268,12 @@ public final class Changes {
     public static SInt64Change ofSInt64(long previousValue, long newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = SInt64Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -206,10 +285,12 @@ public final class Changes {
     public static Fixed32Change ofFixed32(int previousValue, int newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = Fixed32Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -221,10 +302,12 @@ public final class Changes {
     public static Fixed64Change ofFixed64(long previousValue, long newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = Fixed64Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -236,10 +319,12 @@ public final class Changes {
     public static Sfixed32Change ofSfixed32(int previousValue, int newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = Sfixed32Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -251,10 +336,12 @@ public final class Changes {
     public static Sfixed64Change ofSfixed64(long previousValue, long newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = Sfixed64Change.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -268,10 +355,12 @@ public final class Changes {
         checkNotNull(newValue);
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = BytesChange.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
         return result;
     }
 
@@ -283,10 +372,27 @@ public final class Changes {
     public static BooleanChange of(boolean previousValue, boolean newValue) {
         checkNotEqual(previousValue, newValue);
 
+        var start = Metrics.start();
         var result = BooleanChange.newBuilder()
                 .setPreviousValue(previousValue)
                 .setNewValue(newValue)
                 .build();
+        Metrics.changeCreated(result, start);
+        return result;
+    }
+
+    /**
+     * Obtains the new value of the passed change.
+     *
+     * <p>The values of primitive fields are boxed, the values of {@code bytes} fields are
+     * {@link ByteString}s, and the values of {@code Timestamp} fields are {@link Timestamp}s.
+     *
+     * @throws IllegalArgumentException
+     *         if the passed message is not a {@linkplain ChangeSet#supports supported} change
+     */
+    public static Object newValueOf(Message change) {
+        checkNotNull(change);
+        var result = ChangeKind.of(change).newValue(change);
         return result;
     }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.change.ChangePreconditions.checkNotEqual;
+import static io.spine.protobuf.TypeConverter.toAny;
+import static io.spine.protobuf.TypeConverter.toObject;
+
+/**
+ * Utility class for working with {@link RepeatedChange}s and {@link MapChange}s.
+ *
+ * <p>The elements are matched by their {@code hashCode()} and {@code equals()},
+ * so that a change is calculated in linear time, except for finding the moved
+ * elements of a reordered list, which takes {@code O(n log n)}.
+ *
+ * <p>The elements, keys and values are packed into {@code Any} via
+ * {@link io.spine.protobuf.TypeConverter TypeConverter}. Therefore, they may be
+ * messages, enum values, or values of the Java types corresponding to
+ * the Protobuf primitive types.
+ */
+public final class CollectionChanges {
+
+    /** Prevent instantiation of this utility class. */
+    private CollectionChanges() {
+    }
+
+    /**
+     * Creates {@link RepeatedChange} which turns the previous field value into the new one.
+     *
+     * <p>The change contains the minimal number of moved elements, so that
+     * the elements inserted or removed in the middle of a list do not produce moves.
+     *
+     * <p>Passed values cannot be equal.
+     *
+     * @param <E>
+     *         the type of the elements
+     */
+    public static <E> RepeatedChange of(List<E> previousValue, List<E> newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkNotEqual(previousValue, newValue);
+
+        var previousSize = previousValue.size();
+        var positions = new HashMap<E, ArrayDeque<Integer>>(capacityFor(previousSize));
+        var index = 0;
+        for (var element : previousValue) {
+            positions.computeIfAbsent(element, e -> new ArrayDeque<>())
+                     .add(index++);
+        }
+        var result = RepeatedChange.newBuilder()
+                .setPreviousSize(previousSize);
+        var matched = new boolean[previousSize];
+        var retainedPrevious = new int[newValue.size()];
+        var retainedNew = new int[newValue.size()];
+        var retained = 0;
+        var ordered = true;
+        index = 0;
+        for (var element : newValue) {
+            var candidates = positions.get(element);
+            if (candidates == null || candidates.isEmpty()) {
+                result.addAdded(indexed(index, element));
+            } else {
+                int previousIndex = candidates.poll();
+                matched[previousIndex] = true;
+                ordered &= retained == 0 || retainedPrevious[retained - 1] < previousIndex;
+                retainedPrevious[retained] = previousIndex;
+                retainedNew[retained] = index;
+                retained++;
+            }
+            index++;
+        }
+        index = 0;
+        for (var element : previousValue) {
+            if (!matched[index]) {
+                result.addRemoved(indexed(index, element));
+            }
+            index++;
+        }
+        if (!ordered) {
+            var kept = longestIncreasing(retainedPrevious, retained);
+            for (var i = 0; i < retained; i++) {
+                if (!kept[i]) {
+                    result.addMoved(ElementMove.newBuilder()
+                                            .setPreviousIndex(retainedPrevious[i])
+                                            .setNewIndex(retainedNew[i]));
+                }
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates {@link MapChange} which turns the previous field value into the new one.
+     *
+     * <p>Passed values cannot be equal.
+     *
+     * @param <K>
+     *         the type of the keys
+     * @param <V>
+     *         the type of the values
+     */
+    public static <K, V> MapChange of(Map<K, V> previousValue, Map<K, V> newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkNotEqual(previousValue, newValue);
+
+        var result = MapChange.newBuilder();
+        for (var entry : previousValue.entrySet()) {
+            if (!newValue.containsKey(entry.getKey())) {
+                result.addRemoved(keyed(entry.getKey(), entry.getValue()));
+            }
+        }
+        for (var entry : newValue.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            var previous = previousValue.get(key);
+            if (previous == null) {
+                result.addAdded(keyed(key, value));
+            } else if (!previous.equals(value)) {
+                result.addChanged(KeyedChange.newBuilder()
+                                          .setKey(toAny(key))
+                                          .setPreviousValue(toAny(previous))
+                                          .setNewValue(toAny(value)));
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the new value of the field by applying the change to the previous value.
+     *
+     * @param change
+     *         the change to apply
+     * @param previousValue
+     *         the value for which the change was created
+     * @param elementType
+     *         the class of the elements
+     * @param <E>
+     *         the type of the elements
+     * @throws IllegalArgumentException
+     *         if the change was created for another previous value
+     */
+    public static <E> ImmutableList<E>
+    apply(RepeatedChange change, List<E> previousValue, Class<E> elementType) {
+        checkNotNull(change);
+        checkNotNull(previousValue);
+        checkNotNull(elementType);
+        var previous = previousValue.toArray();
+        var previousSize = previous.length;
+        checkArgument(previousSize == change.getPreviousSize(),
+                      "The change expects the previous value of %s elements, but got %s.",
+                      change.getPreviousSize(), previousSize);
+        var newSize = previousSize - change.getRemovedCount() + change.getAddedCount();
+        checkArgument(newSize >= 0, "The change removes more elements than there are.");
+        var taken = new boolean[previousSize];
+        var elements = new Object[newSize];
+        for (var removed : change.getRemovedList()) {
+            take(taken, removed.getIndex());
+        }
+        for (var moved : change.getMovedList()) {
+            var previousIndex = moved.getPreviousIndex();
+            take(taken, previousIndex);
+            put(elements, moved.getNewIndex(), previous[previousIndex]);
+        }
+        for (var added : change.getAddedList()) {
+            put(elements, added.getIndex(), toObject(added.getValue(), elementType));
+        }
+        var index = 0;
+        for (var i = 0; i < previousSize; i++) {
+            if (!taken[i]) {
+                while (index < newSize && elements[index] != null) {
+                    index++;
+                }
+                checkArgument(index < newSize, "The change does not fit the previous value.");
+                elements[index] = previous[i];
+            }
+        }
+        var result = ImmutableList.<E>builderWithExpectedSize(newSize);
+        for (var element : elements) {
+            checkArgument(element != null, "The change does not fit the previous value.");
+            result.add(elementType.cast(element));
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the new value of the field by applying the change to the previous value.
+     *
+     * @param change
+     *         the change to apply
+     * @param previousValue
+     *         the value for which the change was created
+     * @param keyType
+     *         the class of the keys
+     * @param valueType
+     *         the class of the values
+     * @param <K>
+     *         the type of the keys
+     * @param <V>
+     *         the type of the values
+     * @throws IllegalArgumentException
+     *         if the change was created for another previous value
+     */
+    public static <K, V> ImmutableMap<K, V> apply(MapChange change,
+                                                  Map<K, V> previousValue,
+                                                  Class<K> keyType,
+                                                  Class<V> valueType) {
+        checkNotNull(change);
+        checkNotNull(previousValue);
+        checkNotNull(keyType);
+        checkNotNull(valueType);
+        var result = new LinkedHashMap<>(previousValue);
+        for (var removed : change.getRemovedList()) {
+            var key = toObject(removed.getKey(), keyType);
+            checkArgument(result.remove(key) != null,
+                          "The key `%s` is absent in the previous value.", key);
+        }
+        for (var changed : change.getChangedList()) {
+            var key = toObject(changed.getKey(), keyType);
+            checkArgument(result.containsKey(key),
+                          "The key `%s` is absent in the previous value.", key);
+            result.put(key, toObject(changed.getNewValue(), valueType));
+        }
+        for (var added : change.getAddedList()) {
+            var key = toObject(added.getKey(), keyType);
+            checkArgument(!result.containsKey(key),
+                          "The key `%s` is present in the previous value.", key);
+            result.put(key, toObject(added.getValue(), valueType));
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    private static IndexedElement indexed(int index, Object element) {
+        return IndexedElement.newBuilder()
+                .setIndex(index)
+                .setValue(toAny(element))
+                .build();
+    }
+
+    private static KeyedValue keyed(Object key, Object value) {
+        return KeyedValue.newBuilder()
+                .setKey(toAny(key))
+                .setValue(toAny(value))
+                .build();
+    }
+
+    private static void take(boolean[] taken, int index) {
+        checkArgument(0 <= index && index < taken.length && !taken[index],
+                      "The change does not fit the previous value at index %s.", index);
+        taken[index] = true;
+    }
+
+    private static void put(Object[] elements, int index, Object element) {
+        checkArgument(0 <= index && index < elements.length && elements[index] == null,
+                      "The change does not fit the new value at index %s.", index);
+        elements[index] = element;
+    }
+
+    /**
+     * Finds the longest strictly increasing subsequence of the first {@code count} values.
+     *
+     * @return the flags telling if a value belongs to the subsequence
+     */
+    private static boolean[] longestIncreasing(int[] values, int count) {
+        var tails = new int[count];
+        var predecessors = new int[count];
+        var length = 0;
+        for (var i = 0; i < count; i++) {
+            var low = 0;
+            var high = length;
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+                if (values[tails[middle]] < values[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        var result = new boolean[count];
+        for (var i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    private static int capacityFor(int size) {
+        return size + size / 3 + 1;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A thread-safe accumulator of changes of message fields.
+ *
+ * <p>Combines successive changes of the same field by the same rules as {@link ChangeSet}.
+ * The changes of different fields may be added from different threads concurrently.
+ * The changes of one field must be added in the order they happen, e.g. by one
+ * thread at a time. The exception is the numeric deltas, which may be added to
+ * the same field from different threads in any order.
+ *
+ * <p>A change of a field not yet present in the set is added without locking.
+ * Combining of changes locks only the hash bin of the field path, so that threads
+ * changing different fields rarely wait for each other.
+ */
+public final class ConcurrentChangeSet {
+
+    private final ConcurrentMap<FieldPath, Message> changes = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the change of the field to this set.
+     *
+     * @param path
+     *         the path to the changed field
+     * @param change
+     *         the change of the field
+     * @return this instance for call chaining
+     * @throws IllegalArgumentException
+     *         if the change does not continue the change of the field already
+     *         present in this set
+     * @see ChangeSet#add(FieldPath, Message)
+     */
+    @CanIgnoreReturnValue
+    @SuppressWarnings("ReturnOfThis")
+    public ConcurrentChangeSet add(FieldPath path, Message change) {
+        checkNotNull(path);
+        checkNotNull(change);
+        if (ChangeSet.isNoOp(change)) {
+            return this;
+        }
+        var earlier = changes.putIfAbsent(path, change);
+        if (earlier != null) {
+            changes.compute(path, (p, current) -> current == null
+                                                  ? change
+                                                  : ChangeSet.combine(current, change));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the changes of the fields to this set in the iteration order of the passed map.
+     *
+     * @return this instance for call chaining
+     * @see #add(FieldPath, Message)
+     */
+    @CanIgnoreReturnValue
+    @SuppressWarnings("ReturnOfThis")
+    public ConcurrentChangeSet addAll(Map<FieldPath, ? extends Message> changes) {
+        checkNotNull(changes);
+        changes.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Tells if this set contains no changes at the moment.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Obtains the number of changed fields at the moment.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Removes the accumulated changes from this set and returns them.
+     *
+     * <p>Each change is removed atomically, so that a change added concurrently with
+     * the flush is either returned by this call or stays in the set for the next one.
+     *
+     * @return the changes keyed by the paths of the fields
+     */
+    public ImmutableMap<FieldPath, Message> flush() {
+        var result = new HashMap<FieldPath, Message>();
+        for (var path : changes.keySet()) {
+            var change = changes.remove(path);
+            if (change != null) {
+                result.merge(path, change, ChangeSet::combine);
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.ProtocolMessageEnum;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects changes of the fields of a message reported by a {@link Differ}.
+ *
+ * <p>Each method compares the previous and the new values of a field and, if they differ,
+ * records the change of the field in the same form as {@link MessageDiff} does.
+ * The changes are created in the same way as by {@code MessageDiff}, so that
+ * a {@code Differ} reports the same changes as the reflective comparison.
+ *
+ * <p>The methods for numeric fields follow the naming of {@link Changes}, so that
+ * a value of a field is reported with the change type matching the field type.
+ */
+@SuppressWarnings({"OverloadedMethodsWithSameNumberOfParameters",
+                   "ClassWithTooManyMethods" /* One method per a field type. */})
+@CanIgnoreReturnValue
+public final class DiffBuilder {
+
+    private final FieldPath parent;
+    private final ImmutableMap.Builder<FieldPath, Message> changes;
+
+    /**
+     * Creates a new builder which reports changes of the fields under the given path.
+     */
+    DiffBuilder(FieldPath parent, ImmutableMap.Builder<FieldPath, Message> changes) {
+        this.parent = parent;
+        this.changes = changes;
+    }
+
+    /**
+     * Compares values of a {@code string} field.
+     */
+    public DiffBuilder compare(String field, String previousValue, String newValue) {
+        if (!previousValue.equals(newValue)) {
+            put(field, ChangeKind.STRING.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code bytes} field.
+     */
+    public DiffBuilder compare(String field, ByteString previousValue, ByteString newValue) {
+        if (!previousValue.equals(newValue)) {
+            put(field, ChangeKind.BYTES.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code Timestamp} field.
+     */
+    public DiffBuilder compare(String field, Timestamp previousValue, Timestamp newValue) {
+        if (!previousValue.equals(newValue)) {
+            put(field, ChangeKind.TIMESTAMP.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code bool} field.
+     */
+    public DiffBuilder compare(String field, boolean previousValue, boolean newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.BOOL.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code double} field.
+     */
+    public DiffBuilder compare(String field, double previousValue, double newValue) {
+        if (Double.compare(previousValue, newValue) != 0) {
+            put(field, ChangeKind.DOUBLE.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code float} field.
+     */
+    public DiffBuilder compare(String field, float previousValue, float newValue) {
+        if (Float.compare(previousValue, newValue) != 0) {
+            put(field, ChangeKind.FLOAT.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of an {@code int32} field.
+     */
+    public DiffBuilder compareInt32(String field, int previousValue, int newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.INT32.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of an {@code int64} field.
+     */
+    public DiffBuilder compareInt64(String field, long previousValue, long newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.INT64.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code uint32} field.
+     */
+    public DiffBuilder compareUInt32(String field, int previousValue, int newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.UINT32.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code uint64} field.
+     */
+    public DiffBuilder compareUInt64(String field, long previousValue, long newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.UINT64.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code sint32} field.
+     */
+    public DiffBuilder compareSInt32(String field, int previousValue, int newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.SINT32.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code sint64} field.
+     */
+    public DiffBuilder compareSInt64(String field, long previousValue, long newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.SINT64.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code fixed32} field.
+     */
+    public DiffBuilder compareFixed32(String field, int previousValue, int newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.FIXED32.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code fixed64} field.
+     */
+    public DiffBuilder compareFixed64(String field, long previousValue, long newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.FIXED64.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code sfixed32} field.
+     */
+    public DiffBuilder compareSfixed32(String field, int previousValue, int newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.SFIXED32.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of a {@code sfixed64} field.
+     */
+    public DiffBuilder compareSfixed64(String field, long previousValue, long newValue) {
+        if (previousValue != newValue) {
+            put(field, ChangeKind.SFIXED64.create(previousValue, newValue));
+        }
+        return this;
+    }
+
+    /**
+     * Compares values of an enum field.
+     *
+     * <p>The change is reported as {@link Int32Change} of the numbers of the enum values.
+     */
+    public DiffBuilder compare(String field,
+                               ProtocolMessageEnum previousValue,
+                               ProtocolMessageEnum newValue) {
+        return compareInt32(field, previousValue.getNumber(), newValue.getNumber());
+    }
+
+    /**
+     * Compares values of a message field by comparing their fields.
+     *
+     * <p>The field is considered set in both messages.
+     *
+     * @see #compare(String, boolean, Message, boolean, Message)
+     */
+    public DiffBuilder compare(String field, Message previousValue, Message newValue) {
+        MessageDiff.diff(previousValue, newValue, child(field), changes);
+        return this;
+    }
+
+    /**
+     * Compares values of a message field which may be unset.
+     *
+     * <p>If the field is set in only one of the messages, the change of its presence is
+     * reported as a {@link BooleanChange}, in the same way as {@link MessageDiff} does.
+     *
+     * @param field
+     *         the name of the field
+     * @param previouslySet
+     *         tells if the field is set before the change
+     * @param previousValue
+     *         the value of the field before the change
+     * @param set
+     *         tells if the field is set after the change
+     * @param newValue
+     *         the value of the field after the change
+     */
+    public DiffBuilder compare(String field,
+                               boolean previouslySet,
+                               Message previousValue,
+                               boolean set,
+                               Message newValue) {
+        MessageDiff.diffNested(previousValue, previouslySet, newValue, set, child(field), changes);
+        return this;
+    }
+
+    private void put(String field, Message change) {
+        changes.put(child(field), change);
+    }
+
+    private FieldPath child(String field) {
+        checkNotNull(field);
+        return parent.toBuilder()
+                     .addFieldName(field)
+                     .build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.Message;
+
+/**
+ * Calculates changes between two messages of a particular type.
+ *
+ * <p>{@link MessageDiff} compares fields of messages via their descriptors. A {@code Differ}
+ * allows to compare the fields of a specific message type directly, using the getters of
+ * the message class. Implementations are generated by the {@code change-codegen} plugin of
+ * the Protobuf compiler for the message types marked with the {@code (generate_differ)} option.
+ * They may also be written by hand.
+ *
+ * <p>Implementations report changed fields via the passed {@link DiffBuilder}, so that
+ * they produce the same changes as {@code MessageDiff} does for the same messages.
+ *
+ * <p>Implementations are discovered via {@link java.util.ServiceLoader ServiceLoader}.
+ * In order to be used by {@code MessageDiff}, an implementation must be listed in
+ * the {@code META-INF/services/io.spine.change.Differ} resource and have a public
+ * no-argument constructor. If several implementations compare messages of the same type,
+ * the one found first is used.
+ *
+ * @param <M>
+ *         the type of the compared messages
+ */
+public interface Differ<M extends Message> {
+
+    /**
+     * Obtains the class of the messages compared by this differ.
+     */
+    Class<M> messageClass();
+
+    /**
+     * Reports the fields which differ in the passed messages to the given builder.
+     *
+     * @param previousValue
+     *         the message before the change
+     * @param newValue
+     *         the message after the change
+     * @param diff
+     *         the builder to report the changed fields to
+     */
+    void diff(M previousValue, M newValue, DiffBuilder diff);
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Provides {@link Differ}s available in the classpath.
+ */
+final class Differs {
+
+    /** Prevent instantiation of this utility class. */
+    private Differs() {
+    }
+
+    /**
+     * Obtains the differ for the class of the passed message, or {@code null}
+     * if there is no differ for this type.
+     */
+    @SuppressWarnings("unchecked" /* Ensured by the key of the map. */)
+    static <M extends Message> @Nullable Differ<M> find(M message) {
+        var result = Holder.differs.get(message.getClass());
+        return (Differ<M>) result;
+    }
+
+    /**
+     * Maps the passed differs by the classes of the messages they compare.
+     *
+     * <p>If several differs compare messages of the same class, the first one is used,
+     * so that a duplicate in the classpath does not prevent loading the other differs.
+     */
+    static ImmutableMap<Class<?>, Differ<?>> index(Iterable<? extends Differ<?>> differs) {
+        Map<Class<?>, Differ<?>> result = new LinkedHashMap<>();
+        for (Differ<?> differ : differs) {
+            result.putIfAbsent(differ.messageClass(), differ);
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    /**
+     * Loads the differs lazily, on the first lookup.
+     *
+     * <p>The differs are iterated in the order of
+     * {@link ServiceLoader ServiceLoader}, i.e. in the order of the classpath entries.
+     */
+    private static final class Holder {
+
+        private static final ImmutableMap<Class<?>, Differ<?>> differs = load();
+
+        private static ImmutableMap<Class<?>, Differ<?>> load() {
+            List<Differ<?>> result = new ArrayList<>();
+            @SuppressWarnings("rawtypes")
+            var loader = ServiceLoader.load(Differ.class, Differ.class.getClassLoader());
+            for (Differ<?> differ : loader) {
+                result.add(differ);
+            }
+            return index(result);
+        }
+    }
+}
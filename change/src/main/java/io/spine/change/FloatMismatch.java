@@ -26,13 +26,8 @@
 
 package io.spine.change;
 
-import com.google.protobuf.Any;
-import com.google.protobuf.FloatValue;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.change.ChangePreconditions.checkNotNullOrEqual;
-import static io.spine.protobuf.AnyPacker.unpack;
-import static io.spine.protobuf.TypeConverter.toAny;
+import static io.spine.change.ChangePreconditions.checkMismatch;
 
 /**
  * Utility class for working with {@code float} values in {@link ValueMismatch}es.
@@ -81,7 +76,7 @@ public final class FloatMismatch {
      */
     public static ValueMismatch unexpectedValue(float expected, float actual,
                                                 float newValue, int version) {
-        checkNotNullOrEqual(expected, actual);
+        checkMismatch(expected, actual);
         return of(expected, actual, newValue, version);
     }
 
@@ -89,17 +84,25 @@ public final class FloatMismatch {
      * Creates a new instance of {@code ValueMismatch} with the passed values for a float attribute.
      */
     public static ValueMismatch of(float expected, float actual, float newValue, int version) {
-        var builder = ValueMismatch.newBuilder()
-                .setExpected(toAny(expected))
-                .setActual(toAny(actual))
-                .setNewValue(toAny(newValue))
-                .setVersion(version);
-        return builder.build();
+        var start = Metrics.start();
+        var result = create(expected, actual, newValue, version);
+        Metrics.mismatchCreated(result, start);
+        return result;
     }
 
-    private static float unpacked(Any any) {
-        var unpacked = unpack(any, FloatValue.class);
-        return unpacked.getValue();
+    /**
+     * Creates a new instance of {@code ValueMismatch} with the passed values without
+     * reporting it to {@link ChangeMetrics}.
+     *
+     * <p>Used for the mismatches discovered by the library itself.
+     */
+    static ValueMismatch create(float expected, float actual, float newValue, int version) {
+        return ValueMismatch.newBuilder()
+                .setTypedExpected(MismatchValues.of(expected))
+                .setTypedActual(MismatchValues.of(actual))
+                .setTypedNewValue(MismatchValues.of(newValue))
+                .setVersion(version)
+                .build();
     }
 
     /**
@@ -109,8 +112,7 @@ public final class FloatMismatch {
      */
     public static float unpackExpected(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var expected = mismatch.getExpected();
-        return unpacked(expected);
+        return MismatchValues.unpackFloat(mismatch.getTypedExpected(), mismatch.getExpected());
     }
 
     /**
@@ -120,8 +122,7 @@ public final class FloatMismatch {
      */
     public static float unpackActual(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var actual = mismatch.getActual();
-        return unpacked(actual);
+        return MismatchValues.unpackFloat(mismatch.getTypedActual(), mismatch.getActual());
     }
 
     /**
@@ -131,7 +132,6 @@ public final class FloatMismatch {
      */
     public static float unpackNewValue(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var newValue = mismatch.getNewValue();
-        return unpacked(newValue);
+        return MismatchValues.unpackFloat(mismatch.getTypedNewValue(), mismatch.getNewValue());
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.change.MismatchValue.KindCase.KIND_NOT_SET;
+
+/**
+ * The {@link ChangeMetrics} which keep the measurements in memory for exporting them.
+ *
+ * <p>Counts the created changes and mismatches and their total serialized size by type.
+ * The type of a change is the full name of its message type, e.g.
+ * {@code spine.change.StringChange}. The type of a mismatch is the type of its values:
+ * the name of the kind of a primitive value, e.g. {@code int32_value}, or the full name
+ * of the message type of a packed value.
+ *
+ * <p>The durations of the creation are recorded in two {@link LatencyHistogram}s,
+ * one for the changes and one for the mismatches.
+ *
+ * <p>To collect the measurements, list this class in
+ * the {@code META-INF/services/io.spine.change.ChangeMetrics} resource and obtain
+ * the instance via {@link ChangeMetrics#installed()}.
+ */
+public final class InMemoryChangeMetrics implements ChangeMetrics {
+
+    private final ConcurrentMap<String, TypeCounter> changes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TypeCounter> mismatches = new ConcurrentHashMap<>();
+    private final LatencyHistogram changeLatency = new LatencyHistogram();
+    private final LatencyHistogram mismatchLatency = new LatencyHistogram();
+
+    @Override
+    public void changeCreated(Message change, long nanos) {
+        checkNotNull(change);
+        var type = change.getDescriptorForType().getFullName();
+        changes.computeIfAbsent(type, t -> new TypeCounter())
+               .add(change.getSerializedSize());
+        changeLatency.record(nanos);
+    }
+
+    @Override
+    public void mismatchCreated(ValueMismatch mismatch, long nanos) {
+        checkNotNull(mismatch);
+        mismatches.computeIfAbsent(typeOf(mismatch), t -> new TypeCounter())
+                  .add(mismatch.getSerializedSize());
+        mismatchLatency.record(nanos);
+    }
+
+    private static String typeOf(ValueMismatch mismatch) {
+        var kind = mismatch.getTypedExpected().getKindCase();
+        if (kind != KIND_NOT_SET) {
+            return kind.name().toLowerCase(Locale.ROOT);
+        }
+        var typeUrl = mismatch.getExpected().getTypeUrl();
+        return typeUrl.substring(typeUrl.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Obtains the numbers of the created changes by type.
+     */
+    public ImmutableMap<String, Long> changeCounts() {
+        return counts(changes);
+    }
+
+    /**
+     * Obtains the total serialized sizes of the created changes by type, in bytes.
+     */
+    public ImmutableMap<String, Long> changeSizes() {
+        return sizes(changes);
+    }
+
+    /**
+     * Obtains the numbers of the created mismatches by type of their values.
+     */
+    public ImmutableMap<String, Long> mismatchCounts() {
+        return counts(mismatches);
+    }
+
+    /**
+     * Obtains the total serialized sizes of the created mismatches by type
+     * of their values, in bytes.
+     */
+    public ImmutableMap<String, Long> mismatchSizes() {
+        return sizes(mismatches);
+    }
+
+    /**
+     * Obtains the durations of creating the changes.
+     */
+    public LatencyHistogram changeLatency() {
+        return changeLatency;
+    }
+
+    /**
+     * Obtains the durations of creating the mismatches.
+     */
+    public LatencyHistogram mismatchLatency() {
+        return mismatchLatency;
+    }
+
+    private static ImmutableMap<String, Long> counts(ConcurrentMap<String, TypeCounter> counters) {
+        var result = ImmutableMap.<String, Long>builder();
+        counters.forEach((type, counter) -> result.put(type, counter.count.sum()));
+        return result.buildOrThrow();
+    }
+
+    private static ImmutableMap<String, Long> sizes(ConcurrentMap<String, TypeCounter> counters) {
+        var result = ImmutableMap.<String, Long>builder();
+        counters.forEach((type, counter) -> result.put(type, counter.bytes.sum()));
+        return result.buildOrThrow();
+    }
+
+    /**
+     * The number and the total size of the messages of a type.
+     */
+    private static final class TypeCounter {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private void add(int size) {
+            count.increment();
+            bytes.add(size);
+        }
+    }
+}
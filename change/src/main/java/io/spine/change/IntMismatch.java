@@ -26,13 +26,8 @@
 
 package io.spine.change;
 
-import com.google.protobuf.Any;
-import com.google.protobuf.Int32Value;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.change.ChangePreconditions.checkNotNullOrEqual;
-import static io.spine.protobuf.AnyPacker.unpack;
-import static io.spine.protobuf.TypeConverter.toAny;
+import static io.spine.change.ChangePreconditions.checkMismatch;
 
 /**
  * Utility class for working with {@code int} values in {@link ValueMismatch}es.
@@ -81,7 +76,7 @@ public final class IntMismatch {
      */
     public static ValueMismatch unexpectedValue(int expected, int actual,
                                                 int newValue, int version) {
-        checkNotNullOrEqual(expected, actual);
+        checkMismatch(expected, actual);
         return of(expected, actual, newValue, version);
     }
 
@@ -90,17 +85,25 @@ public final class IntMismatch {
      * for an integer attribute.
      */
     public static ValueMismatch of(int expected, int actual, int newValue, int version) {
-        var builder = ValueMismatch.newBuilder()
-                .setExpected(toAny(expected))
-                .setActual(toAny(actual))
-                .setNewValue(toAny(newValue))
-                .setVersion(version);
-        return builder.build();
+        var start = Metrics.start();
+        var result = create(expected, actual, newValue, version);
+        Metrics.mismatchCreated(result, start);
+        return result;
     }
 
-    private static int unpacked(Any any) {
-        var unpacked = unpack(any, Int32Value.class);
-        return unpacked.getValue();
+    /**
+     * Creates a new instance of {@code ValueMismatch} with the passed values without
+     * reporting it to {@link ChangeMetrics}.
+     *
+     * <p>Used for the mismatches discovered by the library itself.
+     */
+    static ValueMismatch create(int expected, int actual, int newValue, int version) {
+        return ValueMismatch.newBuilder()
+                .setTypedExpected(MismatchValues.of(expected))
+                .setTypedActual(MismatchValues.of(actual))
+                .setTypedNewValue(MismatchValues.of(newValue))
+                .setVersion(version)
+                .build();
     }
 
     /**
@@ -110,8 +113,7 @@ public final class IntMismatch {
      */
     public static int unpackExpected(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var expected = mismatch.getExpected();
-        return unpacked(expected);
+        return MismatchValues.unpackInt(mismatch.getTypedExpected(), mismatch.getExpected());
     }
 
     /**
@@ -121,8 +123,7 @@ public final class IntMismatch {
      */
     public static int unpackActual(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var actual = mismatch.getActual();
-        return unpacked(actual);
+        return MismatchValues.unpackInt(mismatch.getTypedActual(), mismatch.getActual());
     }
 
     /**
@@ -132,7 +133,6 @@ public final class IntMismatch {
      */
     public static int unpackNewValue(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var newValue = mismatch.getNewValue();
-        return unpacked(newValue);
+        return MismatchValues.unpackInt(mismatch.getTypedNewValue(), mismatch.getNewValue());
     }
 }
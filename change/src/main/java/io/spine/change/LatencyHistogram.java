@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds.
+ *
+ * <p>Like HdrHistogram, counts the values in buckets of exponentially growing width.
+ * Each power of two is divided into {@value #SUB_BUCKETS} buckets of the same width,
+ * so that a bucket is at most 25% wider than its lower bound. The values below
+ * {@value #SUB_BUCKETS} have a bucket each.
+ *
+ * <p>The buckets are {@link LongAdder}s, so recording values from many threads
+ * does not make them wait for each other.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of bits of a value, after the highest one, which tell its bucket.
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets enough for any non-negative {@code long}.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (var i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the passed duration.
+     *
+     * <p>A negative duration is recorded as zero.
+     */
+    public void record(long nanos) {
+        buckets[indexOf(Math.max(nanos, 0L))].increment();
+    }
+
+    /**
+     * Obtains the number of the recorded durations.
+     */
+    public long count() {
+        var result = 0L;
+        for (var bucket : buckets) {
+            result += bucket.sum();
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the duration which is not exceeded by the passed percentage
+     * of the recorded durations.
+     *
+     * <p>The result is the highest value of the bucket of the duration, so that it
+     * may exceed the duration by up to 25%.
+     *
+     * @param percentile
+     *         the percentage of the durations, from 0 to 100
+     * @return the duration in nanoseconds, or zero if there are no durations recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0.0 && percentile <= 100.0,
+                      "The percentile must be in the range [0, 100], but was %s.", percentile);
+        var counts = new long[BUCKETS];
+        var total = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        var rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        var seen = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * Obtains the numbers of the recorded durations by the lowest value of their bucket.
+     *
+     * <p>The empty buckets are omitted.
+     */
+    public ImmutableSortedMap<Long, Long> buckets() {
+        var result = ImmutableSortedMap.<Long, Long>naturalOrder();
+        for (var i = 0; i < BUCKETS; i++) {
+            var count = buckets[i].sum();
+            if (count > 0L) {
+                result.put(lowerBoundOf(i), count);
+            }
+        }
+        return result.build();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        var exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        var subBucket = index % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long upperBoundOf(int index) {
+        return index == BUCKETS - 1
+               ? Long.MAX_VALUE
+               : lowerBoundOf(index + 1) - 1;
+    }
+}
@@ -26,13 +26,8 @@
 
 package io.spine.change;
 
-import com.google.protobuf.Any;
-import com.google.protobuf.Int64Value;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.change.ChangePreconditions.checkNotNullOrEqual;
-import static io.spine.protobuf.AnyPacker.unpack;
-import static io.spine.protobuf.TypeConverter.toAny;
+import static io.spine.change.ChangePreconditions.checkMismatch;
 
 /**
  * Utility class for working with {@code long} values in {@link ValueMismatch}es.
@@ -81,7 +76,7 @@ public final class LongMismatch {
      */
     public static ValueMismatch unexpectedValue(long expected, long actual,
                                                 long newValue, int version) {
-        checkNotNullOrEqual(expected, actual);
+        checkMismatch(expected, actual);
         return of(expected, actual, newValue, version);
     }
 
@@ -89,17 +84,25 @@ public final class LongMismatch {
      * Creates a new instance of {@code ValueMismatch} with the passed values for a long attribute.
      */
     public static ValueMismatch of(long expected, long actual, long newValue, int version) {
-        var builder = ValueMismatch.newBuilder()
-                .setExpected(toAny(expected))
-                .setActual(toAny(actual))
-                .setNewValue(toAny(newValue))
-                .setVersion(version);
-        return builder.build();
+        var start = Metrics.start();
+        var result = create(expected, actual, newValue, version);
+        Metrics.mismatchCreated(result, start);
+        return result;
     }
 
-    private static long unpacked(Any any) {
-        var unpacked = unpack(any, Int64Value.class);
-        return unpacked.getValue();
+    /**
+     * Creates a new instance of {@code ValueMismatch} with the passed values without
+     * reporting it to {@link ChangeMetrics}.
+     *
+     * <p>Used for the mismatches discovered by the library itself.
+     */
+    static ValueMismatch create(long expected, long actual, long newValue, int version) {
+        return ValueMismatch.newBuilder()
+                .setTypedExpected(MismatchValues.of(expected))
+                .setTypedActual(MismatchValues.of(actual))
+                .setTypedNewValue(MismatchValues.of(newValue))
+                .setVersion(version)
+                .build();
     }
 
     /**
@@ -109,8 +112,7 @@ public final class LongMismatch {
      */
     public static long unpackExpected(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var expected = mismatch.getExpected();
-        return unpacked(expected);
+        return MismatchValues.unpackLong(mismatch.getTypedExpected(), mismatch.getExpected());
     }
 
     /**
@@ -120,8 +122,7 @@ public final class LongMismatch {
      */
     public static long unpackActual(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var actual = mismatch.getActual();
-        return unpacked(actual);
+        return MismatchValues.unpackLong(mismatch.getTypedActual(), mismatch.getActual());
     }
 
     /**
@@ -131,7 +132,6 @@ public final class LongMismatch {
      */
     public static long unpackNewValue(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var newValue = mismatch.getNewValue();
-        return unpacked(newValue);
+        return MismatchValues.unpackLong(mismatch.getTypedNewValue(), mismatch.getNewValue());
     }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Calculates changes between two instances of the same message type.
+ *
+ * <p>Each changed field is reported as one of the {@code Change} messages declared in
+ * {@code spine/change/change.proto}, keyed by the path of the field. The fields of
+ * nested messages are compared recursively, so that only the changed leaf fields
+ * are reported. {@code Timestamp} fields are treated as values and are reported
+ * as {@link TimestampChange}s. Enum fields are reported as {@link Int32Change}s
+ * of the numbers of the enum values.
+ *
+ * <p>A nested message field which is set in only one of the messages is also reported as
+ * a {@link BooleanChange} of whether the field is set, so that a field set to the default
+ * instance differs from an unset one. It is reported before the changes of the fields of
+ * the nested message if the field becomes set, and after them if the field is cleared.
+ * Nested message fields unset in both messages are not compared.
+ *
+ * <p>Repeated and map fields are not compared.
+ *
+ * <p>The changes are of the same types as the ones created by {@link Changes}. Unlike
+ * {@code Changes}, a diff reports clearing a {@code string} field, as a change to
+ * the empty value.
+ *
+ * <p>The fields to compare and the way to compare them are computed once per message
+ * type and then reused, so that diffing many messages of the same type does not
+ * traverse the descriptors again.
+ *
+ * <p>Messages of the types which have a {@link Differ} are compared by the differ
+ * instead of the descriptor.
+ */
+public final class MessageDiff {
+
+    private static final ConcurrentMap<Descriptor, ImmutableList<DiffField>> fields =
+            new ConcurrentHashMap<>();
+
+    /** Prevent instantiation of this utility class. */
+    private MessageDiff() {
+    }
+
+    /**
+     * Obtains the changes between the passed messages.
+     *
+     * @param previousValue
+     *         the message before the change
+     * @param newValue
+     *         the message after the change
+     * @param <M>
+     *         the type of the messages
+     * @return the changes keyed by the paths of the changed fields, in the order
+     *         of the field declaration; empty map if the messages are equal
+     * @throws IllegalArgumentException
+     *         if the messages are of different types
+     */
+    public static <M extends Message>
+    ImmutableMap<FieldPath, Message> of(M previousValue, M newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        var type = previousValue.getDescriptorForType();
+        checkArgument(type.equals(newValue.getDescriptorForType()),
+                      "Cannot diff messages of different types: `%s` and `%s`.",
+                      type.getFullName(), newValue.getDescriptorForType().getFullName());
+        var result = ImmutableMap.<FieldPath, Message>builder();
+        diff(previousValue, newValue, FieldPath.getDefaultInstance(), result);
+        return result.build();
+    }
+
+    /**
+     * Puts the changes of the fields of the passed messages to the given builder.
+     *
+     * <p>If there is a {@link Differ} for the type of the messages, it is used for
+     * comparing the fields. Otherwise, the fields are compared via the descriptor
+     * of the message type.
+     */
+    static void diff(Message previousValue,
+                     Message newValue,
+                     FieldPath parent,
+                     ImmutableMap.Builder<FieldPath, Message> result) {
+        if (sameMessage(previousValue, newValue)) {
+            return;
+        }
+        var differ = Differs.find(previousValue);
+        if (differ != null) {
+            differ.diff(previousValue, newValue, new DiffBuilder(parent, result));
+            return;
+        }
+        for (var field : fieldsOf(previousValue.getDescriptorForType())) {
+            var descriptor = field.descriptor;
+            if (field.nested) {
+                diffNested((Message) previousValue.getField(descriptor),
+                           previousValue.hasField(descriptor),
+                           (Message) newValue.getField(descriptor),
+                           newValue.hasField(descriptor),
+                           child(parent, descriptor), result);
+                continue;
+            }
+            var before = previousValue.getField(descriptor);
+            var after = newValue.getField(descriptor);
+            if (!before.equals(after)) {
+                var change = field.kind()
+                                  .create(ChangeKind.valueOf(descriptor, before),
+                                          ChangeKind.valueOf(descriptor, after));
+                result.put(child(parent, descriptor), change);
+            }
+        }
+    }
+
+    /**
+     * Puts the changes of a nested message field to the given builder.
+     *
+     * <p>If the field is set in only one of the messages, the change of its presence is
+     * reported along with the changes of the fields of the nested message.
+     *
+     * @param previousValue
+     *         the value of the field before the change, the default instance if not set
+     * @param previouslySet
+     *         tells if the field is set before the change
+     * @param newValue
+     *         the value of the field after the change, the default instance if not set
+     * @param set
+     *         tells if the field is set after the change
+     * @param path
+     *         the path to the field
+     * @param result
+     *         the builder of the changes
+     */
+    static void diffNested(Message previousValue,
+                           boolean previouslySet,
+                           Message newValue,
+                           boolean set,
+                           FieldPath path,
+                           ImmutableMap.Builder<FieldPath, Message> result) {
+        if (!previouslySet && !set) {
+            return;
+        }
+        if (!previouslySet) {
+            result.put(path, ChangeKind.BOOL.create(false, true));
+        }
+        diff(previousValue, newValue, path, result);
+        if (!set) {
+            result.put(path, ChangeKind.BOOL.create(true, false));
+        }
+    }
+
+    /**
+     * Tells if the passed messages are equal, looking at their memoized hash codes
+     * before comparing the fields.
+     */
+    private static boolean sameMessage(Message a, Message b) {
+        if (a == b) {
+            return true;
+        }
+        return a.hashCode() == b.hashCode() && a.equals(b);
+    }
+
+    private static FieldPath child(FieldPath parent, FieldDescriptor field) {
+        return parent.toBuilder()
+                     .addFieldName(field.getName())
+                     .build();
+    }
+
+    private static ImmutableList<DiffField> fieldsOf(Descriptor type) {
+        return fields.computeIfAbsent(type, MessageDiff::collectFields);
+    }
+
+    private static ImmutableList<DiffField> collectFields(Descriptor type) {
+        var result = ImmutableList.<DiffField>builder();
+        for (var field : type.getFields()) {
+            var kind = ChangeKind.forField(field);
+            if (kind != null) {
+                result.add(DiffField.leaf(field, kind));
+            } else if (isNested(field)) {
+                result.add(DiffField.nested(field));
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Tells if the passed field holds a single message, which is compared field by field.
+     */
+    private static boolean isNested(FieldDescriptor field) {
+        return !field.isRepeated() && field.getType() == FieldDescriptor.Type.MESSAGE;
+    }
+
+    /**
+     * A field to compare.
+     *
+     * <p>A leaf field is compared by its value and is reported as a change of its kind.
+     * A nested field holds a message, which is compared field by field.
+     */
+    private static final class DiffField {
+
+        private final FieldDescriptor descriptor;
+        private final boolean nested;
+        private final @Nullable ChangeKind kind;
+
+        private DiffField(FieldDescriptor descriptor, boolean nested, @Nullable ChangeKind kind) {
+            this.descriptor = descriptor;
+            this.nested = nested;
+            this.kind = kind;
+        }
+
+        private static DiffField leaf(FieldDescriptor descriptor, ChangeKind kind) {
+            return new DiffField(descriptor, false, kind);
+        }
+
+        private static DiffField nested(FieldDescriptor descriptor) {
+            return new DiffField(descriptor, true, null);
+        }
+
+        /**
+         * Obtains the kind of the changes of a leaf field.
+         */
+        private ChangeKind kind() {
+            checkState(kind != null, "The nested field `%s` has no kind of changes.",
+                       descriptor.getFullName());
+            return kind;
+        }
+    }
+}
@@ -27,11 +27,11 @@
 package io.spine.change;
 
 import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.change.ChangePreconditions.checkNotEqual;
 import static io.spine.protobuf.AnyPacker.pack;
-import static io.spine.protobuf.AnyPacker.unpack;
 
 /**
  * Utility class for working with {@code ValueMismatch}es for {@code Message} values.
@@ -115,25 +115,70 @@ public final class MessageMismatch {
      */
     private static ValueMismatch of(Message expected, Message actual,
                                     Message newValue, int version) {
-        var result = ValueMismatch.newBuilder()
+        var start = Metrics.start();
+        var result = create(expected, actual, newValue, version);
+        Metrics.mismatchCreated(result, start);
+        return result;
+    }
+
+    /**
+     * Creates a new instance of {@code ValueMismatch} with the passed values without
+     * reporting it to {@link ChangeMetrics}.
+     *
+     * <p>Used for the mismatches discovered by the library itself.
+     */
+    static ValueMismatch create(Message expected, Message actual, Message newValue, int version) {
+        return ValueMismatch.newBuilder()
                 .setExpected(pack(expected))
                 .setActual(pack(actual))
                 .setNewValue(pack(newValue))
                 .setVersion(version)
                 .build();
-        return result;
     }
 
     /**
      * Obtains expected value as a {@code Message} from the passed mismatch.
      *
+     * <p>A value of a primitive type is returned as an instance of the corresponding
+     * wrapper type, e.g. {@code Int32Value} for an {@code int}.
+     *
      * @throws RuntimeException if the passed instance represent a mismatch of
      *                          non-{@code Message} values
      */
     public static Message unpackExpected(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var any = mismatch.getExpected();
-        var result = unpack(any);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedExpected(),
+                                                  mismatch.getExpected());
+        return result;
+    }
+
+    /**
+     * Obtains expected value as a message of the passed type from the passed mismatch.
+     *
+     * @throws RuntimeException if the value is of another type
+     * @see #unpackExpected(ValueMismatch)
+     */
+    public static <T extends Message> T unpackExpected(ValueMismatch mismatch, Class<T> type) {
+        checkNotNull(mismatch);
+        checkNotNull(type);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedExpected(),
+                                                  mismatch.getExpected(), type);
+        return result;
+    }
+
+    /**
+     * Obtains expected value from the passed mismatch, parsing it with the passed parser.
+     *
+     * <p>Unlike the other methods, does not look up the type of the value.
+     *
+     * @throws IllegalArgumentException if the value is of another type
+     * @see #unpackExpected(ValueMismatch)
+     */
+    public static <T extends Message> T unpackExpected(ValueMismatch mismatch, Parser<T> parser) {
+        checkNotNull(mismatch);
+        checkNotNull(parser);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedExpected(),
+                                                  mismatch.getExpected(), parser);
         return result;
     }
 
@@ -145,8 +190,38 @@ public final class MessageMismatch {
      */
     public static Message unpackActual(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var any = mismatch.getActual();
-        var result = unpack(any);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedActual(),
+                                                  mismatch.getActual());
+        return result;
+    }
+
+    /**
+     * Obtains actual value as a message of the passed type from the passed mismatch.
+     *
+     * @throws RuntimeException if the value is of another type
+     * @see #unpackActual(ValueMismatch)
+     */
+    public static <T extends Message> T unpackActual(ValueMismatch mismatch, Class<T> type) {
+        checkNotNull(mismatch);
+        checkNotNull(type);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedActual(),
+                                                  mismatch.getActual(), type);
+        return result;
+    }
+
+    /**
+     * Obtains actual value from the passed mismatch, parsing it with the passed parser.
+     *
+     * <p>Unlike the other methods, does not look up the type of the value.
+     *
+     * @throws IllegalArgumentException if the value is of another type
+     * @see #unpackActual(ValueMismatch)
+     */
+    public static <T extends Message> T unpackActual(ValueMismatch mismatch, Parser<T> parser) {
+        checkNotNull(mismatch);
+        checkNotNull(parser);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedActual(),
+                                                  mismatch.getActual(), parser);
         return result;
     }
 
@@ -158,8 +233,38 @@ public final class MessageMismatch {
      */
     public static Message unpackNewValue(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var any = mismatch.getNewValue();
-        var result = unpack(any);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedNewValue(),
+                                                  mismatch.getNewValue());
+        return result;
+    }
+
+    /**
+     * Obtains new value as a message of the passed type from the passed mismatch.
+     *
+     * @throws RuntimeException if the value is of another type
+     * @see #unpackNewValue(ValueMismatch)
+     */
+    public static <T extends Message> T unpackNewValue(ValueMismatch mismatch, Class<T> type) {
+        checkNotNull(mismatch);
+        checkNotNull(type);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedNewValue(),
+                                                  mismatch.getNewValue(), type);
+        return result;
+    }
+
+    /**
+     * Obtains new value from the passed mismatch, parsing it with the passed parser.
+     *
+     * <p>Unlike the other methods, does not look up the type of the value.
+     *
+     * @throws IllegalArgumentException if the value is of another type
+     * @see #unpackNewValue(ValueMismatch)
+     */
+    public static <T extends Message> T unpackNewValue(ValueMismatch mismatch, Parser<T> parser) {
+        checkNotNull(mismatch);
+        checkNotNull(parser);
+        var result = MismatchValues.unpackMessage(mismatch.getTypedNewValue(),
+                                                  mismatch.getNewValue(), parser);
         return result;
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.Message;
+
+import java.util.ServiceLoader;
+
+/**
+ * Reports measurements to the {@link ChangeMetrics} found in the classpath.
+ *
+ * <p>If there are no {@code ChangeMetrics}, the methods do not obtain the time and do not
+ * report anything. As the metrics in use are held in a constant, the JIT compiler can then
+ * remove the checks of the metrics from the compiled code.
+ */
+final class Metrics {
+
+    private static final ChangeMetrics installed = load();
+
+    /** Prevent instantiation of this utility class. */
+    private Metrics() {
+    }
+
+    private static ChangeMetrics load() {
+        var loader = ServiceLoader.load(ChangeMetrics.class, ChangeMetrics.class.getClassLoader());
+        return loader.findFirst()
+                     .orElse(NoOp.INSTANCE);
+    }
+
+    /**
+     * Obtains the metrics in use.
+     */
+    static ChangeMetrics installed() {
+        return installed;
+    }
+
+    /**
+     * Obtains the time at which a measured operation starts.
+     *
+     * @return the current value of {@link System#nanoTime()}, or zero if nothing is measured
+     */
+    static long start() {
+        return installed != NoOp.INSTANCE ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports the change created since the passed start time.
+     */
+    static void changeCreated(Message change, long start) {
+        if (installed != NoOp.INSTANCE) {
+            installed.changeCreated(change, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reports the mismatch created since the passed start time.
+     */
+    static void mismatchCreated(ValueMismatch mismatch, long start) {
+        if (installed != NoOp.INSTANCE) {
+            installed.mismatchCreated(mismatch, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The metrics ignoring the measurements.
+     */
+    private enum NoOp implements ChangeMetrics {
+
+        INSTANCE;
+
+        @Override
+        public void changeCreated(Message change, long nanos) {
+            // Do nothing.
+        }
+
+        @Override
+        public void mismatchCreated(ValueMismatch mismatch, long nanos) {
+            // Do nothing.
+        }
+    }
+}
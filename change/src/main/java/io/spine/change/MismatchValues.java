@@ -0,0 +1,356 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.google.protobuf.StringValue;
+import io.spine.change.MismatchValue.KindCase;
+
+import static io.spine.change.MismatchValue.KindCase.BOOL_VALUE;
+import static io.spine.change.MismatchValue.KindCase.DOUBLE_VALUE;
+import static io.spine.change.MismatchValue.KindCase.FLOAT_VALUE;
+import static io.spine.change.MismatchValue.KindCase.INT32_VALUE;
+import static io.spine.change.MismatchValue.KindCase.INT64_VALUE;
+import static io.spine.change.MismatchValue.KindCase.KIND_NOT_SET;
+import static io.spine.change.MismatchValue.KindCase.STRING_VALUE;
+import static io.spine.change.UnpackCache.unpack;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Converts primitive values to and from {@link MismatchValue}s.
+ *
+ * <p>When reading a value, falls back to the {@code Any} field of a {@link ValueMismatch}
+ * if the typed value is not set, so that mismatches created by previous versions of
+ * the library remain readable.
+ *
+ * <p>The values which are common in mismatches, such as {@code true}, {@code false},
+ * zeros, small integers and the empty string, are pre-built once and shared,
+ * so that creating a mismatch with such values allocates only the {@code ValueMismatch}.
+ */
+@SuppressWarnings("OverloadedMethodsWithSameNumberOfParameters")
+final class MismatchValues {
+
+    /**
+     * The lowest small integer value for which a {@code MismatchValue} is pre-built.
+     */
+    private static final int MIN_CACHED = -128;
+
+    /**
+     * The highest small integer value for which a {@code MismatchValue} is pre-built.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    private static final MismatchValue TRUE = MismatchValue.newBuilder()
+            .setBoolValue(true)
+            .build();
+
+    private static final MismatchValue FALSE = MismatchValue.newBuilder()
+            .setBoolValue(false)
+            .build();
+
+    private static final MismatchValue FLOAT_ZERO = MismatchValue.newBuilder()
+            .setFloatValue(0.0f)
+            .build();
+
+    private static final MismatchValue DOUBLE_ZERO = MismatchValue.newBuilder()
+            .setDoubleValue(0.0)
+            .build();
+
+    private static final MismatchValue EMPTY_STRING = MismatchValue.newBuilder()
+            .setStringValue("")
+            .build();
+
+    private static final int CACHE_SIZE = MAX_CACHED - MIN_CACHED + 1;
+
+    private static final MismatchValue[] SMALL_INTS = new MismatchValue[CACHE_SIZE];
+
+    private static final MismatchValue[] SMALL_LONGS = new MismatchValue[CACHE_SIZE];
+
+    static {
+        for (var i = 0; i < CACHE_SIZE; i++) {
+            var value = i + MIN_CACHED;
+            SMALL_INTS[i] = MismatchValue.newBuilder()
+                    .setInt32Value(value)
+                    .build();
+            SMALL_LONGS[i] = MismatchValue.newBuilder()
+                    .setInt64Value(value)
+                    .build();
+        }
+    }
+
+    /** Prevent instantiation of this utility class. */
+    private MismatchValues() {
+    }
+
+    /**
+     * Obtains the value for the passed {@code boolean}.
+     *
+     * <p>Both possible values are pre-built.
+     */
+    static MismatchValue of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Obtains the value for the passed {@code int}.
+     *
+     * <p>The values for small numbers, including zero, are pre-built.
+     */
+    static MismatchValue of(int value) {
+        if (value >= MIN_CACHED && value <= MAX_CACHED) {
+            return SMALL_INTS[value - MIN_CACHED];
+        }
+        return MismatchValue.newBuilder()
+                .setInt32Value(value)
+                .build();
+    }
+
+    /**
+     * Obtains the value for the passed {@code long}.
+     *
+     * <p>The values for small numbers, including zero, are pre-built.
+     */
+    static MismatchValue of(long value) {
+        if (value >= MIN_CACHED && value <= MAX_CACHED) {
+            return SMALL_LONGS[(int) value - MIN_CACHED];
+        }
+        return MismatchValue.newBuilder()
+                .setInt64Value(value)
+                .build();
+    }
+
+    /**
+     * Obtains the value for the passed {@code float}.
+     *
+     * <p>The value for the positive zero is pre-built.
+     */
+    static MismatchValue of(float value) {
+        if (Float.floatToRawIntBits(value) == 0) {
+            return FLOAT_ZERO;
+        }
+        return MismatchValue.newBuilder()
+                .setFloatValue(value)
+                .build();
+    }
+
+    /**
+     * Obtains the value for the passed {@code double}.
+     *
+     * <p>The value for the positive zero is pre-built.
+     */
+    static MismatchValue of(double value) {
+        if (Double.doubleToRawLongBits(value) == 0L) {
+            return DOUBLE_ZERO;
+        }
+        return MismatchValue.newBuilder()
+                .setDoubleValue(value)
+                .build();
+    }
+
+    /**
+     * Obtains the value for the passed {@code String}.
+     *
+     * <p>The value for the empty string is pre-built.
+     */
+    static MismatchValue of(String value) {
+        if (value.isEmpty()) {
+            return EMPTY_STRING;
+        }
+        return MismatchValue.newBuilder()
+                .setStringValue(value)
+                .build();
+    }
+
+    static boolean unpackBoolean(MismatchValue value, Any packed) {
+        if (isKind(value, BOOL_VALUE)) {
+            return value.getBoolValue();
+        }
+        return unpack(packed, BoolValue.class).getValue();
+    }
+
+    static int unpackInt(MismatchValue value, Any packed) {
+        if (isKind(value, INT32_VALUE)) {
+            return value.getInt32Value();
+        }
+        return unpack(packed, Int32Value.class).getValue();
+    }
+
+    static long unpackLong(MismatchValue value, Any packed) {
+        if (isKind(value, INT64_VALUE)) {
+            return value.getInt64Value();
+        }
+        return unpack(packed, Int64Value.class).getValue();
+    }
+
+    static float unpackFloat(MismatchValue value, Any packed) {
+        if (isKind(value, FLOAT_VALUE)) {
+            return value.getFloatValue();
+        }
+        return unpack(packed, FloatValue.class).getValue();
+    }
+
+    static double unpackDouble(MismatchValue value, Any packed) {
+        if (isKind(value, DOUBLE_VALUE)) {
+            return value.getDoubleValue();
+        }
+        return unpack(packed, DoubleValue.class).getValue();
+    }
+
+    static String unpackString(MismatchValue value, Any packed) {
+        if (isKind(value, STRING_VALUE)) {
+            return value.getStringValue();
+        }
+        return unpack(packed, StringValue.class).getValue();
+    }
+
+    /**
+     * Obtains the value as a {@code Message}.
+     *
+     * <p>A primitive value is returned as an instance of the corresponding wrapper type,
+     * e.g. {@code Int32Value} for an {@code int}. If the primitive value is not set,
+     * the packed value is unpacked.
+     */
+    static Message unpackMessage(MismatchValue value, Any packed) {
+        var kind = value.getKindCase();
+        return switch (kind) {
+            case BOOL_VALUE -> BoolValue.of(value.getBoolValue());
+            case INT32_VALUE -> Int32Value.of(value.getInt32Value());
+            case INT64_VALUE -> Int64Value.of(value.getInt64Value());
+            case FLOAT_VALUE -> FloatValue.of(value.getFloatValue());
+            case DOUBLE_VALUE -> DoubleValue.of(value.getDoubleValue());
+            case STRING_VALUE -> StringValue.of(value.getStringValue());
+            default -> unpack(packed);
+        };
+    }
+
+    /**
+     * Obtains the value as a message of the passed type.
+     *
+     * @throws RuntimeException
+     *         if the value is of another type
+     * @see #unpackMessage(MismatchValue, Any)
+     */
+    static <T extends Message> T unpackMessage(MismatchValue value, Any packed, Class<T> type) {
+        if (value.getKindCase() == KIND_NOT_SET) {
+            return unpack(packed, type);
+        }
+        var result = unpackMessage(value, packed);
+        if (!type.isInstance(result)) {
+            throw newIllegalArgumentException(
+                    "Expected the mismatch value of type `%s`, but got `%s`.",
+                    type.getName(), result.getClass().getName()
+            );
+        }
+        return type.cast(result);
+    }
+
+    /**
+     * Obtains the value as a message parsed by the passed parser.
+     *
+     * <p>Parses the packed value without looking up its type.
+     *
+     * @throws IllegalArgumentException
+     *         if the parser is of another type than the value
+     * @see #unpackMessage(MismatchValue, Any)
+     */
+    static <T extends Message> T unpackMessage(MismatchValue value, Any packed, Parser<T> parser) {
+        String typeName;
+        ByteString bytes;
+        if (value.getKindCase() == KIND_NOT_SET) {
+            var typeUrl = packed.getTypeUrl();
+            typeName = typeUrl.substring(typeUrl.lastIndexOf('/') + 1);
+            bytes = packed.getValue();
+        } else {
+            var wrapper = unpackMessage(value, packed);
+            typeName = wrapper.getDescriptorForType().getFullName();
+            bytes = wrapper.toByteString();
+        }
+        T result;
+        try {
+            result = parser.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException(
+                    "Unable to parse the mismatch value of type `" + typeName + "`.", e);
+        }
+        var parsedType = result.getDescriptorForType().getFullName();
+        if (!parsedType.equals(typeName)) {
+            throw newIllegalArgumentException(
+                    "Expected the mismatch value of type `%s`, but got `%s`.",
+                    parsedType, typeName
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Tells if the value is an instance of the passed type, without unpacking it.
+     *
+     * <p>A primitive value is treated as an instance of the corresponding wrapper type.
+     */
+    static boolean isOf(MismatchValue value, Any packed, Class<? extends Message> type) {
+        var kind = value.getKindCase();
+        return switch (kind) {
+            case BOOL_VALUE -> type == BoolValue.class;
+            case INT32_VALUE -> type == Int32Value.class;
+            case INT64_VALUE -> type == Int64Value.class;
+            case FLOAT_VALUE -> type == FloatValue.class;
+            case DOUBLE_VALUE -> type == DoubleValue.class;
+            case STRING_VALUE -> type == StringValue.class;
+            default -> packed.is(type);
+        };
+    }
+
+    /**
+     * Tells if the passed value is of the expected kind.
+     *
+     * @return {@code true} if the value is of the expected kind,
+     *         {@code false} if the value is not set, so that the packed value should be used
+     * @throws IllegalArgumentException
+     *         if the value is of another kind
+     */
+    private static boolean isKind(MismatchValue value, KindCase expected) {
+        var kind = value.getKindCase();
+        if (kind == expected) {
+            return true;
+        }
+        if (kind == KIND_NOT_SET) {
+            return false;
+        }
+        throw newIllegalArgumentException(
+                "Expected the mismatch value of kind `%s`, but got `%s`.", expected, kind
+        );
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calculates the differences between two sequences of {@code int}s using
+ * the Myers' <em>O(ND)</em> difference algorithm.
+ *
+ * <p>The common prefix and suffix of the sequences are skipped before running the algorithm,
+ * so that a single edit of a long sequence is found in linear time.
+ *
+ * <p>The search is bounded by {@link #MAX_EDIT_DISTANCE}. If the sequences differ more,
+ * the whole range between the common prefix and suffix is reported as one edit.
+ *
+ * @see <a href="http://www.xmailserver.org/diff2.pdf">An O(ND) Difference Algorithm and
+ *         Its Variations</a>
+ */
+final class MyersDiff {
+
+    /**
+     * The maximum number of inserted and deleted elements the algorithm searches for.
+     *
+     * <p>Bounds the memory used by the algorithm, which is quadratic to the edit distance.
+     */
+    private static final int MAX_EDIT_DISTANCE = 1024;
+
+    /** Prevent instantiation of this utility class. */
+    private MyersDiff() {
+    }
+
+    /**
+     * Obtains the edits which turn the sequence {@code a} into the sequence {@code b}.
+     *
+     * @return non-overlapping edits ordered by their positions
+     */
+    static ImmutableList<Edit> edits(int[] a, int[] b) {
+        var prefix = 0;
+        var minLength = Math.min(a.length, b.length);
+        while (prefix < minLength && a[prefix] == b[prefix]) {
+            prefix++;
+        }
+        var suffix = 0;
+        while (suffix < minLength - prefix
+                && a[a.length - 1 - suffix] == b[b.length - 1 - suffix]) {
+            suffix++;
+        }
+        var result = new ArrayList<Edit>();
+        diff(a, prefix, a.length - suffix, b, prefix, b.length - suffix, result);
+        return ImmutableList.copyOf(result);
+    }
+
+    @SuppressWarnings("MethodWithTooManyParameters") // Two ranges of two arrays and the output.
+    private static void diff(int[] a, int aFrom, int aTo,
+                             int[] b, int bFrom, int bTo,
+                             List<Edit> result) {
+        var n = aTo - aFrom;
+        var m = bTo - bFrom;
+        if (n == 0 && m == 0) {
+            return;
+        }
+        if (n == 0 || m == 0) {
+            result.add(new Edit(aFrom, aTo, bFrom, bTo));
+            return;
+        }
+        var max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        var offset = max + 1;
+        var v = new int[2 * max + 3];
+        var trace = new ArrayList<int[]>();
+        for (var d = 0; d <= max; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (var k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                var y = x - k;
+                while (x < n && y < m && a[aFrom + x] == b[bFrom + y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(trace, n, m, aFrom, bFrom, result);
+                    return;
+                }
+            }
+        }
+        result.add(new Edit(aFrom, aTo, bFrom, bTo));
+    }
+
+    /**
+     * Restores the edits from the furthest reaching paths saved for each edit distance.
+     *
+     * <p>Each step back yields a deletion or an insertion of one element. The adjacent
+     * single-element edits are then merged.
+     */
+    private static void backtrack(List<int[]> trace, int n, int m,
+                                  int aFrom, int bFrom,
+                                  List<Edit> result) {
+        var steps = new ArrayList<Edit>();
+        var x = n;
+        var y = m;
+        for (var d = trace.size() - 1; d > 0; d--) {
+            var v = trace.get(d);
+            var offset = d + 1;
+            var k = x - y;
+            int previousK;
+            if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                previousK = k + 1;
+            } else {
+                previousK = k - 1;
+            }
+            var previousX = v[offset + previousK];
+            var previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+            }
+            var aIndex = aFrom + previousX;
+            var bIndex = bFrom + previousY;
+            if (x == previousX) {
+                steps.add(new Edit(aIndex, aIndex, bIndex, bIndex + 1));
+            } else {
+                steps.add(new Edit(aIndex, aIndex + 1, bIndex, bIndex));
+            }
+            x = previousX;
+            y = previousY;
+        }
+        Edit current = null;
+        for (var i = steps.size() - 1; i >= 0; i--) {
+            var step = steps.get(i);
+            if (current != null && current.previousEnd == step.previousStart
+                    && current.newEnd == step.newStart) {
+                current = new Edit(current.previousStart, step.previousEnd,
+                                   current.newStart, step.newEnd);
+            } else {
+                if (current != null) {
+                    result.add(current);
+                }
+                current = step;
+            }
+        }
+        if (current != null) {
+            result.add(current);
+        }
+    }
+
+    /**
+     * Replacement of the range of the previous sequence with the range of the new sequence.
+     *
+     * <p>The start of a range is inclusive, the end is exclusive.
+     */
+    static final class Edit {
+
+        private final int previousStart;
+        private final int previousEnd;
+        private final int newStart;
+        private final int newEnd;
+
+        private Edit(int previousStart, int previousEnd, int newStart, int newEnd) {
+            this.previousStart = previousStart;
+            this.previousEnd = previousEnd;
+            this.newStart = newStart;
+            this.newEnd = newEnd;
+        }
+
+        int previousStart() {
+            return previousStart;
+        }
+
+        int previousEnd() {
+            return previousEnd;
+        }
+
+        int newStart() {
+            return newStart;
+        }
+
+        int newEnd() {
+            return newEnd;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.Type;
+import com.google.protobuf.Message;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Utility class for working with the numeric deltas, which are {@link Int64Delta},
+ * {@link DoubleDelta}, and {@link DecimalDelta}.
+ *
+ * <p>The {@link Int64Delta}s and the {@link DecimalDelta}s are commutative: adding them to
+ * a field in any order gives the same value. The sum of {@code int64} deltas is checked for
+ * overflow. The {@link DoubleDelta}s are added with rounding, so the value of a field may
+ * differ in the last digits depending on the order of the deltas.
+ *
+ * <p>A {@link DecimalDelta} is added only to a {@code string} field which holds a decimal
+ * number in the notation of {@link BigDecimal}, or is empty, which is treated as zero.
+ */
+public final class NumericDeltas {
+
+    /**
+     * The notation of a decimal number accepted by {@link BigDecimal#BigDecimal(String)}.
+     */
+    private static final Pattern DECIMAL =
+            Pattern.compile("[+-]?(\\d+(\\.\\d*)?|\\.\\d+)([eE][+-]?\\d{1,9})?");
+
+    /** Prevent instantiation of this utility class. */
+    private NumericDeltas() {
+    }
+
+    /**
+     * Adds two deltas of an {@code int64} field together.
+     *
+     * @throws ArithmeticException
+     *         if the sum overflows {@code long}
+     */
+    public static Int64Delta add(Int64Delta first, Int64Delta second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        var result = Int64Delta.newBuilder()
+                .setDelta(Math.addExact(first.getDelta(), second.getDelta()))
+                .build();
+        return result;
+    }
+
+    /**
+     * Adds two deltas of a {@code double} field together.
+     */
+    public static DoubleDelta add(DoubleDelta first, DoubleDelta second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        var result = DoubleDelta.newBuilder()
+                .setDelta(first.getDelta() + second.getDelta())
+                .build();
+        return result;
+    }
+
+    /**
+     * Adds two deltas of a decimal field together.
+     */
+    public static DecimalDelta add(DecimalDelta first, DecimalDelta second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        var sum = toBigDecimal(first).add(toBigDecimal(second));
+        var result = DecimalDelta.newBuilder()
+                .setDelta(sum.toPlainString())
+                .build();
+        return result;
+    }
+
+    /**
+     * Adds the delta to the value of an {@code int64} field.
+     *
+     * @throws ArithmeticException
+     *         if the result overflows {@code long}
+     */
+    public static long apply(Int64Delta delta, long value) {
+        checkNotNull(delta);
+        return Math.addExact(value, delta.getDelta());
+    }
+
+    /**
+     * Adds the delta to the value of a {@code double} field.
+     */
+    public static double apply(DoubleDelta delta, double value) {
+        checkNotNull(delta);
+        return value + delta.getDelta();
+    }
+
+    /**
+     * Adds the delta to the value of a decimal field.
+     */
+    public static BigDecimal apply(DecimalDelta delta, BigDecimal value) {
+        checkNotNull(delta);
+        checkNotNull(value);
+        return value.add(toBigDecimal(delta));
+    }
+
+    /**
+     * Adds the delta to the value of a field as returned by {@link Message#getField}.
+     *
+     * <p>The value of a decimal field is a {@code String} in the notation of
+     * {@link BigDecimal}. An empty string is treated as zero.
+     *
+     * @param delta
+     *         the delta to add
+     * @param value
+     *         the value of the field, or {@code null} if the field is considered zero
+     * @return the new value of the field
+     * @throws IllegalArgumentException
+     *         if the passed message is not a numeric delta, or the value of a decimal field
+     *         is not a decimal number
+     */
+    public static Object applyTo(Message delta, @Nullable Object value) {
+        checkNotNull(delta);
+        if (delta instanceof Int64Delta) {
+            return apply((Int64Delta) delta, value == null ? 0L : (long) value);
+        }
+        if (delta instanceof DoubleDelta) {
+            return apply((DoubleDelta) delta, value == null ? 0.0 : (double) value);
+        }
+        checkArgument(delta instanceof DecimalDelta,
+                      "Unsupported delta type: `%s`.", delta.getDescriptorForType().getFullName());
+        var string = value == null ? "" : (String) value;
+        checkArgument(isDecimal(string), "The value `%s` is not a decimal number.", string);
+        var decimal = string.isEmpty()
+                      ? BigDecimal.ZERO
+                      : new BigDecimal(string);
+        return apply((DecimalDelta) delta, decimal).toPlainString();
+    }
+
+    /**
+     * Tells if the passed message is a numeric delta.
+     */
+    public static boolean isDelta(Message change) {
+        checkNotNull(change);
+        return change instanceof Int64Delta
+                || change instanceof DoubleDelta
+                || change instanceof DecimalDelta;
+    }
+
+    /**
+     * Obtains the amount of the decimal delta.
+     *
+     * @throws NumberFormatException
+     *         if the delta does not hold a decimal number
+     */
+    public static BigDecimal toBigDecimal(DecimalDelta delta) {
+        checkNotNull(delta);
+        return new BigDecimal(delta.getDelta());
+    }
+
+    /**
+     * Tells if the passed value of a {@code string} field holds a decimal number,
+     * so that a {@link DecimalDelta} can be added to it.
+     *
+     * <p>An empty string is treated as zero.
+     */
+    static boolean isDecimal(String value) {
+        checkNotNull(value);
+        return value.isEmpty() || DECIMAL.matcher(value).matches();
+    }
+
+    /**
+     * Tells if the passed delta can be added to the passed value of a field of
+     * an accepted type.
+     *
+     * <p>A {@link DecimalDelta} can be added only to a decimal number. Other deltas can be
+     * added to any value of the field.
+     */
+    static boolean appliesTo(Message delta, Object value) {
+        checkNotNull(delta);
+        checkNotNull(value);
+        return !(delta instanceof DecimalDelta) || isDecimal((String) value);
+    }
+
+    /**
+     * Tells if the passed delta does not change the value of a field.
+     */
+    static boolean isZero(Message delta) {
+        checkNotNull(delta);
+        if (delta instanceof Int64Delta) {
+            return ((Int64Delta) delta).getDelta() == 0L;
+        }
+        if (delta instanceof DoubleDelta) {
+            return ((DoubleDelta) delta).getDelta() == 0.0;
+        }
+        return toBigDecimal((DecimalDelta) delta).signum() == 0;
+    }
+
+    /**
+     * Tells if the passed delta can be added to the value of the passed field.
+     *
+     * @see #accepts(Message, Type)
+     */
+    static boolean accepts(Message delta, FieldDescriptor field) {
+        checkNotNull(field);
+        return !field.isRepeated() && accepts(delta, field.getType());
+    }
+
+    /**
+     * Tells if the passed delta can be added to the value of a field of the passed type.
+     *
+     * <p>An {@link Int64Delta} is added only to the signed 64-bit fields, which are
+     * {@code int64}, {@code sint64}, and {@code sfixed64}, as the sum is computed in
+     * signed arithmetic.
+     */
+    static boolean accepts(Message delta, Type type) {
+        checkNotNull(delta);
+        checkNotNull(type);
+        if (delta instanceof Int64Delta) {
+            return type == Type.INT64 || type == Type.SINT64 || type == Type.SFIXED64;
+        }
+        if (delta instanceof DoubleDelta) {
+            return type == Type.DOUBLE;
+        }
+        return type == Type.STRING;
+    }
+
+    /**
+     * Adds two deltas of the same type together.
+     *
+     * @return the sum, or {@code null} if the deltas cancel each other out
+     * @throws IllegalArgumentException
+     *         if the deltas are of different types
+     */
+    static @Nullable Message sum(Message first, Message second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkArgument(first.getDescriptorForType().equals(second.getDescriptorForType()),
+                      "A `%s` cannot follow a `%s`.",
+                      second.getDescriptorForType().getName(),
+                      first.getDescriptorForType().getName());
+        Message result;
+        if (first instanceof Int64Delta) {
+            result = add((Int64Delta) first, (Int64Delta) second);
+        } else if (first instanceof DoubleDelta) {
+            result = add((DoubleDelta) first, (DoubleDelta) second);
+        } else {
+            result = add((DecimalDelta) first, (DecimalDelta) second);
+        }
+        return isZero(result) ? null : result;
+    }
+}
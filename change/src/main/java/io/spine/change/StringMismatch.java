@@ -26,13 +26,8 @@
 
 package io.spine.change;
 
-import com.google.protobuf.Any;
-import com.google.protobuf.StringValue;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.change.ChangePreconditions.checkNotEqual;
-import static io.spine.protobuf.AnyPacker.unpack;
-import static io.spine.protobuf.TypeConverter.toAny;
 
 /**
  * Utility class for working with string values in ValueMismatches.
@@ -95,17 +90,25 @@ public final class StringMismatch {
      * Creates a new instance of {@code ValueMismatch} with the passed values.
      */
     private static ValueMismatch of(String expected, String actual, String newValue, int version) {
-        var builder = ValueMismatch.newBuilder()
-                .setExpected(toAny(expected))
-                .setActual(toAny(actual))
-                .setNewValue(toAny(newValue))
-                .setVersion(version);
-        return builder.build();
+        var start = Metrics.start();
+        var result = create(expected, actual, newValue, version);
+        Metrics.mismatchCreated(result, start);
+        return result;
     }
 
-    private static String unpacked(Any any) {
-        var unpacked = unpack(any, StringValue.class);
-        return unpacked.getValue();
+    /**
+     * Creates a new instance of {@code ValueMismatch} with the passed values without
+     * reporting it to {@link ChangeMetrics}.
+     *
+     * <p>Used for the mismatches discovered by the library itself.
+     */
+    static ValueMismatch create(String expected, String actual, String newValue, int version) {
+        return ValueMismatch.newBuilder()
+                .setTypedExpected(MismatchValues.of(expected))
+                .setTypedActual(MismatchValues.of(actual))
+                .setTypedNewValue(MismatchValues.of(newValue))
+                .setVersion(version)
+                .build();
     }
 
     /**
@@ -115,8 +118,7 @@ public final class StringMismatch {
      */
     public static String unpackExpected(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var expected = mismatch.getExpected();
-        return unpacked(expected);
+        return MismatchValues.unpackString(mismatch.getTypedExpected(), mismatch.getExpected());
     }
 
     /**
@@ -126,8 +128,7 @@ public final class StringMismatch {
      */
     public static String unpackActual(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var actual = mismatch.getActual();
-        return unpacked(actual);
+        return MismatchValues.unpackString(mismatch.getTypedActual(), mismatch.getActual());
     }
 
     /**
@@ -137,7 +138,6 @@ public final class StringMismatch {
      */
     public static String unpackNewValue(ValueMismatch mismatch) {
         checkNotNull(mismatch);
-        var newValue = mismatch.getNewValue();
-        return unpacked(newValue);
+        return MismatchValues.unpackString(mismatch.getTypedNewValue(), mismatch.getNewValue());
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.change.ChangePreconditions.checkNewValueNotEmpty;
+import static io.spine.change.ChangePreconditions.checkNotEqual;
+
+/**
+ * Utility class for working with {@link StringPatch}es.
+ *
+ * <p>A patch is calculated over the code points of the strings, so that an edit never
+ * splits a surrogate pair. The positions of the edits are given in UTF-16 code units,
+ * so that a patch is applied without decoding the previous value.
+ */
+public final class StringPatches {
+
+    /** Prevent instantiation of this utility class. */
+    private StringPatches() {
+    }
+
+    /**
+     * Creates {@link StringPatch} which turns the previous field value into the new one.
+     *
+     * <p>Passed values cannot be equal. The new value cannot be empty.
+     */
+    public static StringPatch of(String previousValue, String newValue) {
+        checkNotNull(previousValue);
+        checkNotNull(newValue);
+        checkNewValueNotEmpty(newValue);
+        checkNotEqual(previousValue, newValue);
+
+        var edits = MyersDiff.edits(previousValue.codePoints().toArray(),
+                                    newValue.codePoints().toArray());
+        var previous = new Cursor(previousValue);
+        var next = new Cursor(newValue);
+        var result = StringPatch.newBuilder()
+                .setPreviousLength(previousValue.length());
+        for (var edit : edits) {
+            var position = previous.charIndex(edit.previousStart());
+            var end = previous.charIndex(edit.previousEnd());
+            var insertedStart = next.charIndex(edit.newStart());
+            var insertedEnd = next.charIndex(edit.newEnd());
+            result.addEdit(StringEdit.newBuilder()
+                                   .setPosition(position)
+                                   .setDeletedLength(end - position)
+                                   .setInserted(newValue.substring(insertedStart, insertedEnd)));
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the new value of the field by applying the patch to the previous value.
+     *
+     * @throws IllegalArgumentException
+     *         if the patch was created for another previous value
+     */
+    public static String apply(StringPatch patch, String previousValue) {
+        checkNotNull(patch);
+        checkNotNull(previousValue);
+        var length = previousValue.length();
+        checkArgument(length == patch.getPreviousLength(),
+                      "The patch expects the previous value of %s characters, but got %s.",
+                      patch.getPreviousLength(), length);
+        var result = new StringBuilder(length);
+        var cursor = 0;
+        for (var edit : patch.getEditList()) {
+            var position = edit.getPosition();
+            var end = position + edit.getDeletedLength();
+            checkArgument(cursor <= position && end <= length,
+                          "The edit at %s does not fit the previous value.", position);
+            result.append(previousValue, cursor, position)
+                  .append(edit.getInserted());
+            cursor = end;
+        }
+        result.append(previousValue, cursor, length);
+        return result.toString();
+    }
+
+    /**
+     * Creates {@link StringChange} from the patch and the value it was created for.
+     *
+     * @throws IllegalArgumentException
+     *         if the patch was created for another previous value
+     */
+    public static StringChange toChange(StringPatch patch, String previousValue) {
+        var newValue = apply(patch, previousValue);
+        return Changes.of(previousValue, newValue);
+    }
+
+    /**
+     * Converts increasing code point indexes of a string to the indexes of UTF-16 code units.
+     *
+     * <p>Continues from the previously converted index, so that converting all indexes
+     * of a string takes linear time.
+     */
+    private static final class Cursor {
+
+        private final String value;
+        private int codePoint;
+        private int charIndex;
+
+        private Cursor(String value) {
+            this.value = value;
+        }
+
+        private int charIndex(int codePointIndex) {
+            charIndex = value.offsetByCodePoints(charIndex, codePointIndex - codePoint);
+            codePoint = codePointIndex;
+            return charIndex;
+        }
+    }
+}
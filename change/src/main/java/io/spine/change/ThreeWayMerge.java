@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The result of merging two sets of concurrent field changes made to the same base state.
+ *
+ * <p>The changes of the fields changed by only one side are taken as is. When both sides
+ * change a field to the same value, the change is taken once. When both sides change
+ * a numeric field declared additive, such as a counter, the differences made by both
+ * sides are added up. The numeric deltas of both sides are added up, too, as deltas
+ * never conflict.
+ *
+ * <p>Any other change of a field changed by both sides is a conflict. So is a change which
+ * does not start from the value of the field in the base state. A conflict is reported
+ * as the {@link ValueMismatch} which {@link ChangeApplier} would report for the change
+ * applied after the changes of the other side, and the change is not merged.
+ */
+public final class ThreeWayMerge {
+
+    private final Message state;
+    private final ImmutableMap<FieldPath, Message> changes;
+    private final ImmutableList<ValueMismatch> conflicts;
+
+    private ThreeWayMerge(Message state,
+                          ImmutableMap<FieldPath, Message> changes,
+                          ImmutableList<ValueMismatch> conflicts) {
+        this.state = state;
+        this.changes = changes;
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * Merges the changes of both sides with no additive fields.
+     *
+     * @see #of(Message, Map, Map, Set, int)
+     */
+    public static ThreeWayMerge of(Message base,
+                                   Map<FieldPath, ? extends Message> ours,
+                                   Map<FieldPath, ? extends Message> theirs,
+                                   int version) {
+        return of(base, ours, theirs, ImmutableSet.of(), version);
+    }
+
+    /**
+     * Merges the changes of both sides.
+     *
+     * @param base
+     *         the state both sides changed
+     * @param ours
+     *         the changes of one side keyed by the paths of the fields, e.g. as obtained
+     *         from a {@link ChangeSet}
+     * @param theirs
+     *         the changes of the other side
+     * @param additiveFields
+     *         the paths of the numeric fields to which both sides may add concurrently
+     * @param version
+     *         the version of the entity to report in case of conflicts
+     * @return the result of the merge
+     * @throws IllegalArgumentException
+     *         if a change cannot be applied to the field of the base state
+     * @throws ArithmeticException
+     *         if the sum of the differences made to an additive integer field overflows
+     *         the type of the field, in the same way as adding up numeric deltas does
+     */
+    public static ThreeWayMerge of(Message base,
+                                   Map<FieldPath, ? extends Message> ours,
+                                   Map<FieldPath, ? extends Message> theirs,
+                                   Set<FieldPath> additiveFields,
+                                   int version) {
+        checkNotNull(base);
+        checkNotNull(ours);
+        checkNotNull(theirs);
+        checkNotNull(additiveFields);
+        var builder = base.toBuilder();
+        var changes = new LinkedHashMap<FieldPath, Message>();
+        var conflicts = ImmutableList.<ValueMismatch>builder();
+        for (var entry : ours.entrySet()) {
+            var path = entry.getKey();
+            var change = entry.getValue();
+            ChangeApplier.apply(builder, path, change, version)
+                         .ifPresentOrElse(conflicts::add, () -> changes.put(path, change));
+        }
+        for (var entry : theirs.entrySet()) {
+            var path = entry.getKey();
+            var change = entry.getValue();
+            var ourChange = changes.get(path);
+            var bothValues = ourChange != null
+                    && !NumericDeltas.isDelta(ourChange)
+                    && !NumericDeltas.isDelta(change);
+            if (bothValues && sameNewValue(ourChange, change)) {
+                continue;
+            }
+            Message applied = change;
+            if (bothValues && additiveFields.contains(path)) {
+                applied = added(ourChange, change);
+                if (applied == null) {
+                    continue;
+                }
+            }
+            var mismatch = ChangeApplier.apply(builder, path, applied, version);
+            if (mismatch.isPresent()) {
+                conflicts.add(mismatch.get());
+                continue;
+            }
+            var combined = ourChange == null ? applied : ChangeSet.combine(ourChange, applied);
+            if (combined == null) {
+                changes.remove(path);
+            } else {
+                changes.put(path, combined);
+            }
+        }
+        var result = new ThreeWayMerge(builder.build(),
+                                       ImmutableMap.copyOf(changes),
+                                       conflicts.build());
+        return result;
+    }
+
+    private static boolean sameNewValue(Message ourChange, Message theirChange) {
+        var kind = ChangeKind.of(ourChange);
+        return kind == ChangeKind.of(theirChange)
+                && kind.newValue(ourChange).equals(kind.newValue(theirChange));
+    }
+
+    /**
+     * Rebases the change of a numeric field onto the change of the other side,
+     * so that the field receives the differences made by both sides.
+     *
+     * <p>Returns their change as is if it cannot be rebased, so that it is reported as
+     * a conflict. Returns {@code null} if the rebased change does not change the value,
+     * as may happen when adding a small difference to a large floating-point value.
+     */
+    private static @Nullable Message added(Message ourChange, Message theirChange) {
+        var kind = ChangeKind.of(ourChange);
+        if (kind != ChangeKind.of(theirChange)
+                || !kind.previousValue(ourChange).equals(kind.previousValue(theirChange))) {
+            return theirChange;
+        }
+        var ourValue = kind.newValue(ourChange);
+        var shifted = kind.shift(ourValue,
+                                 kind.previousValue(theirChange),
+                                 kind.newValue(theirChange));
+        if (shifted == null) {
+            return theirChange;
+        }
+        if (shifted.equals(ourValue)) {
+            return null;
+        }
+        return kind.create(ourValue, shifted);
+    }
+
+    /**
+     * Obtains the base state with the merged changes applied.
+     */
+    public Message state() {
+        return state;
+    }
+
+    /**
+     * Obtains the merged changes of the fields relative to the base state.
+     */
+    public ImmutableMap<FieldPath, Message> changes() {
+        return changes;
+    }
+
+    /**
+     * Obtains the mismatches for the conflicting changes which are not merged.
+     */
+    public ImmutableList<ValueMismatch> conflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Tells if all the changes of both sides are merged.
+     */
+    public boolean isClean() {
+        return conflicts.isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import io.spine.protobuf.AnyPacker;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Unpacks {@link Any} messages, caching the default instances of their types by type URL.
+ *
+ * <p>{@link AnyPacker} resolves the Java class of a packed message through the type
+ * registry on each call. This class does it once per type URL, so that unpacking
+ * a message of a known type is a lookup of its parser followed by the parsing.
+ *
+ * <p>The cache is shared by the whole package and holds up to {@value #MAX_TYPES} types.
+ * Its {@linkplain #stats() statistics} tell how often the types are found in it.
+ */
+final class UnpackCache {
+
+    /**
+     * The maximum number of types kept in the cache.
+     */
+    private static final int MAX_TYPES = 1024;
+
+    private static final Cache<String, Message> defaultInstances = CacheBuilder.newBuilder()
+            .maximumSize(MAX_TYPES)
+            .recordStats()
+            .build();
+
+    /**
+     * The number of the lookups which found the expected type.
+     *
+     * <p>The hits and misses are counted here rather than by the cache, as a cached type
+     * other than the expected one does not save the lookup in the type registry.
+     */
+    private static final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of the lookups which did not find the expected type.
+     */
+    private static final LongAdder misses = new LongAdder();
+
+    /** Prevent instantiation of this utility class. */
+    private UnpackCache() {
+    }
+
+    /**
+     * Unpacks the passed message.
+     *
+     * @throws RuntimeException
+     *         if the type of the message is unknown, or its bytes are not valid
+     * @see AnyPacker#unpack(Any)
+     */
+    static Message unpack(Any packed) {
+        checkNotNull(packed);
+        var defaultInstance = cached(packed, Message.class);
+        if (defaultInstance != null) {
+            return parse(defaultInstance, packed);
+        }
+        var result = AnyPacker.unpack(packed);
+        defaultInstances.put(packed.getTypeUrl(), result.getDefaultInstanceForType());
+        return result;
+    }
+
+    /**
+     * Unpacks the passed message of the expected type.
+     *
+     * @throws RuntimeException
+     *         if the message is not of the expected type, or its bytes are not valid
+     * @see AnyPacker#unpack(Any, Class)
+     */
+    static <T extends Message> T unpack(Any packed, Class<T> type) {
+        checkNotNull(packed);
+        checkNotNull(type);
+        var defaultInstance = cached(packed, type);
+        if (defaultInstance != null) {
+            return type.cast(parse(defaultInstance, packed));
+        }
+        var result = AnyPacker.unpack(packed, type);
+        defaultInstances.put(packed.getTypeUrl(), result.getDefaultInstanceForType());
+        return result;
+    }
+
+    /**
+     * Obtains the cached default instance of the type of the packed message, if it is
+     * an instance of the expected type.
+     */
+    private static <T extends Message> @Nullable T cached(Any packed, Class<T> type) {
+        var result = defaultInstances.asMap()
+                                     .get(packed.getTypeUrl());
+        if (type.isInstance(result)) {
+            hits.increment();
+            return type.cast(result);
+        }
+        misses.increment();
+        return null;
+    }
+
+    private static Message parse(Message defaultInstance, Any packed) {
+        try {
+            return defaultInstance.getParserForType()
+                                  .parseFrom(packed.getValue());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException(
+                    "Unable to parse a message of the type `" + packed.getTypeUrl() + "`.", e);
+        }
+    }
+
+    /**
+     * Obtains the statistics of the lookups of the types in the cache since
+     * the class was loaded.
+     *
+     * <p>Each unpacking of a message is one lookup. A lookup is a hit only if the cached
+     * type is the expected one.
+     */
+    static CacheStats stats() {
+        var evictions = defaultInstances.stats()
+                                        .evictionCount();
+        return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evictions);
+    }
+}
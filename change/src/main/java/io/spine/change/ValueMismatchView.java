@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.base.Supplier;
+import com.google.protobuf.Message;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Suppliers.memoize;
+
+/**
+ * A view on a {@link ValueMismatch} which unpacks each of its values at most once.
+ *
+ * <p>The values are unpacked lazily, on the first request, and then reused.
+ * An instance of the view can be safely shared between threads: each value is
+ * unpacked by one thread and is then visible to all the threads.
+ *
+ * <p>Values of primitive types are obtained as instances of the corresponding wrapper
+ * types, e.g. {@code Int32Value} for an {@code int}, in the same way
+ * {@link MessageMismatch} does.
+ *
+ * <p>The type of value can be checked via {@link #expectedIs(Class)} and
+ * the similar methods, which look at the type URL of a packed value
+ * without unpacking it.
+ */
+public final class ValueMismatchView {
+
+    private final ValueMismatch mismatch;
+
+    private final Supplier<Message> expected;
+    private final Supplier<Message> actual;
+    private final Supplier<Message> newValue;
+
+    private ValueMismatchView(ValueMismatch mismatch) {
+        this.mismatch = mismatch;
+        this.expected = memoize(() -> MismatchValues.unpackMessage(mismatch.getTypedExpected(),
+                                                                   mismatch.getExpected()));
+        this.actual = memoize(() -> MismatchValues.unpackMessage(mismatch.getTypedActual(),
+                                                                 mismatch.getActual()));
+        this.newValue = memoize(() -> MismatchValues.unpackMessage(mismatch.getTypedNewValue(),
+                                                                   mismatch.getNewValue()));
+    }
+
+    /**
+     * Creates a new view on the passed mismatch.
+     */
+    public static ValueMismatchView of(ValueMismatch mismatch) {
+        checkNotNull(mismatch);
+        return new ValueMismatchView(mismatch);
+    }
+
+    /**
+     * Obtains the viewed mismatch.
+     */
+    public ValueMismatch mismatch() {
+        return mismatch;
+    }
+
+    /**
+     * Obtains the version of the entity in which the mismatch is discovered.
+     */
+    public int version() {
+        return mismatch.getVersion();
+    }
+
+    /**
+     * Obtains the value expected by a command.
+     *
+     * @throws RuntimeException
+     *         if the value cannot be unpacked
+     */
+    public Message expected() {
+        return expected.get();
+    }
+
+    /**
+     * Obtains the value discovered in an entity.
+     *
+     * @throws RuntimeException
+     *         if the value cannot be unpacked
+     */
+    public Message actual() {
+        return actual.get();
+    }
+
+    /**
+     * Obtains the value a command wanted to set.
+     *
+     * @throws RuntimeException
+     *         if the value cannot be unpacked
+     */
+    public Message newValue() {
+        return newValue.get();
+    }
+
+    /**
+     * Tells if the expected value is of the passed type, without unpacking the value.
+     */
+    public boolean expectedIs(Class<? extends Message> type) {
+        checkNotNull(type);
+        return MismatchValues.isOf(mismatch.getTypedExpected(), mismatch.getExpected(), type);
+    }
+
+    /**
+     * Tells if the actual value is of the passed type, without unpacking the value.
+     */
+    public boolean actualIs(Class<? extends Message> type) {
+        checkNotNull(type);
+        return MismatchValues.isOf(mismatch.getTypedActual(), mismatch.getActual(), type);
+    }
+
+    /**
+     * Tells if the new value is of the passed type, without unpacking the value.
+     */
+    public boolean newValueIs(Class<? extends Message> type) {
+        checkNotNull(type);
+        return MismatchValues.isOf(mismatch.getTypedNewValue(), mismatch.getNewValue(), type);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValueMismatchView)) {
+            return false;
+        }
+        var other = (ValueMismatchView) o;
+        return mismatch.equals(other.mismatch);
+    }
+
+    @Override
+    public int hashCode() {
+        return mismatch.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return mismatch.toString();
+    }
+}
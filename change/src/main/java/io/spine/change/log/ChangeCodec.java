@@ -0,0 +1,581 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.BooleanChange;
+import io.spine.change.BytesChange;
+import io.spine.change.DecimalDelta;
+import io.spine.change.DoubleChange;
+import io.spine.change.DoubleDelta;
+import io.spine.change.Fixed32Change;
+import io.spine.change.Fixed64Change;
+import io.spine.change.FloatChange;
+import io.spine.change.Int32Change;
+import io.spine.change.Int64Change;
+import io.spine.change.Int64Delta;
+import io.spine.change.SInt32Change;
+import io.spine.change.SInt64Change;
+import io.spine.change.Sfixed32Change;
+import io.spine.change.Sfixed64Change;
+import io.spine.change.StringChange;
+import io.spine.change.TimestampChange;
+import io.spine.change.UInt32Change;
+import io.spine.change.UInt64Change;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.AnyPacker.pack;
+
+/**
+ * Encodes {@link ChangeRecord}s in a compact binary format for sending them between services.
+ *
+ * <p>Unlike a serialized {@code ChangeRecord}, the format does not include the URL of
+ * the type of a change, and refers to the changed fields by their numbers instead of
+ * their names. Therefore, a codec is created for the type of the state of the entities
+ * whose field changes it encodes, and the decoding side must use a codec of the same type.
+ *
+ * <p>Each record is prefixed by its length as a varint. A record consists of:
+ * <ol>
+ *     <li>a byte with the tag of the change type, and the flag telling if the record
+ *         has the time;
+ *     <li>the number of the fields in the path, and the field numbers, as varints;
+ *     <li>the entity ID, the version and, if present, the time of the change;
+ *     <li>the values of the change encoded in the way protobuf encodes the fields of
+ *         the corresponding types, except that integers are always zigzag-encoded.
+ * </ol>
+ *
+ * <p>The changes other than the {@code Change} messages and the numeric deltas are encoded
+ * with their type URL and bytes, as in {@link Any}. The type of a change is recognized by
+ * its type URL, so the changes of other types, including an empty {@code Any}, are encoded
+ * without unpacking them.
+ *
+ * <p>The codec restores the changes as they were encoded. It does not check the values
+ * of the changes, e.g. that the previous and the new values differ.
+ */
+public final class ChangeCodec {
+
+    /**
+     * The tag of the changes encoded with their type URL and bytes.
+     */
+    private static final int ANY_TAG = 0;
+
+    // The tags of the known change types. The tags must not change, as they are part of
+    // the format.
+    private static final int STRING_TAG = 1;
+    private static final int BYTES_TAG = 2;
+    private static final int BOOL_TAG = 3;
+    private static final int DOUBLE_TAG = 4;
+    private static final int FLOAT_TAG = 5;
+    private static final int INT32_TAG = 6;
+    private static final int INT64_TAG = 7;
+    private static final int UINT32_TAG = 8;
+    private static final int UINT64_TAG = 9;
+    private static final int SINT32_TAG = 10;
+    private static final int SINT64_TAG = 11;
+    private static final int FIXED32_TAG = 12;
+    private static final int FIXED64_TAG = 13;
+    private static final int SFIXED32_TAG = 14;
+    private static final int SFIXED64_TAG = 15;
+    private static final int TIMESTAMP_TAG = 16;
+    private static final int INT64_DELTA_TAG = 17;
+    private static final int DOUBLE_DELTA_TAG = 18;
+    private static final int DECIMAL_DELTA_TAG = 19;
+
+    /**
+     * The tags of the change types by the full names of the types.
+     */
+    private static final ImmutableMap<String, Integer> tags = tagsByTypeName();
+
+    /**
+     * The bits of the first byte of a record which hold the tag of the change type.
+     */
+    private static final int TAG_MASK = 0x3F;
+
+    /**
+     * The bit of the first byte of a record which tells if the record has the time.
+     */
+    private static final int HAS_TIME = 0x40;
+
+    private final Descriptor type;
+
+    private ChangeCodec(Descriptor type) {
+        this.type = type;
+    }
+
+    /**
+     * Creates a codec of the changes of the fields of the given message type.
+     */
+    public static ChangeCodec forType(Descriptor type) {
+        checkNotNull(type);
+        return new ChangeCodec(type);
+    }
+
+    /**
+     * Encodes the records one after another.
+     *
+     * @throws IllegalArgumentException
+     *         if a field path of a record does not denote a field of the type of this codec,
+     *         or a change of a known type is not a valid message of this type
+     */
+    public ByteString encode(Iterable<ChangeRecord> records) {
+        checkNotNull(records);
+        var result = ByteString.newOutput();
+        var output = CodedOutputStream.newInstance(result);
+        try {
+            for (var record : records) {
+                write(record, output);
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toByteString();
+    }
+
+    /**
+     * Decodes all the records encoded in the passed bytes.
+     *
+     * @throws IllegalArgumentException
+     *         if the bytes are not valid records of the type of this codec
+     */
+    public ImmutableList<ChangeRecord> decode(ByteString bytes) {
+        checkNotNull(bytes);
+        var input = bytes.newCodedInput();
+        var result = ImmutableList.<ChangeRecord>builder();
+        try {
+            for (var record = read(input); record != null; record = read(input)) {
+                result.add(record);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The bytes are not valid change records.", e);
+        }
+        return result.build();
+    }
+
+    /**
+     * Writes the record prefixed by its length to the output.
+     *
+     * @throws IllegalArgumentException
+     *         if the field path of the record does not denote a field of the type of
+     *         this codec, or the change of a known type is not a valid message of this type
+     * @throws IOException
+     *         if the output cannot be written
+     */
+    public void write(ChangeRecord record, CodedOutputStream output) throws IOException {
+        checkNotNull(record);
+        checkNotNull(output);
+        var body = ByteString.newOutput();
+        var bodyOutput = CodedOutputStream.newInstance(body);
+        writeBody(record, bodyOutput);
+        bodyOutput.flush();
+        output.writeBytesNoTag(body.toByteString());
+    }
+
+    /**
+     * Reads the next record from the input.
+     *
+     * @return the record, or {@code null} if the input is at its end
+     * @throws IOException
+     *         if the input is not a valid record, or cannot be read
+     */
+    public @Nullable ChangeRecord read(CodedInputStream input) throws IOException {
+        checkNotNull(input);
+        if (input.isAtEnd()) {
+            return null;
+        }
+        var length = input.readRawVarint32();
+        var limit = input.pushLimit(length);
+        var result = readBody(input);
+        if (!input.isAtEnd()) {
+            throw new IOException("The record is longer than its content.");
+        }
+        input.popLimit(limit);
+        return result;
+    }
+
+    private void writeBody(ChangeRecord record, CodedOutputStream output) throws IOException {
+        var change = record.getChange();
+        var tag = tagOf(change);
+        var flags = record.hasWhen() ? HAS_TIME : 0;
+        output.writeRawByte(tag | flags);
+        writePath(record.getField(), output);
+        output.writeStringNoTag(record.getEntityId());
+        output.writeInt32NoTag(record.getVersion());
+        if (record.hasWhen()) {
+            writeTimestamp(record.getWhen(), output);
+        }
+        if (tag == ANY_TAG) {
+            output.writeStringNoTag(change.getTypeUrl());
+            output.writeBytesNoTag(change.getValue());
+        } else {
+            writeChange(tag, change.getValue(), output);
+        }
+    }
+
+    private ChangeRecord readBody(CodedInputStream input) throws IOException {
+        var header = input.readRawByte();
+        var tag = header & TAG_MASK;
+        var result = ChangeRecord.newBuilder();
+        var path = readPath(input);
+        if (path != null) {
+            result.setField(path);
+        }
+        result.setEntityId(input.readStringRequireUtf8())
+              .setVersion(input.readInt32());
+        if ((header & HAS_TIME) != 0) {
+            result.setWhen(readTimestamp(input));
+        }
+        if (tag == ANY_TAG) {
+            var change = Any.newBuilder()
+                    .setTypeUrl(input.readStringRequireUtf8())
+                    .setValue(input.readBytes());
+            result.setChange(change);
+        } else {
+            result.setChange(pack(readChange(tag, input)));
+        }
+        return result.build();
+    }
+
+    private static ImmutableMap<String, Integer> tagsByTypeName() {
+        return ImmutableMap.<String, Integer>builder()
+                .put(nameOf(StringChange.getDescriptor()), STRING_TAG)
+                .put(nameOf(BytesChange.getDescriptor()), BYTES_TAG)
+                .put(nameOf(BooleanChange.getDescriptor()), BOOL_TAG)
+                .put(nameOf(DoubleChange.getDescriptor()), DOUBLE_TAG)
+                .put(nameOf(FloatChange.getDescriptor()), FLOAT_TAG)
+                .put(nameOf(Int32Change.getDescriptor()), INT32_TAG)
+                .put(nameOf(Int64Change.getDescriptor()), INT64_TAG)
+                .put(nameOf(UInt32Change.getDescriptor()), UINT32_TAG)
+                .put(nameOf(UInt64Change.getDescriptor()), UINT64_TAG)
+                .put(nameOf(SInt32Change.getDescriptor()), SINT32_TAG)
+                .put(nameOf(SInt64Change.getDescriptor()), SINT64_TAG)
+                .put(nameOf(Fixed32Change.getDescriptor()), FIXED32_TAG)
+                .put(nameOf(Fixed64Change.getDescriptor()), FIXED64_TAG)
+                .put(nameOf(Sfixed32Change.getDescriptor()), SFIXED32_TAG)
+                .put(nameOf(Sfixed64Change.getDescriptor()), SFIXED64_TAG)
+                .put(nameOf(TimestampChange.getDescriptor()), TIMESTAMP_TAG)
+                .put(nameOf(Int64Delta.getDescriptor()), INT64_DELTA_TAG)
+                .put(nameOf(DoubleDelta.getDescriptor()), DOUBLE_DELTA_TAG)
+                .put(nameOf(DecimalDelta.getDescriptor()), DECIMAL_DELTA_TAG)
+                .build();
+    }
+
+    private static String nameOf(Descriptor type) {
+        return type.getFullName();
+    }
+
+    /**
+     * Obtains the tag of the type of the packed change, or {@link #ANY_TAG} if
+     * the type is not a known change type.
+     */
+    private static int tagOf(Any change) {
+        var typeUrl = change.getTypeUrl();
+        var typeName = typeUrl.substring(typeUrl.lastIndexOf('/') + 1);
+        return tags.getOrDefault(typeName, ANY_TAG);
+    }
+
+    /**
+     * Writes the values of the change of the type with the passed tag.
+     *
+     * <p>The change is parsed from its bytes with the parser of its type, which is already
+     * known by the tag.
+     */
+    @SuppressWarnings("OverlyLongMethod") // One case per change type.
+    private static void writeChange(int tag, ByteString bytes, CodedOutputStream output)
+            throws IOException {
+        switch (tag) {
+            case STRING_TAG -> {
+                var change = parse(StringChange.parser(), bytes);
+                output.writeStringNoTag(change.getPreviousValue());
+                output.writeStringNoTag(change.getNewValue());
+            }
+            case BYTES_TAG -> {
+                var change = parse(BytesChange.parser(), bytes);
+                output.writeBytesNoTag(change.getPreviousValue());
+                output.writeBytesNoTag(change.getNewValue());
+            }
+            case BOOL_TAG -> {
+                var change = parse(BooleanChange.parser(), bytes);
+                output.writeBoolNoTag(change.getPreviousValue());
+                output.writeBoolNoTag(change.getNewValue());
+            }
+            case DOUBLE_TAG -> {
+                var change = parse(DoubleChange.parser(), bytes);
+                output.writeDoubleNoTag(change.getPreviousValue());
+                output.writeDoubleNoTag(change.getNewValue());
+            }
+            case FLOAT_TAG -> {
+                var change = parse(FloatChange.parser(), bytes);
+                output.writeFloatNoTag(change.getPreviousValue());
+                output.writeFloatNoTag(change.getNewValue());
+            }
+            case INT32_TAG -> {
+                var change = parse(Int32Change.parser(), bytes);
+                output.writeSInt32NoTag(change.getPreviousValue());
+                output.writeSInt32NoTag(change.getNewValue());
+            }
+            case INT64_TAG -> {
+                var change = parse(Int64Change.parser(), bytes);
+                output.writeSInt64NoTag(change.getPreviousValue());
+                output.writeSInt64NoTag(change.getNewValue());
+            }
+            case UINT32_TAG -> {
+                var change = parse(UInt32Change.parser(), bytes);
+                output.writeSInt32NoTag(change.getPreviousValue());
+                output.writeSInt32NoTag(change.getNewValue());
+            }
+            case UINT64_TAG -> {
+                var change = parse(UInt64Change.parser(), bytes);
+                output.writeSInt64NoTag(change.getPreviousValue());
+                output.writeSInt64NoTag(change.getNewValue());
+            }
+            case SINT32_TAG -> {
+                var change = parse(SInt32Change.parser(), bytes);
+                output.writeSInt32NoTag(change.getPreviousValue());
+                output.writeSInt32NoTag(change.getNewValue());
+            }
+            case SINT64_TAG -> {
+                var change = parse(SInt64Change.parser(), bytes);
+                output.writeSInt64NoTag(change.getPreviousValue());
+                output.writeSInt64NoTag(change.getNewValue());
+            }
+            case FIXED32_TAG -> {
+                var change = parse(Fixed32Change.parser(), bytes);
+                output.writeSInt32NoTag(change.getPreviousValue());
+                output.writeSInt32NoTag(change.getNewValue());
+            }
+            case FIXED64_TAG -> {
+                var change = parse(Fixed64Change.parser(), bytes);
+                output.writeSInt64NoTag(change.getPreviousValue());
+                output.writeSInt64NoTag(change.getNewValue());
+            }
+            case SFIXED32_TAG -> {
+                var change = parse(Sfixed32Change.parser(), bytes);
+                output.writeSInt32NoTag(change.getPreviousValue());
+                output.writeSInt32NoTag(change.getNewValue());
+            }
+            case SFIXED64_TAG -> {
+                var change = parse(Sfixed64Change.parser(), bytes);
+                output.writeSInt64NoTag(change.getPreviousValue());
+                output.writeSInt64NoTag(change.getNewValue());
+            }
+            case TIMESTAMP_TAG -> {
+                var change = parse(TimestampChange.parser(), bytes);
+                writeTimestamp(change.getPreviousValue(), output);
+                writeTimestamp(change.getNewValue(), output);
+            }
+            case INT64_DELTA_TAG ->
+                    output.writeSInt64NoTag(parse(Int64Delta.parser(), bytes).getDelta());
+            case DOUBLE_DELTA_TAG ->
+                    output.writeDoubleNoTag(parse(DoubleDelta.parser(), bytes).getDelta());
+            case DECIMAL_DELTA_TAG ->
+                    output.writeStringNoTag(parse(DecimalDelta.parser(), bytes).getDelta());
+            default -> throw new IllegalStateException("Unknown change tag: " + tag + '.');
+        }
+    }
+
+    /**
+     * Parses the change of a known type.
+     *
+     * @throws IllegalArgumentException
+     *         if the bytes are not a valid message of the type
+     */
+    private static <T extends Message> T parse(Parser<T> parser, ByteString bytes) {
+        try {
+            return parser.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("The bytes of a change are not valid.", e);
+        }
+    }
+
+    /**
+     * Reads the values of the change of the type with the passed tag.
+     *
+     * <p>The values are read in the order they are written, i.e. the previous value
+     * goes first.
+     *
+     * @throws IOException
+     *         if the tag is unknown, or the values cannot be read
+     */
+    @SuppressWarnings("OverlyLongMethod") // One case per change type.
+    private static Message readChange(int tag, CodedInputStream input) throws IOException {
+        return switch (tag) {
+            case STRING_TAG -> StringChange.newBuilder()
+                    .setPreviousValue(input.readStringRequireUtf8())
+                    .setNewValue(input.readStringRequireUtf8())
+                    .build();
+            case BYTES_TAG -> BytesChange.newBuilder()
+                    .setPreviousValue(input.readBytes())
+                    .setNewValue(input.readBytes())
+                    .build();
+            case BOOL_TAG -> BooleanChange.newBuilder()
+                    .setPreviousValue(input.readBool())
+                    .setNewValue(input.readBool())
+                    .build();
+            case DOUBLE_TAG -> DoubleChange.newBuilder()
+                    .setPreviousValue(input.readDouble())
+                    .setNewValue(input.readDouble())
+                    .build();
+            case FLOAT_TAG -> FloatChange.newBuilder()
+                    .setPreviousValue(input.readFloat())
+                    .setNewValue(input.readFloat())
+                    .build();
+            case INT32_TAG -> Int32Change.newBuilder()
+                    .setPreviousValue(input.readSInt32())
+                    .setNewValue(input.readSInt32())
+                    .build();
+            case INT64_TAG -> Int64Change.newBuilder()
+                    .setPreviousValue(input.readSInt64())
+                    .setNewValue(input.readSInt64())
+                    .build();
+            case UINT32_TAG -> UInt32Change.newBuilder()
+                    .setPreviousValue(input.readSInt32())
+                    .setNewValue(input.readSInt32())
+                    .build();
+            case UINT64_TAG -> UInt64Change.newBuilder()
+                    .setPreviousValue(input.readSInt64())
+                    .setNewValue(input.readSInt64())
+                    .build();
+            case SINT32_TAG -> SInt32Change.newBuilder()
+                    .setPreviousValue(input.readSInt32())
+                    .setNewValue(input.readSInt32())
+                    .build();
+            case SINT64_TAG -> SInt64Change.newBuilder()
+                    .setPreviousValue(input.readSInt64())
+                    .setNewValue(input.readSInt64())
+                    .build();
+            case FIXED32_TAG -> Fixed32Change.newBuilder()
+                    .setPreviousValue(input.readSInt32())
+                    .setNewValue(input.readSInt32())
+                    .build();
+            case FIXED64_TAG -> Fixed64Change.newBuilder()
+                    .setPreviousValue(input.readSInt64())
+                    .setNewValue(input.readSInt64())
+                    .build();
+            case SFIXED32_TAG -> Sfixed32Change.newBuilder()
+                    .setPreviousValue(input.readSInt32())
+                    .setNewValue(input.readSInt32())
+                    .build();
+            case SFIXED64_TAG -> Sfixed64Change.newBuilder()
+                    .setPreviousValue(input.readSInt64())
+                    .setNewValue(input.readSInt64())
+                    .build();
+            case TIMESTAMP_TAG -> TimestampChange.newBuilder()
+                    .setPreviousValue(readTimestamp(input))
+                    .setNewValue(readTimestamp(input))
+                    .build();
+            case INT64_DELTA_TAG -> Int64Delta.newBuilder()
+                    .setDelta(input.readSInt64())
+                    .build();
+            case DOUBLE_DELTA_TAG -> DoubleDelta.newBuilder()
+                    .setDelta(input.readDouble())
+                    .build();
+            case DECIMAL_DELTA_TAG -> DecimalDelta.newBuilder()
+                    .setDelta(input.readStringRequireUtf8())
+                    .build();
+            default -> throw new IOException("Unknown change tag: " + tag + '.');
+        };
+    }
+
+    private static void writeTimestamp(Timestamp timestamp, CodedOutputStream output)
+            throws IOException {
+        output.writeInt64NoTag(timestamp.getSeconds());
+        output.writeInt32NoTag(timestamp.getNanos());
+    }
+
+    private static Timestamp readTimestamp(CodedInputStream input) throws IOException {
+        return Timestamp.newBuilder()
+                .setSeconds(input.readInt64())
+                .setNanos(input.readInt32())
+                .build();
+    }
+
+    /**
+     * Writes the numbers of the fields of the path.
+     */
+    private void writePath(FieldPath path, CodedOutputStream output) throws IOException {
+        var names = path.getFieldNameList();
+        output.writeUInt32NoTag(names.size());
+        var current = type;
+        for (var name : names) {
+            checkArgument(current != null,
+                          "The field path `%s` goes through a non-message field.", path);
+            var field = current.findFieldByName(name);
+            checkArgument(field != null,
+                          "The type `%s` has no field `%s`.", current.getFullName(), name);
+            output.writeUInt32NoTag(field.getNumber());
+            current = messageTypeOf(field);
+        }
+    }
+
+    /**
+     * Reads the field path from the numbers of the fields.
+     *
+     * @return the path, or {@code null} if the path is empty
+     */
+    private @Nullable FieldPath readPath(CodedInputStream input) throws IOException {
+        var size = input.readUInt32();
+        if (size == 0) {
+            return null;
+        }
+        var result = FieldPath.newBuilder();
+        var current = type;
+        for (var i = 0; i < size; i++) {
+            var number = input.readUInt32();
+            var field = current == null ? null : current.findFieldByNumber(number);
+            if (field == null) {
+                throw new IOException("Unknown field number " + number + " in a field path.");
+            }
+            result.addFieldName(field.getName());
+            current = messageTypeOf(field);
+        }
+        return result.build();
+    }
+
+    private static @Nullable Descriptor messageTypeOf(FieldDescriptor field) {
+        return field.getJavaType() == FieldDescriptor.JavaType.MESSAGE
+               ? field.getMessageType()
+               : null;
+    }
+}
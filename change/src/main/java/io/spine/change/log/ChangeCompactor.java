@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import io.spine.change.ChangeSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+/**
+ * Compacts a {@link ChangeLog} of {@link ChangeRecord}s by squashing the successive changes
+ * of each entity field into one net change per checkpoint.
+ *
+ * <p>Checkpoints are the versions divisible by the checkpoint interval. All the changes of
+ * a field between two checkpoints are combined into one record, which has the version and
+ * the time of the last of them. Thus, the value of a field as of a checkpoint version is
+ * the new value of the latest compacted record of the field not newer than the checkpoint,
+ * same as in the original log. Changes which bring a field back to the value it had at
+ * the previous checkpoint are dropped.
+ *
+ * <p>The records which are not {@linkplain ChangeSet#supports supported} changes,
+ * and the changes which do not continue the previous change of the field, are not
+ * combined with other records. The net change of the field pending before such a record
+ * is written ahead of it, so that the order of the records of a field is preserved.
+ *
+ * <p>The source log is read sequentially. The compactor keeps in memory only the net
+ * changes of the fields changed since their last checkpoint. When there are more of them
+ * than the configured limit, the earliest one is written in advance. This splits its
+ * squashed chain in two, but keeps the memory bounded regardless of the size of the log.
+ */
+public final class ChangeCompactor {
+
+    /**
+     * The default number of fields which may have pending net changes at the same time.
+     */
+    public static final int DEFAULT_MAX_PENDING_FIELDS = 64 * 1024;
+
+    private final int checkpointInterval;
+    private final int maxPendingFields;
+
+    /**
+     * Creates a compactor with the given checkpoint interval and
+     * the {@linkplain #DEFAULT_MAX_PENDING_FIELDS default} limit of pending fields.
+     *
+     * @param checkpointInterval
+     *         the number of versions between checkpoints
+     */
+    public ChangeCompactor(int checkpointInterval) {
+        this(checkpointInterval, DEFAULT_MAX_PENDING_FIELDS);
+    }
+
+    /**
+     * Creates a compactor with the given checkpoint interval and limit of pending fields.
+     *
+     * @param checkpointInterval
+     *         the number of versions between checkpoints
+     * @param maxPendingFields
+     *         the number of fields which may have pending net changes at the same time
+     */
+    public ChangeCompactor(int checkpointInterval, int maxPendingFields) {
+        checkArgument(checkpointInterval > 0,
+                      "The checkpoint interval must be positive, but was %s.",
+                      checkpointInterval);
+        checkArgument(maxPendingFields > 0,
+                      "The maximum number of pending fields must be positive, but was %s.",
+                      maxPendingFields);
+        this.checkpointInterval = checkpointInterval;
+        this.maxPendingFields = maxPendingFields;
+    }
+
+    /**
+     * Writes the compacted records of the source log to the target log.
+     *
+     * <p>The target log is not {@linkplain ChangeLog#sync() synced}.
+     *
+     * @param source
+     *         the log to compact
+     * @param target
+     *         the log to append the compacted records to
+     * @return the number of written records
+     */
+    public long compact(ChangeLog source, ChangeLog target) {
+        checkNotNull(source);
+        checkNotNull(target);
+        checkArgument(source != target, "Cannot compact a log into itself.");
+        var compaction = new Compaction(target);
+        source.forEach(ChangeRecord.parser(), (position, record) -> compaction.add(record));
+        compaction.finish();
+        return compaction.written;
+    }
+
+    /**
+     * Obtains the first checkpoint not older than the given version.
+     */
+    private long checkpointOf(int version) {
+        return Math.floorDiv(version - 1L, checkpointInterval) * checkpointInterval
+                + checkpointInterval;
+    }
+
+    /**
+     * A single pass of the compaction.
+     */
+    private final class Compaction {
+
+        private final ChangeLog target;
+
+        /**
+         * The pending net changes in the order they were started.
+         */
+        private final Map<FieldKey, NetChange> pending = new LinkedHashMap<>();
+
+        private long written;
+
+        private Compaction(ChangeLog target) {
+            this.target = target;
+        }
+
+        private void add(ChangeRecord record) {
+            var change = unpack(record.getChange());
+            var key = new FieldKey(record.getEntityId(), record.getField());
+            if (!ChangeSet.supports(change)) {
+                var net = pending.remove(key);
+                if (net != null) {
+                    write(net);
+                }
+                write(record);
+                return;
+            }
+            var net = pending.get(key);
+            if (net != null && net.continuedBy(record, change)) {
+                return;
+            }
+            if (net != null) {
+                pending.remove(key);
+                write(net);
+            }
+            var started = new NetChange(checkpointOf(record.getVersion()));
+            var continued = started.continuedBy(record, change);
+            checkState(continued, "The record `%s` does not start a net change.", record);
+            pending.put(key, started);
+            if (pending.size() > maxPendingFields) {
+                var earliest = pending.values().iterator();
+                write(earliest.next());
+                earliest.remove();
+            }
+        }
+
+        private void finish() {
+            pending.values().forEach(this::write);
+            pending.clear();
+        }
+
+        private void write(NetChange net) {
+            var record = net.toRecord();
+            if (record != null) {
+                write(record);
+            }
+        }
+
+        private void write(ChangeRecord record) {
+            target.append(record);
+            written++;
+        }
+    }
+
+    /**
+     * The changes of a field combined since its last checkpoint.
+     */
+    private static final class NetChange {
+
+        private final long checkpoint;
+        private final ChangeSet changes = new ChangeSet();
+        private @Nullable ChangeRecord last;
+
+        private NetChange(long checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        /**
+         * Combines the passed change with this net change.
+         *
+         * @return {@code true} if the change is combined, or {@code false} if it is past
+         *         the checkpoint or does not continue the previous change
+         */
+        private boolean continuedBy(ChangeRecord record, Message change) {
+            var field = record.getField();
+            if (record.getVersion() > checkpoint || !changes.canAdd(field, change)) {
+                return false;
+            }
+            changes.add(field, change);
+            last = record;
+            return true;
+        }
+
+        /**
+         * Creates a record of this net change.
+         *
+         * @return the record, or {@code null} if the changes cancel each other out
+         */
+        private @Nullable ChangeRecord toRecord() {
+            if (last == null || changes.isEmpty()) {
+                return null;
+            }
+            var change = changes.changes().get(last.getField());
+            var result = last.toBuilder()
+                    .setChange(pack(change))
+                    .build();
+            return result;
+        }
+    }
+
+    /**
+     * Identifies a field of an entity.
+     */
+    private static final class FieldKey {
+
+        private final String entityId;
+        private final FieldPath field;
+
+        private FieldKey(String entityId, FieldPath field) {
+            this.entityId = entityId;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FieldKey)) {
+                return false;
+            }
+            var other = (FieldKey) o;
+            return entityId.equals(other.entityId) && field.equals(other.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityId, field);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.base.FieldPath;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An on-disk index of the {@link ChangeRecord}s of a {@link ChangeLog} by the entity ID,
+ * the field path and the version.
+ *
+ * <p>The index is stored in a directory as a set of immutable files of sorted entries,
+ * called runs. The entries of the recently appended records are kept in memory and
+ * are written to a new run when there are enough of them, or when the index is
+ * {@linkplain #flush() flushed}. When there are too many runs, they are merged into one.
+ *
+ * <p>A query finds the entries by a binary search in each run and returns the positions
+ * of the records, without reading the log. The entity IDs and the field paths are
+ * indexed by their 64-bit hashes. Therefore, in the unlikely event of a hash collision,
+ * the positions may include records of other fields. {@link #records} filters them out.
+ *
+ * <p>Each run stores the position in the log up to which it indexes the records.
+ * When the index is opened, the records appended to the log after that position are
+ * indexed again, so the index catches up with the log after a crash. If the log ends before
+ * that position, e.g. because the records not flushed to the storage device are lost,
+ * the entries of the lost records are dropped. The index can also be
+ * {@linkplain #rebuild rebuilt} from scratch.
+ */
+public final class ChangeIndex implements Closeable {
+
+    /**
+     * The number of entries kept in memory before they are written to a run.
+     */
+    private static final int MAX_RECENT_ENTRIES = 64 * 1024;
+
+    /**
+     * The number of runs after which the runs are merged into one.
+     */
+    private static final int MAX_RUNS = 8;
+
+    private final Path directory;
+    private final ChangeLog log;
+    private final List<IndexRun> runs;
+    private final ConcurrentSkipListSet<IndexEntry> recent = new ConcurrentSkipListSet<>();
+
+    /** The position in the log up to which the records are indexed. Guarded by {@code this}. */
+    private long indexedEnd;
+
+    /** The number of entries added to memory since the last flush. */
+    private int recentCount;
+
+    /** The number of the next run file. */
+    private int nextRun;
+
+    private ChangeIndex(Path directory, ChangeLog log, List<IndexRun> runs) {
+        this.directory = directory;
+        this.log = log;
+        this.runs = new CopyOnWriteArrayList<>(runs);
+        var runsEnd = runs.stream()
+                          .mapToLong(IndexRun::indexedEnd)
+                          .max()
+                          .orElse(log.start());
+        this.indexedEnd = Math.min(runsEnd, log.end());
+        this.nextRun = runs.isEmpty() ? 0 : runs.get(runs.size() - 1).index() + 1;
+    }
+
+    /**
+     * Opens the index of the passed log stored in the given directory.
+     *
+     * <p>Indexes the records appended to the log since the index was last flushed.
+     *
+     * @param directory
+     *         the directory of the index
+     * @param log
+     *         the log of {@link ChangeRecord}s to index
+     * @return the opened index
+     * @throws UncheckedIOException
+     *         if the index files cannot be read
+     */
+    public static ChangeIndex open(Path directory, ChangeLog log) {
+        checkNotNull(directory);
+        checkNotNull(log);
+        var runs = new ArrayList<IndexRun>();
+        try {
+            Files.createDirectories(directory);
+            for (var file : runFiles(directory)) {
+                runs.add(IndexRun.open(file, IndexRun.indexOf(file)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var result = new ChangeIndex(directory, log, runs);
+        result.dropLost();
+        result.catchUp();
+        return result;
+    }
+
+    /**
+     * Deletes the index stored in the given directory and indexes all records of the log.
+     *
+     * @see #open(Path, ChangeLog)
+     */
+    public static ChangeIndex rebuild(Path directory, ChangeLog log) {
+        checkNotNull(directory);
+        checkNotNull(log);
+        try {
+            Files.createDirectories(directory);
+            for (var file : runFiles(directory)) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var result = open(directory, log);
+        result.flush();
+        return result;
+    }
+
+    private static List<Path> runFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> IndexRun.indexOf(file) != null)
+                        .sorted(Comparator.comparing(IndexRun::indexOf))
+                        .toList();
+        }
+    }
+
+    /**
+     * Appends the record to the log and indexes it.
+     *
+     * <p>The records appended to the log directly are indexed too.
+     *
+     * @return the position of the record in the log
+     */
+    @CanIgnoreReturnValue
+    public synchronized long append(ChangeRecord record) {
+        checkNotNull(record);
+        var position = log.append(record);
+        index(indexedEnd, position);
+        add(position, record);
+        indexedEnd = position + Segment.HEADER_SIZE + record.getSerializedSize();
+        flushIfFull();
+        return position;
+    }
+
+    /**
+     * Rewrites the runs which index the records past the end of the log without
+     * the entries of those records.
+     */
+    private synchronized void dropLost() {
+        var end = log.end();
+        var stale = runs.stream()
+                        .filter(run -> run.indexedEnd() > end)
+                        .toList();
+        if (!stale.isEmpty()) {
+            replace(stale, end);
+        }
+    }
+
+    /**
+     * Indexes the records appended to the log directly since the last indexed record.
+     */
+    public synchronized void catchUp() {
+        var end = log.end();
+        index(indexedEnd, end);
+        indexedEnd = end;
+        flushIfFull();
+    }
+
+    private void index(long from, long to) {
+        if (from < to) {
+            log.forEach(from, to, ChangeRecord.parser(), this::add);
+        }
+    }
+
+    private void add(long position, ChangeRecord record) {
+        recent.add(IndexEntry.of(position, record));
+        recentCount++;
+    }
+
+    /**
+     * Finds the positions of the records of the entity field in the range of versions.
+     *
+     * @param entityId
+     *         the ID of the entity
+     * @param field
+     *         the path to the field
+     * @param fromVersion
+     *         the lowest version to find, inclusive
+     * @param toVersion
+     *         the highest version to find, inclusive
+     * @return the positions of the records ordered by the version
+     *         and then by the order of appending
+     */
+    public long[] find(String entityId, FieldPath field, int fromVersion, int toVersion) {
+        checkNotNull(entityId);
+        checkNotNull(field);
+        checkArgument(fromVersion <= toVersion,
+                      "The version range [%s, %s] is empty.", fromVersion, toVersion);
+        var entity = IndexEntry.entityHash(entityId);
+        var fieldHash = IndexEntry.fieldHash(field);
+        var from = new IndexEntry(entity, fieldHash, fromVersion, Long.MIN_VALUE);
+        var to = new IndexEntry(entity, fieldHash, toVersion, Long.MAX_VALUE);
+        // The entries in memory are read before the runs, as a flush adds a run first
+        // and clears the memory after that.
+        var entries = new ArrayList<>(recent.subSet(from, to));
+        for (var run : runs) {
+            run.find(entity, fieldHash, fromVersion, toVersion, entries);
+        }
+        entries.sort(null);
+        return entries.stream()
+                      .mapToLong(IndexEntry::position)
+                      .distinct()
+                      .toArray();
+    }
+
+    /**
+     * Reads the records of the entity field in the range of versions.
+     *
+     * @return the records ordered by the version and then by the order of appending
+     * @see #find(String, FieldPath, int, int)
+     */
+    public ImmutableList<ChangeRecord>
+    records(String entityId, FieldPath field, int fromVersion, int toVersion) {
+        var result = ImmutableList.<ChangeRecord>builder();
+        for (var position : find(entityId, field, fromVersion, toVersion)) {
+            var record = log.read(position, ChangeRecord.parser());
+            if (record.getEntityId().equals(entityId) && record.getField().equals(field)) {
+                result.add(record);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Writes the entries kept in memory to a new run.
+     *
+     * <p>The log is flushed first, so that a run never indexes the records which may be lost
+     * in a crash.
+     */
+    public synchronized void flush() {
+        if (recent.isEmpty()) {
+            return;
+        }
+        log.sync();
+        var run = IndexRun.write(directory, nextRun++, recent.iterator(), indexedEnd);
+        runs.add(run);
+        recent.clear();
+        recentCount = 0;
+        if (runs.size() > MAX_RUNS) {
+            mergeRuns();
+        }
+    }
+
+    private void flushIfFull() {
+        if (recentCount >= MAX_RECENT_ENTRIES) {
+            flush();
+        }
+    }
+
+    private void mergeRuns() {
+        replace(new ArrayList<>(runs), indexedEnd);
+    }
+
+    /**
+     * Replaces the passed runs with one run of their entries of the records preceding
+     * the given position in the log.
+     */
+    private void replace(List<IndexRun> replaced, long end) {
+        var iterators = replaced.stream()
+                                .map(ChangeIndex::entries)
+                                .toList();
+        var merged = Iterators.mergeSorted(iterators, Comparator.naturalOrder());
+        var run = IndexRun.write(directory, nextRun++,
+                                 Iterators.filter(merged, entry -> entry.position() < end),
+                                 indexedEnd);
+        runs.add(run);
+        runs.removeAll(replaced);
+        replaced.forEach(IndexRun::delete);
+    }
+
+    private static Iterator<IndexEntry> entries(IndexRun run) {
+        return new Iterator<>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < run.count();
+            }
+
+            @Override
+            public IndexEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return run.entry(next++);
+            }
+        };
+    }
+
+    /**
+     * Writes the entries kept in memory to a new run.
+     *
+     * <p>The log is not closed.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
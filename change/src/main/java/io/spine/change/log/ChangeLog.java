@@ -0,0 +1,380 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * An append-only log of serialized messages, such as changes and mismatches.
+ *
+ * <p>The log is stored in a directory as a sequence of segment files of equal size,
+ * mapped to memory. A record is written right into the mapped memory, so it survives
+ * a crash of the JVM as soon as {@link #append} returns. The {@link SyncPolicy} defines
+ * when the records are flushed to the storage device.
+ *
+ * <p>When a log is opened, a partially written record at its tail is detected by
+ * the checksum and erased, so the log ends with the last complete record.
+ *
+ * <p>Each record is identified by its position, which is a {@code long} value growing
+ * with each appended record. The records are read by parsing the mapped memory,
+ * without copying the serialized messages.
+ *
+ * <p>Appending is thread-safe. The records may be read concurrently with appending.
+ * The records appended after a read has started may or may not be visible to it.
+ */
+public final class ChangeLog implements Closeable {
+
+    private final Path directory;
+    private final LogOptions options;
+    private final List<Segment> segments;
+
+    /**
+     * Flushes the records in the background under the {@link SyncPolicy#PERIODIC} policy,
+     * or {@code null} if the records are flushed on appending.
+     */
+    private final @Nullable ScheduledExecutorService flusher;
+
+    /** The segment to which the records are appended. Guarded by {@code this}. */
+    private Segment current;
+
+    /** The offset in the current segment up to which the records are flushed. */
+    private int syncedOffset;
+
+    /** The number of records appended since the last flush. */
+    private int unsyncedRecords;
+
+    private boolean closed;
+
+    private ChangeLog(Path directory, LogOptions options, List<Segment> segments) {
+        this.directory = directory;
+        this.options = options;
+        this.segments = new CopyOnWriteArrayList<>(segments);
+        this.current = segments.get(segments.size() - 1);
+        this.syncedOffset = current.end();
+        this.flusher = startFlusher();
+    }
+
+    /**
+     * Starts the thread flushing the records once per
+     * {@linkplain LogOptions#syncInterval() interval}, if the log is flushed periodically.
+     */
+    private @Nullable ScheduledExecutorService startFlusher() {
+        var interval = options.syncInterval();
+        if (options.syncPolicy() != SyncPolicy.PERIODIC || interval.isZero()) {
+            return null;
+        }
+        var result = Executors.newSingleThreadScheduledExecutor(task -> {
+            var thread = new Thread(task, flusherName(directory));
+            thread.setDaemon(true);
+            return thread;
+        });
+        var nanos = interval.toNanos();
+        result.scheduleWithFixedDelay(this::flush, nanos, nanos, NANOSECONDS);
+        return result;
+    }
+
+    /**
+     * Obtains the name of the thread flushing the log in the passed directory.
+     */
+    static String flusherName(Path directory) {
+        return "ChangeLog flusher of `" + directory + '`';
+    }
+
+    /**
+     * Flushes the records appended since the last flush, unless the log is closed.
+     */
+    private synchronized void flush() {
+        if (!closed && unsyncedRecords > 0) {
+            sync();
+        }
+    }
+
+    /**
+     * Opens the log stored in the passed directory with the default options.
+     *
+     * @see #open(Path, LogOptions)
+     */
+    public static ChangeLog open(Path directory) {
+        return open(directory, LogOptions.defaults());
+    }
+
+    /**
+     * Opens the log stored in the passed directory.
+     *
+     * <p>If the directory does not exist or contains no segments, a new log is created.
+     *
+     * @param directory
+     *         the directory of the log
+     * @param options
+     *         the options of the log
+     * @return the opened log
+     * @throws UncheckedIOException
+     *         if the segment files cannot be opened or created
+     */
+    public static ChangeLog open(Path directory, LogOptions options) {
+        checkNotNull(directory);
+        checkNotNull(options);
+        var segments = new ArrayList<Segment>();
+        try {
+            Files.createDirectories(directory);
+            for (var file : segmentFiles(directory)) {
+                var index = Segment.indexOf(file);
+                checkState(segments.isEmpty()
+                                   || segments.get(segments.size() - 1).index() == index - 1,
+                           "The segment %s is missing in `%s`.", index - 1, directory);
+                segments.add(Segment.open(file, index));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(directory, 0, options.segmentSize()));
+        }
+        return new ChangeLog(directory, options, segments);
+    }
+
+    private static List<Path> segmentFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> Segment.indexOf(file) != null)
+                        .sorted(Comparator.comparing(Segment::indexOf))
+                        .toList();
+        }
+    }
+
+    /**
+     * Appends the record to the log.
+     *
+     * <p>If the record does not fit the current segment, a new segment is started.
+     *
+     * @param record
+     *         the message to append
+     * @return the position of the appended record
+     * @throws IllegalArgumentException
+     *         if the serialized record is larger than a segment
+     * @throws IllegalStateException
+     *         if the log is closed
+     */
+    @CanIgnoreReturnValue
+    public synchronized long append(Message record) {
+        checkNotNull(record);
+        checkState(!closed, "The log in `%s` is closed.", directory);
+        var size = record.getSerializedSize();
+        if (!current.fits(size)) {
+            checkArgument(size <= options.segmentSize() - Segment.HEADER_SIZE,
+                          "The record of %s bytes does not fit a segment of %s bytes.",
+                          size, options.segmentSize());
+            startSegment();
+        }
+        var offset = current.append(record, size);
+        unsyncedRecords++;
+        syncIfDue();
+        return position(current.index(), offset);
+    }
+
+    private void startSegment() {
+        sync();
+        current = Segment.create(directory, current.index() + 1, options.segmentSize());
+        segments.add(current);
+        syncedOffset = 0;
+    }
+
+    private void syncIfDue() {
+        var due = switch (options.syncPolicy()) {
+            case EVERY_RECORD -> true;
+            case BATCH -> unsyncedRecords >= options.batchSize();
+            case PERIODIC -> options.syncInterval().isZero();
+        };
+        if (due) {
+            sync();
+        }
+    }
+
+    /**
+     * Flushes the appended records to the storage device.
+     */
+    public synchronized void sync() {
+        var end = current.end();
+        current.force(syncedOffset, end);
+        syncedOffset = end;
+        unsyncedRecords = 0;
+    }
+
+    /**
+     * Obtains the position of the first record of the log.
+     *
+     * <p>If the log is empty, the returned value is equal to {@link #end()}.
+     */
+    public long start() {
+        return position(segments.get(0).index(), 0);
+    }
+
+    /**
+     * Obtains the position following the last record of the log.
+     *
+     * <p>The next appended record gets this or a greater position.
+     */
+    public long end() {
+        var last = segments.get(segments.size() - 1);
+        return position(last.index(), last.end());
+    }
+
+    /**
+     * Reads the record at the given position.
+     *
+     * @param position
+     *         the position of the record, as returned by {@link #append}
+     * @param parser
+     *         the parser of the record
+     * @param <M>
+     *         the type of the record
+     * @return the parsed record
+     * @throws IllegalArgumentException
+     *         if there is no record at the given position
+     */
+    public <M extends Message> M read(long position, Parser<M> parser) {
+        checkNotNull(parser);
+        return segmentOf(position).read(offsetOf(position), parser);
+    }
+
+    /**
+     * Reads all the records of the log.
+     *
+     * @see #forEach(long, Parser, RecordConsumer)
+     */
+    public <M extends Message> void forEach(Parser<M> parser,
+                                            RecordConsumer<? super M> consumer) {
+        forEach(start(), parser, consumer);
+    }
+
+    /**
+     * Reads the records of the log starting at the given position.
+     *
+     * @see #forEach(long, long, Parser, RecordConsumer)
+     */
+    public <M extends Message> void forEach(long from,
+                                            Parser<M> parser,
+                                            RecordConsumer<? super M> consumer) {
+        forEach(from, Long.MAX_VALUE, parser, consumer);
+    }
+
+    /**
+     * Reads the records of the log in the given range of positions.
+     *
+     * @param from
+     *         the position of the first record to read
+     * @param to
+     *         the position before which the reading stops, exclusive
+     * @param parser
+     *         the parser of the records
+     * @param consumer
+     *         the consumer of the parsed records
+     * @param <M>
+     *         the type of the records
+     */
+    public <M extends Message> void forEach(long from,
+                                            long to,
+                                            Parser<M> parser,
+                                            RecordConsumer<? super M> consumer) {
+        checkNotNull(parser);
+        checkNotNull(consumer);
+        var first = segments.get(0).index();
+        var fromSegment = segmentIndexOf(from);
+        checkArgument(fromSegment >= first, "The position %s is before the log start.", from);
+        var offset = offsetOf(from);
+        for (var i = fromSegment - first; i < segments.size(); i++) {
+            var segment = segments.get(i);
+            for (var end = segment.end(); offset < end; offset = segment.next(offset)) {
+                var position = position(segment.index(), offset);
+                if (position >= to) {
+                    return;
+                }
+                consumer.accept(position, segment.read(offset, parser));
+            }
+            offset = 0;
+        }
+    }
+
+    /**
+     * Flushes the appended records, stops the background flushing, and releases the files
+     * of the log.
+     *
+     * <p>The log cannot be used after closing.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            sync();
+            closed = true;
+            segments.forEach(Segment::close);
+        }
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+    }
+
+    private Segment segmentOf(long position) {
+        var index = segmentIndexOf(position) - segments.get(0).index();
+        checkArgument(0 <= index && index < segments.size(),
+                      "There is no segment for the position %s.", position);
+        return segments.get(index);
+    }
+
+    private static long position(int segment, int offset) {
+        return ((long) segment << Integer.SIZE) | offset;
+    }
+
+    private static int segmentIndexOf(long position) {
+        return (int) (position >>> Integer.SIZE);
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.ChangeSet;
+import io.spine.change.Changes;
+import io.spine.change.NumericDeltas;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+/**
+ * The history of the values of an entity field, which tells the value of the field
+ * at an arbitrary moment.
+ *
+ * <p>The timeline keeps in memory the positions of the {@link ChangeRecord}s of the field
+ * in a {@link ChangeLog} and a checkpoint for every few records. A checkpoint holds
+ * the time of its record and the value of the field before it. To find the value at
+ * a moment, the timeline finds the latest checkpoint not after the moment by a binary
+ * search, and then reads the records from the checkpoint onwards, applying their
+ * changes until it meets a record made after the moment. Thus, a query reads at most
+ * as many records as there are between two checkpoints.
+ *
+ * <p>The records of the field must be made in the order of their versions. The records
+ * which are not {@linkplain ChangeSet#supports supported} changes, such as
+ * mismatches, do not change the value. The numeric deltas are added to the value,
+ * starting from zero if the field has no earlier changes.
+ *
+ * <p>The timeline reflects the records present in the log when it was built.
+ */
+public final class FieldTimeline {
+
+    /**
+     * The default number of records between two checkpoints.
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 32;
+
+    private static final Comparator<Timestamp> chronologically =
+            Comparator.comparingLong(Timestamp::getSeconds)
+                      .thenComparingInt(Timestamp::getNanos);
+
+    private final ChangeLog log;
+    private final long[] positions;
+    private final ImmutableList<Checkpoint> checkpoints;
+
+    private FieldTimeline(ChangeLog log, long[] positions, ImmutableList<Checkpoint> checkpoints) {
+        this.log = log;
+        this.positions = positions;
+        this.checkpoints = checkpoints;
+    }
+
+    /**
+     * Builds the timeline of the entity field with
+     * the {@linkplain #DEFAULT_CHECKPOINT_INTERVAL default} checkpoint interval.
+     *
+     * @see #build(ChangeLog, ChangeIndex, String, FieldPath, int)
+     */
+    public static FieldTimeline
+    build(ChangeLog log, ChangeIndex index, String entityId, FieldPath field) {
+        return build(log, index, entityId, field, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Builds the timeline of the entity field.
+     *
+     * <p>Reads all the records of the field once.
+     *
+     * @param log
+     *         the log of the records
+     * @param index
+     *         the index of the log
+     * @param entityId
+     *         the ID of the entity
+     * @param field
+     *         the path to the field
+     * @param checkpointInterval
+     *         the number of records between two checkpoints
+     * @return the timeline of the field
+     * @throws IllegalArgumentException
+     *         if a record of the field is made before the record of a lower version
+     */
+    public static FieldTimeline build(ChangeLog log,
+                                      ChangeIndex index,
+                                      String entityId,
+                                      FieldPath field,
+                                      int checkpointInterval) {
+        checkNotNull(log);
+        checkNotNull(index);
+        checkNotNull(entityId);
+        checkNotNull(field);
+        checkArgument(checkpointInterval > 0,
+                      "The checkpoint interval must be positive, but was %s.",
+                      checkpointInterval);
+        var found = index.find(entityId, field, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        var positions = new long[found.length];
+        var count = 0;
+        var checkpoints = ImmutableList.<Checkpoint>builder();
+        @Nullable Object value = null;
+        @Nullable ChangeRecord previous = null;
+        for (var position : found) {
+            var record = log.read(position, ChangeRecord.parser());
+            if (!record.getEntityId().equals(entityId) || !record.getField().equals(field)) {
+                continue;
+            }
+            if (previous != null) {
+                checkArgument(chronologically.compare(previous.getWhen(), record.getWhen()) <= 0,
+                              "The record of version %s is made before the record of version %s.",
+                              record.getVersion(), previous.getVersion());
+            }
+            if (count % checkpointInterval == 0) {
+                checkpoints.add(new Checkpoint(record.getWhen(), count, value));
+            }
+            value = apply(value, record);
+            positions[count++] = position;
+            previous = record;
+        }
+        var result = new FieldTimeline(log, Arrays.copyOf(positions, count),
+                                       checkpoints.build());
+        return result;
+    }
+
+    /**
+     * Obtains the value of the field at the given moment.
+     *
+     * <p>The values of primitive fields are boxed, the values of {@code bytes} fields are
+     * {@link com.google.protobuf.ByteString ByteString}s, and the values of
+     * {@code Timestamp} fields are {@link Timestamp}s.
+     *
+     * @param when
+     *         the moment to obtain the value at
+     * @return the value, or empty {@code Optional} if no change of the field
+     *         was made by the moment
+     */
+    public Optional<Object> valueAt(Timestamp when) {
+        checkNotNull(when);
+        var checkpoint = latestCheckpoint(when);
+        if (checkpoint == null) {
+            return Optional.empty();
+        }
+        var value = checkpoint.value;
+        for (var i = checkpoint.record; i < positions.length; i++) {
+            var record = log.read(positions[i], ChangeRecord.parser());
+            if (chronologically.compare(record.getWhen(), when) > 0) {
+                break;
+            }
+            value = apply(value, record);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Obtains the number of the records of the field.
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    /**
+     * Finds the latest checkpoint made not after the given moment.
+     */
+    private @Nullable Checkpoint latestCheckpoint(Timestamp when) {
+        var low = 0;
+        var high = checkpoints.size() - 1;
+        @Nullable Checkpoint result = null;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var checkpoint = checkpoints.get(middle);
+            if (chronologically.compare(checkpoint.when, when) <= 0) {
+                result = checkpoint;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return result;
+    }
+
+    private static @Nullable Object apply(@Nullable Object value, ChangeRecord record) {
+        var change = unpack(record.getChange());
+        if (!ChangeSet.supports(change)) {
+            return value;
+        }
+        if (NumericDeltas.isDelta(change)) {
+            return NumericDeltas.applyTo(change, value);
+        }
+        return Changes.newValueOf(change);
+    }
+
+    /**
+     * The value of the field before one of its records.
+     */
+    private static final class Checkpoint {
+
+        private final Timestamp when;
+        private final int record;
+        private final @Nullable Object value;
+
+        private Checkpoint(Timestamp when, int record, @Nullable Object value) {
+            this.when = when;
+            this.record = record;
+            this.value = value;
+        }
+    }
+}
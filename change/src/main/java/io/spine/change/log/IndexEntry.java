@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.common.hash.HashFunction;
+import io.spine.base.FieldPath;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static com.google.common.hash.Hashing.murmur3_128;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An entry of a {@link ChangeIndex}, which refers to a record of a {@link ChangeLog}.
+ *
+ * <p>The entity ID and the field path are stored as 64-bit hashes, so that all
+ * entries are of the same size. The entries are ordered by the entity, the field,
+ * the version and the position of the record.
+ */
+final class IndexEntry implements Comparable<IndexEntry> {
+
+    /**
+     * The size of a serialized entry in bytes.
+     */
+    static final int SIZE = Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    /** The offset of the field hash in a serialized entry. */
+    static final int FIELD_OFFSET = Long.BYTES;
+
+    /** The offset of the version in a serialized entry. */
+    static final int VERSION_OFFSET = FIELD_OFFSET + Long.BYTES;
+
+    /** The offset of the record position in a serialized entry. */
+    static final int POSITION_OFFSET = VERSION_OFFSET + Integer.BYTES;
+
+    private static final HashFunction HASH = murmur3_128();
+
+    private final long entity;
+    private final long field;
+    private final int version;
+    private final long position;
+
+    IndexEntry(long entity, long field, int version, long position) {
+        this.entity = entity;
+        this.field = field;
+        this.version = version;
+        this.position = position;
+    }
+
+    /**
+     * Creates an entry for the record at the given position.
+     */
+    static IndexEntry of(long position, ChangeRecord record) {
+        return new IndexEntry(entityHash(record.getEntityId()),
+                              fieldHash(record.getField()),
+                              record.getVersion(),
+                              position);
+    }
+
+    /**
+     * Reads an entry from the buffer at the given offset.
+     */
+    static IndexEntry read(ByteBuffer buffer, int offset) {
+        return new IndexEntry(buffer.getLong(offset),
+                              buffer.getLong(offset + FIELD_OFFSET),
+                              buffer.getInt(offset + VERSION_OFFSET),
+                              buffer.getLong(offset + POSITION_OFFSET));
+    }
+
+    static long entityHash(String entityId) {
+        return HASH.hashString(entityId, UTF_8)
+                   .asLong();
+    }
+
+    static long fieldHash(FieldPath field) {
+        var hasher = HASH.newHasher();
+        for (var name : field.getFieldNameList()) {
+            hasher.putString(name, UTF_8)
+                  .putByte((byte) 0);
+        }
+        return hasher.hash()
+                     .asLong();
+    }
+
+    /**
+     * Writes the entry to the buffer at its current position.
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putLong(entity)
+              .putLong(field)
+              .putInt(version)
+              .putLong(position);
+    }
+
+    long entity() {
+        return entity;
+    }
+
+    long field() {
+        return field;
+    }
+
+    int version() {
+        return version;
+    }
+
+    long position() {
+        return position;
+    }
+
+    @Override
+    public int compareTo(IndexEntry other) {
+        var result = Long.compare(entity, other.entity);
+        if (result == 0) {
+            result = Long.compare(field, other.field);
+        }
+        if (result == 0) {
+            result = Integer.compare(version, other.version);
+        }
+        if (result == 0) {
+            result = Long.compare(position, other.position);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IndexEntry)) {
+            return false;
+        }
+        var other = (IndexEntry) o;
+        return entity == other.entity
+                && field == other.field
+                && version == other.version
+                && position == other.position;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entity, field, version, position);
+    }
+}
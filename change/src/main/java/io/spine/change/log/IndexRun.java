@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An immutable file of sorted {@link IndexEntry index entries}.
+ *
+ * <p>The file contains the entries one after another, followed by the position in
+ * the log up to which the records are indexed. As the entries are of the same size,
+ * a range of entries is found by a binary search right in the mapped file.
+ *
+ * <p>A run is written to a temporary file, which is then renamed, so that a run file
+ * is either complete or absent.
+ */
+final class IndexRun {
+
+    private static final Pattern NAME = Pattern.compile("(\\d{8})\\.run");
+    private static final int BUFFER_SIZE = IndexEntry.SIZE * 1024;
+
+    private final int index;
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final long indexedEnd;
+
+    private IndexRun(int index, Path file, MappedByteBuffer buffer) {
+        this.index = index;
+        this.file = file;
+        this.buffer = buffer;
+        var entriesSize = buffer.capacity() - Long.BYTES;
+        checkState(entriesSize >= 0 && entriesSize % IndexEntry.SIZE == 0,
+                   "The index file `%s` is damaged.", file);
+        this.count = entriesSize / IndexEntry.SIZE;
+        this.indexedEnd = buffer.getLong(entriesSize);
+    }
+
+    /**
+     * Writes the entries to a new run file in the passed directory.
+     *
+     * @param directory
+     *         the directory of the index
+     * @param index
+     *         the number of the run
+     * @param entries
+     *         the entries in their natural order
+     * @param indexedEnd
+     *         the position in the log up to which the records are indexed
+     */
+    static IndexRun write(Path directory,
+                          int index,
+                          Iterator<IndexEntry> entries,
+                          long indexedEnd) {
+        var file = directory.resolve(format("%08d.run", index));
+        var temporary = directory.resolve(file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (entries.hasNext()) {
+                if (buffer.remaining() < IndexEntry.SIZE) {
+                    writeFully(channel, buffer);
+                }
+                entries.next()
+                       .writeTo(buffer);
+            }
+            if (buffer.remaining() < Long.BYTES) {
+                writeFully(channel, buffer);
+            }
+            buffer.putLong(indexedEnd);
+            writeFully(channel, buffer);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temporary, file, ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return open(file, index);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Opens an existing run file.
+     */
+    static IndexRun open(Path file, int index) {
+        try (var channel = FileChannel.open(file, READ)) {
+            var buffer = channel.map(READ_ONLY, 0, channel.size());
+            return new IndexRun(index, file, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Obtains the number of the run stored in the passed file, or {@code null} if
+     * the file is not a run.
+     */
+    static @Nullable Integer indexOf(Path file) {
+        var matcher = NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    int index() {
+        return index;
+    }
+
+    /**
+     * Obtains the number of entries in the run.
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Obtains the position in the log up to which the records are indexed by this run.
+     */
+    long indexedEnd() {
+        return indexedEnd;
+    }
+
+    /**
+     * Obtains the entry with the given number.
+     */
+    IndexEntry entry(int number) {
+        return IndexEntry.read(buffer, number * IndexEntry.SIZE);
+    }
+
+    /**
+     * Adds the entries of the given entity field in the range of versions to the list.
+     */
+    void find(long entity, long field, int fromVersion, int toVersion, List<IndexEntry> result) {
+        var low = 0;
+        var high = count;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (isBefore(middle, entity, field, fromVersion)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (var i = low; i < count; i++) {
+            var entry = entry(i);
+            if (entry.entity() != entity
+                    || entry.field() != field
+                    || entry.version() > toVersion) {
+                return;
+            }
+            result.add(entry);
+        }
+    }
+
+    private boolean isBefore(int number, long entity, long field, int version) {
+        var offset = number * IndexEntry.SIZE;
+        var result = Long.compare(buffer.getLong(offset), entity);
+        if (result == 0) {
+            result = Long.compare(buffer.getLong(offset + IndexEntry.FIELD_OFFSET), field);
+        }
+        if (result == 0) {
+            result = Integer.compare(buffer.getInt(offset + IndexEntry.VERSION_OFFSET), version);
+        }
+        return result < 0;
+    }
+
+    /**
+     * Deletes the file of the run.
+     *
+     * <p>The mapped entries stay readable until the run is garbage collected.
+     */
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The configuration of a {@link ChangeLog}.
+ */
+public final class LogOptions {
+
+    /**
+     * The default size of a segment file, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default number of records flushed together under the {@link SyncPolicy#BATCH} policy.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * The default interval between flushes under the {@link SyncPolicy#PERIODIC} policy.
+     */
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * The smallest allowed size of a segment file.
+     */
+    private static final int MIN_SEGMENT_SIZE = 4096;
+
+    private static final LogOptions DEFAULTS = newBuilder().build();
+
+    private final int segmentSize;
+    private final SyncPolicy syncPolicy;
+    private final int batchSize;
+    private final Duration syncInterval;
+
+    private LogOptions(Builder builder) {
+        this.segmentSize = builder.segmentSize;
+        this.syncPolicy = builder.syncPolicy;
+        this.batchSize = builder.batchSize;
+        this.syncInterval = builder.syncInterval;
+    }
+
+    /**
+     * Obtains the default options.
+     *
+     * <p>The default options flush the records {@linkplain SyncPolicy#PERIODIC periodically}.
+     */
+    public static LogOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a new builder of the options.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Obtains the size of a new segment file in bytes.
+     *
+     * <p>A record cannot be larger than a segment.
+     */
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Obtains the policy of flushing the records to the storage device.
+     */
+    public SyncPolicy syncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Obtains the number of records flushed together under the {@link SyncPolicy#BATCH} policy.
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Obtains the interval between flushes under the {@link SyncPolicy#PERIODIC} policy.
+     */
+    public Duration syncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * A builder of {@code LogOptions}.
+     */
+    public static final class Builder {
+
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private SyncPolicy syncPolicy = SyncPolicy.PERIODIC;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private Duration syncInterval = DEFAULT_SYNC_INTERVAL;
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Sets the size of a new segment file in bytes.
+         *
+         * <p>The size of the existing segments does not change.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSegmentSize(int segmentSize) {
+            checkArgument(segmentSize >= MIN_SEGMENT_SIZE,
+                          "The segment size must be at least %s bytes, but was %s.",
+                          MIN_SEGMENT_SIZE, segmentSize);
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets the policy of flushing the records to the storage device.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSyncPolicy(SyncPolicy syncPolicy) {
+            this.syncPolicy = checkNotNull(syncPolicy);
+            return this;
+        }
+
+        /**
+         * Sets the number of records flushed together under the {@link SyncPolicy#BATCH} policy.
+         */
+        @CanIgnoreReturnValue
+        public Builder setBatchSize(int batchSize) {
+            checkArgument(batchSize > 0, "The batch size must be positive, but was %s.",
+                          batchSize);
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the interval between flushes under the {@link SyncPolicy#PERIODIC} policy.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSyncInterval(Duration syncInterval) {
+            checkNotNull(syncInterval);
+            checkArgument(!syncInterval.isNegative(),
+                          "The sync interval cannot be negative, but was %s.", syncInterval);
+            this.syncInterval = syncInterval;
+            return this;
+        }
+
+        /**
+         * Creates the options.
+         */
+        public LogOptions build() {
+            return new LogOptions(this);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A file of a {@link ChangeLog} mapped to memory.
+ *
+ * <p>A segment contains records one after another, starting at the beginning of the file.
+ * Each record consists of an 8-byte header and the serialized message. The header holds
+ * the length of the message and its masked CRC32C checksum, both as 4-byte integers.
+ * The rest of the file after the last record is filled with zeros.
+ *
+ * <p>The checksum is masked so that the header of an empty message is never zero.
+ * A torn write is detected by a checksum which does not match the message.
+ */
+final class Segment {
+
+    /**
+     * The size of the record header in bytes.
+     */
+    static final int HEADER_SIZE = 8;
+
+    private static final int MASK_DELTA = 0xa282ead8;
+    private static final Pattern NAME = Pattern.compile("(\\d{8})\\.segment");
+
+    private final int index;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    /**
+     * The offset after the last record.
+     *
+     * <p>Written only under the lock of the log. Read by the readers without locking.
+     */
+    private volatile int end;
+
+    private Segment(int index, FileChannel channel, MappedByteBuffer buffer) {
+        this.index = index;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    /**
+     * Creates a new segment file of the given size in the passed directory.
+     */
+    static Segment create(Path directory, int index, int size) {
+        try {
+            var channel = FileChannel.open(fileOf(directory, index), CREATE_NEW, READ, WRITE);
+            var buffer = channel.map(READ_WRITE, 0, size);
+            return new Segment(index, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens an existing segment file and finds the end of its valid records.
+     *
+     * <p>If the file ends with a partially written record, the record and anything
+     * after it is erased.
+     */
+    static Segment open(Path file, int index) {
+        try {
+            var channel = FileChannel.open(file, READ, WRITE);
+            var buffer = channel.map(READ_WRITE, 0, channel.size());
+            var segment = new Segment(index, channel, buffer);
+            segment.recover();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Obtains the index of the segment stored in the passed file, or {@code null} if
+     * the file is not a segment.
+     */
+    static @Nullable Integer indexOf(Path file) {
+        var matcher = NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static Path fileOf(Path directory, int index) {
+        return directory.resolve(format("%08d.segment", index));
+    }
+
+    int index() {
+        return index;
+    }
+
+    /**
+     * Obtains the offset after the last record.
+     */
+    int end() {
+        return end;
+    }
+
+    /**
+     * Tells if a message of the given serialized size fits the rest of the segment.
+     */
+    boolean fits(int size) {
+        return size <= capacity - end - HEADER_SIZE;
+    }
+
+    /**
+     * Writes the message after the last record.
+     *
+     * <p>The message is serialized right into the mapped memory. The length goes last,
+     * so that a record is never visible to the readers before it is complete.
+     *
+     * @return the offset of the record
+     */
+    int append(Message record, int size) {
+        var offset = end;
+        var payload = offset + HEADER_SIZE;
+        try {
+            var output = CodedOutputStream.newInstance(buffer.slice(payload, size));
+            record.writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.putInt(offset + Integer.BYTES, checksum(payload, size));
+        buffer.putInt(offset, size);
+        end = payload + size;
+        return offset;
+    }
+
+    /**
+     * Parses the record at the given offset.
+     */
+    <M extends Message> M read(int offset, Parser<M> parser) {
+        var limit = end;
+        checkArgument(0 <= offset && offset < limit,
+                      "There is no record at the offset %s of the segment %s.", offset, index);
+        var length = buffer.getInt(offset);
+        checkArgument(length <= limit - offset - HEADER_SIZE,
+                      "There is no record at the offset %s of the segment %s.", offset, index);
+        var input = CodedInputStream.newInstance(buffer.slice(offset + HEADER_SIZE, length));
+        try {
+            return parser.parseFrom(input);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(
+                    format("Cannot parse the record at the offset %s of the segment %s.",
+                           offset, index), e);
+        }
+    }
+
+    /**
+     * Obtains the offset of the record following the record at the given offset.
+     */
+    int next(int offset) {
+        return offset + HEADER_SIZE + buffer.getInt(offset);
+    }
+
+    /**
+     * Flushes the passed range of the segment to the storage device.
+     */
+    void force(int from, int to) {
+        if (from < to) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    /**
+     * Releases the file of the segment.
+     */
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void recover() {
+        var offset = 0;
+        for (var next = validEnd(offset); next >= 0; next = validEnd(offset)) {
+            offset = next;
+        }
+        end = offset;
+        erase(offset);
+    }
+
+    /**
+     * Obtains the end of the valid record at the given offset, or {@code -1} if
+     * there is no such record.
+     */
+    private int validEnd(int offset) {
+        if (offset > capacity - HEADER_SIZE) {
+            return -1;
+        }
+        var length = buffer.getInt(offset);
+        var checksum = buffer.getInt(offset + Integer.BYTES);
+        var payload = offset + HEADER_SIZE;
+        if (length < 0 || length > capacity - payload) {
+            return -1;
+        }
+        var zeroFill = length == 0 && checksum == 0;
+        if (zeroFill || checksum(payload, length) != checksum) {
+            return -1;
+        }
+        return payload + length;
+    }
+
+    /**
+     * Fills the segment with zeros starting at the given offset.
+     *
+     * <p>Writes only the non-zero parts, so that the untouched pages of the file
+     * stay unallocated.
+     */
+    private void erase(int from) {
+        var erased = false;
+        var offset = from;
+        for (; offset < capacity && offset % Long.BYTES != 0; offset++) {
+            if (buffer.get(offset) != 0) {
+                buffer.put(offset, (byte) 0);
+                erased = true;
+            }
+        }
+        for (; offset <= capacity - Long.BYTES; offset += Long.BYTES) {
+            if (buffer.getLong(offset) != 0) {
+                buffer.putLong(offset, 0L);
+                erased = true;
+            }
+        }
+        for (; offset < capacity; offset++) {
+            if (buffer.get(offset) != 0) {
+                buffer.put(offset, (byte) 0);
+                erased = true;
+            }
+        }
+        if (erased) {
+            force(from, capacity);
+        }
+    }
+
+    private int checksum(int offset, int length) {
+        var crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        var value = (int) crc.getValue();
+        return ((value >>> 15) | (value << 17)) + MASK_DELTA;
+    }
+}
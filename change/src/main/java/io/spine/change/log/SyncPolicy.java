@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+/**
+ * Defines when the records appended to a {@link ChangeLog} are flushed to the storage device.
+ *
+ * <p>The records which are not flushed yet may be lost if the operating system crashes.
+ * The records survive a crash of the JVM regardless of the policy, as they are written
+ * to the memory shared with the operating system.
+ */
+public enum SyncPolicy {
+
+    /**
+     * Flushes each record right after it is appended.
+     */
+    EVERY_RECORD,
+
+    /**
+     * Flushes the records when the {@linkplain LogOptions#batchSize() number} of
+     * the appended records reaches the limit.
+     */
+    BATCH,
+
+    /**
+     * Flushes the records once per {@linkplain LogOptions#syncInterval() interval}.
+     *
+     * <p>The records are flushed in the background by a thread owned by the log, so appending
+     * does not wait for the storage device. The records appended during the last interval
+     * may be lost if the operating system crashes. The thread is stopped when the log
+     * is {@linkplain ChangeLog#close() closed}.
+     *
+     * <p>If the interval is zero, each record is flushed right after it is appended.
+     */
+    PERIODIC
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.stream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import io.spine.change.log.ChangeRecord;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.base.Time.currentTime;
+import static io.spine.protobuf.AnyPacker.pack;
+
+/**
+ * A publisher of the changes of entity fields as {@link ChangeRecord}s.
+ *
+ * <p>Each subscriber has its own buffer of a fixed size. The records are delivered to
+ * the subscribers as they request them, on the executor of the stream. When the buffer of
+ * a subscriber is full, {@linkplain #publish publishing} waits until the subscriber takes
+ * a record, or cancels its subscription. Thus, a slow subscriber throttles the producers
+ * instead of letting the records pile up in memory.
+ *
+ * <p>The subscribers which process the records in bulk, e.g. to write them to an index,
+ * subscribe to the {@linkplain #batches(int) batches} of records. Each batch contains the
+ * records buffered by the moment of its delivery, so that a batch is never delayed to
+ * be filled up.
+ *
+ * <p>{@linkplain #close() Closing} the stream completes the subscriptions once
+ * the buffered records are delivered.
+ */
+public final class ChangeStream implements Flow.Publisher<ChangeRecord>, AutoCloseable {
+
+    /**
+     * The default number of records buffered for a subscriber.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = Flow.defaultBufferSize();
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final List<ChangeSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * Creates a stream which delivers the records in the common fork-join pool and
+     * buffers the {@linkplain #DEFAULT_BUFFER_SIZE default} number of records.
+     */
+    public ChangeStream() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param executor
+     *         the executor to deliver the records to the subscribers on
+     * @param bufferSize
+     *         the number of records buffered for a subscriber
+     */
+    public ChangeStream(Executor executor, int bufferSize) {
+        checkNotNull(executor);
+        checkArgument(bufferSize > 0,
+                      "The buffer size must be positive, but was %s.", bufferSize);
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Subscribes to the records published to this stream since the moment of subscription.
+     *
+     * <p>If the stream is closed, the subscriber is completed right away.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ChangeRecord> subscriber) {
+        subscribe(subscriber, Deque::poll);
+    }
+
+    /**
+     * Obtains the publisher of the records of this stream grouped into batches.
+     *
+     * <p>A subscriber requests the number of batches. Each batch holds at least one
+     * record, and no more than the given number of records.
+     *
+     * @param maxBatchSize
+     *         the largest number of records in a batch
+     * @return the publisher of the batches
+     */
+    public Flow.Publisher<List<ChangeRecord>> batches(int maxBatchSize) {
+        checkArgument(maxBatchSize > 0,
+                      "The batch size must be positive, but was %s.", maxBatchSize);
+        return subscriber -> subscribe(subscriber, buffer -> drain(buffer, maxBatchSize));
+    }
+
+    private <T> void subscribe(Flow.Subscriber<? super T> subscriber,
+                               Function<Deque<ChangeRecord>, @Nullable T> take) {
+        checkNotNull(subscriber);
+        var subscription =
+                new ChangeSubscription<T>(this, subscriber, executor, bufferSize, take);
+        subscriptions.add(subscription);
+        if (closed) {
+            subscription.complete();
+        } else {
+            subscription.signal();
+        }
+    }
+
+    private static @Nullable ImmutableList<ChangeRecord> drain(Deque<ChangeRecord> buffer, int max) {
+        if (buffer.isEmpty()) {
+            return null;
+        }
+        var result = ImmutableList.<ChangeRecord>builder();
+        for (var i = 0; i < max && !buffer.isEmpty(); i++) {
+            result.add(buffer.poll());
+        }
+        return result.build();
+    }
+
+    /**
+     * Publishes the record to all the current subscribers.
+     *
+     * <p>Waits while the buffer of any of the subscribers is full.
+     *
+     * @throws InterruptedException
+     *         if the thread is interrupted while waiting
+     * @throws IllegalStateException
+     *         if the stream is closed
+     */
+    public void publish(ChangeRecord record) throws InterruptedException {
+        checkNotNull(record);
+        checkState(!closed, "The stream is closed.");
+        for (var subscription : subscriptions) {
+            subscription.put(record);
+        }
+    }
+
+    /**
+     * Publishes the change of the entity field made at the current time.
+     *
+     * @see #publish(ChangeRecord)
+     */
+    public void publish(String entityId, FieldPath field, int version, Message change)
+            throws InterruptedException {
+        checkNotNull(entityId);
+        checkNotNull(field);
+        checkNotNull(change);
+        var record = ChangeRecord.newBuilder()
+                .setEntityId(entityId)
+                .setField(field)
+                .setVersion(version)
+                .setWhen(currentTime())
+                .setChange(pack(change))
+                .build();
+        publish(record);
+    }
+
+    /**
+     * Obtains the number of the current subscribers.
+     */
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Closes the stream, so that no more records can be published.
+     *
+     * <p>The subscribers are completed once they receive the buffered records.
+     * The records published concurrently with closing may not be delivered.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        subscriptions.forEach(ChangeSubscription::complete);
+    }
+
+    void remove(ChangeSubscription<?> subscription) {
+        subscriptions.remove(subscription);
+    }
+}
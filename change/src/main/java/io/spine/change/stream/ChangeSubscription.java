@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.stream;
+
+import io.spine.change.log.ChangeRecord;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A subscription to a {@link ChangeStream} with its own bounded buffer of records.
+ *
+ * <p>The records are delivered to the subscriber by a task run on the executor of
+ * the stream. At most one such task runs at a time, so the subscriber is signalled
+ * sequentially. A task delivers as many items as the subscriber requested and the buffer
+ * holds, and then finishes, so that no thread waits for the subscriber.
+ *
+ * @param <T>
+ *         the type of the items delivered to the subscriber
+ */
+final class ChangeSubscription<T> implements Flow.Subscription {
+
+    private final ChangeStream stream;
+    private final Flow.Subscriber<? super T> subscriber;
+    private final Executor executor;
+
+    /**
+     * Takes the next item from the buffer, or returns {@code null} if the buffer is empty.
+     */
+    private final Function<Deque<ChangeRecord>, @Nullable T> take;
+
+    private final int capacity;
+    private final Deque<ChangeRecord> buffer = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pendingSignals = new AtomicInteger();
+
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile @Nullable Throwable error;
+
+    /**
+     * Tells if the subscriber received {@code onSubscribe()}.
+     *
+     * <p>Accessed only by the delivering task.
+     */
+    private boolean subscribed;
+
+    ChangeSubscription(ChangeStream stream,
+                       Flow.Subscriber<? super T> subscriber,
+                       Executor executor,
+                       int capacity,
+                       Function<Deque<ChangeRecord>, @Nullable T> take) {
+        this.stream = stream;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.take = take;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException(
+                    "The number of requested items must be positive, but was " + n + '.');
+        } else {
+            demand.getAndAccumulate(n, ChangeSubscription::addCapped);
+        }
+        signal();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        stream.remove(this);
+        lock.lock();
+        try {
+            buffer.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the record to the buffer, waiting while the buffer is full.
+     *
+     * <p>Returns without adding the record if the subscription is cancelled.
+     */
+    void put(ChangeRecord record) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (buffer.size() >= capacity && !cancelled) {
+                notFull.await();
+            }
+            if (cancelled) {
+                return;
+            }
+            buffer.add(record);
+        } finally {
+            lock.unlock();
+        }
+        signal();
+    }
+
+    /**
+     * Completes the subscription once the buffered records are delivered.
+     */
+    void complete() {
+        completed = true;
+        signal();
+    }
+
+    /**
+     * Schedules the delivery of the buffered items, unless it is already scheduled.
+     */
+    void signal() {
+        if (pendingSignals.getAndIncrement() == 0) {
+            executor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        var missed = 1;
+        do {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            deliverRequested();
+            missed = pendingSignals.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliverRequested() {
+        while (!cancelled) {
+            var failure = error;
+            if (failure != null) {
+                cancel();
+                subscriber.onError(failure);
+                return;
+            }
+            var requested = demand.get();
+            var item = requested > 0 ? next() : null;
+            if (item == null) {
+                if (completed && isEmpty()) {
+                    cancel();
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            if (requested != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            try {
+                subscriber.onNext(item);
+            } catch (RuntimeException e) {
+                cancel();
+                subscriber.onError(e);
+                return;
+            }
+        }
+    }
+
+    private @Nullable T next() {
+        lock.lock();
+        try {
+            var result = take.apply(buffer);
+            if (result != null) {
+                notFull.signalAll();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isEmpty() {
+        lock.lock();
+        try {
+            return buffer.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long addCapped(long current, long n) {
+        var result = current + n;
+        return result < 0 ? Long.MAX_VALUE : result;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.log.ChangeCodec;
+import io.spine.change.log.ChangeRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks which operations report the created changes and mismatches.
+ *
+ * <p>The tests run with {@link InMemoryChangeMetrics} listed in
+ * {@code META-INF/services}, and check the difference in the numbers of
+ * the reported messages made by an operation.
+ */
+@DisplayName("`ChangeMetrics` should")
+class ChangeMetricsTest {
+
+    private static final FieldPath VALUE = FieldPath.newBuilder()
+            .addFieldName("value")
+            .build();
+
+    @Test
+    @DisplayName("be loaded from the classpath")
+    void loaded() {
+        assertInstanceOf(InMemoryChangeMetrics.class, ChangeMetrics.installed());
+    }
+
+    @Nested
+    @DisplayName("receive the messages created by")
+    class Receive {
+
+        @Test
+        @DisplayName("`Changes`")
+        void changes() {
+            assertChanges(1, () -> Changes.ofInt32(1, 2));
+            assertChanges(1, () -> Changes.of("a", "b"));
+        }
+
+        @Test
+        @DisplayName("`ChangeBatch`, counting a list message once")
+        void batch() {
+            int[] previousValues = {1, 2};
+            int[] newValues = {3, 4};
+            assertChanges(2, () -> ChangeBatch.ofInt32(previousValues, newValues));
+            assertChanges(1, () -> ChangeBatch.packInt32(previousValues, newValues));
+        }
+
+        @Test
+        @DisplayName("the `*Mismatch` utility classes")
+        void mismatches() {
+            assertMismatches(1, () -> IntMismatch.unexpectedValue(1, 2, 3, 4));
+            assertMismatches(1, () -> StringMismatch.expectedEmpty("a", "b", 4));
+            assertMismatches(1, () -> BooleanMismatch.expectedTrue(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("not receive the messages created by")
+    class NotReceive {
+
+        @Test
+        @DisplayName("`MessageDiff`")
+        void diff() {
+            var previous = Timestamp.newBuilder()
+                    .setSeconds(1)
+                    .build();
+            var next = Timestamp.newBuilder()
+                    .setSeconds(2)
+                    .setNanos(3)
+                    .build();
+            assertChanges(0, () -> MessageDiff.of(previous, next));
+        }
+
+        @Test
+        @DisplayName("`ChangeSet` combining changes")
+        void combine() {
+            var earlier = Changes.ofInt32(1, 2);
+            var later = Changes.ofInt32(2, 3);
+            var changes = new ChangeSet().add(VALUE, earlier);
+
+            assertChanges(0, () -> changes.add(VALUE, later));
+            assertEquals(Changes.ofInt32(1, 3), changes.changes().get(VALUE));
+        }
+
+        @Test
+        @DisplayName("`ChangeApplier` discovering a mismatch")
+        void apply() {
+            var change = Changes.ofInt32(1, 2);
+            var builder = Int32Value.newBuilder()
+                    .setValue(5);
+
+            var mismatch = assertMismatches(0, () -> ChangeApplier.apply(builder, VALUE,
+                                                                         change, 4));
+            assertTrue(mismatch.isPresent());
+        }
+
+        @Test
+        @DisplayName("`ChangeCodec` decoding records")
+        void decode() {
+            var codec = ChangeCodec.forType(Int32Value.getDescriptor());
+            var record = ChangeRecord.newBuilder()
+                    .setEntityId("counter")
+                    .setField(VALUE)
+                    .setVersion(4)
+                    .setChange(pack(Changes.ofInt32(1, 2)))
+                    .build();
+            var encoded = codec.encode(List.of(record));
+
+            assertChanges(0, () -> codec.decode(encoded));
+        }
+    }
+
+    private static InMemoryChangeMetrics metrics() {
+        return (InMemoryChangeMetrics) ChangeMetrics.installed();
+    }
+
+    /**
+     * Checks the number of the changes reported during the operation.
+     *
+     * @return the result of the operation
+     */
+    @CanIgnoreReturnValue
+    private static <T> T assertChanges(long expected, Supplier<T> operation) {
+        var before = metrics().changeLatency().count();
+        var result = operation.get();
+        var reported = metrics().changeLatency().count() - before;
+        assertEquals(expected, reported);
+        return result;
+    }
+
+    /**
+     * Checks the number of the mismatches reported during the operation.
+     *
+     * @return the result of the operation
+     */
+    @CanIgnoreReturnValue
+    private static <T> T assertMismatches(long expected, Supplier<T> operation) {
+        var before = metrics().mismatchLatency().count();
+        var result = operation.get();
+        var reported = metrics().mismatchLatency().count() - before;
+        assertEquals(expected, reported);
+        return result;
+    }
+}
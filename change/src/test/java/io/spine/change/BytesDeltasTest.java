@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.ByteString;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.google.protobuf.ByteString.copyFrom;
+import static com.google.protobuf.ByteString.copyFromUtf8;
+import static io.spine.change.BytesDeltas.apply;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`BytesDeltas` utility should")
+class BytesDeltasTest extends UtilityClassTest<BytesDeltas> {
+
+    private static final int MEGABYTE = 1024 * 1024;
+
+    BytesDeltasTest() {
+        super(BytesDeltas.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(ByteString.class, ByteString.EMPTY);
+    }
+
+    @Nested
+    @DisplayName("create a delta which restores the new value")
+    class Restore {
+
+        @Test
+        @DisplayName("after changing a few bytes of a large value")
+        void fewBytes() {
+            var previousValue = randomBytes(MEGABYTE);
+            var newValue = previousValue.substring(0, 1000)
+                                        .concat(copyFromUtf8("changed"))
+                                        .concat(previousValue.substring(1007));
+
+            var delta = BytesDeltas.of(previousValue, newValue);
+
+            assertEquals(newValue, apply(delta, previousValue));
+            assertTrue(delta.getSerializedSize() < 4096);
+        }
+
+        @Test
+        @DisplayName("after appending bytes")
+        void append() {
+            var previousValue = randomBytes(100_000);
+            var newValue = previousValue.concat(copyFromUtf8("tail"));
+
+            assertRestores(previousValue, newValue);
+        }
+
+        @Test
+        @DisplayName("after removing a range")
+        void remove() {
+            var previousValue = randomBytes(100_000);
+            var newValue = previousValue.substring(0, 10_000)
+                                        .concat(previousValue.substring(50_000));
+
+            assertRestores(previousValue, newValue);
+        }
+
+        @Test
+        @DisplayName("after moving blocks")
+        void move() {
+            var previousValue = randomBytes(100_000);
+            var newValue = previousValue.substring(60_000)
+                                        .concat(previousValue.substring(0, 60_000));
+
+            assertRestores(previousValue, newValue);
+        }
+
+        @Test
+        @DisplayName("for small values")
+        void small() {
+            assertRestores(copyFromUtf8("abc"), copyFromUtf8("abd"));
+            assertRestores(ByteString.EMPTY, copyFromUtf8("abc"));
+            assertRestores(copyFromUtf8("abc"), ByteString.EMPTY);
+        }
+
+        @Test
+        @DisplayName("for unrelated values")
+        void unrelated() {
+            assertRestores(randomBytes(10_000), randomBytes(10_000));
+        }
+    }
+
+    @Test
+    @DisplayName("convert a delta to `BytesChange`")
+    void toChange() {
+        var previousValue = copyFromUtf8("previous");
+        var newValue = copyFromUtf8("new");
+        var delta = BytesDeltas.of(previousValue, newValue);
+
+        assertEquals(Changes.of(previousValue, newValue),
+                     BytesDeltas.toChange(delta, previousValue));
+    }
+
+    @Test
+    @DisplayName("not accept equal values")
+    void equalValues() {
+        var value = copyFromUtf8("same");
+        assertThrows(IllegalArgumentException.class, () -> BytesDeltas.of(value, value));
+    }
+
+    @Test
+    @DisplayName("not apply a delta to another previous value")
+    void anotherPreviousValue() {
+        var delta = BytesDeltas.of(copyFromUtf8("previous"), copyFromUtf8("new"));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> apply(delta, copyFromUtf8("other")));
+    }
+
+    private static void assertRestores(ByteString previousValue, ByteString newValue) {
+        var delta = BytesDeltas.of(previousValue, newValue);
+        assertEquals(newValue, apply(delta, previousValue));
+    }
+
+    private static ByteString randomBytes(int size) {
+        var bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return copyFrom(bytes);
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.given.Assignee;
+import io.spine.change.given.Project;
+import io.spine.change.given.Status;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.google.protobuf.ByteString.copyFromUtf8;
+import static io.spine.change.ChangeApplier.apply;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ChangeApplier` should")
+class ChangeApplierTest extends UtilityClassTest<ChangeApplier> {
+
+    private static final int VERSION = 42;
+
+    private static final Project PROJECT = Project.newBuilder()
+            .setName("Applier")
+            .setPriority(3)
+            .setBudget(100_000L)
+            .setProgress(0.25)
+            .setLogo(copyFromUtf8("logo"))
+            .setStatus(Status.ACTIVE)
+            .setDeadline(Timestamp.newBuilder().setSeconds(1_700_000_000L))
+            .setOwner(Assignee.newBuilder()
+                              .setName("Jane Doe")
+                              .setEmail("jane@example.com"))
+            .build();
+
+    ChangeApplierTest() {
+        super(ChangeApplier.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(Message.Builder.class, Project.newBuilder())
+              .setDefault(FieldPath.class, path("name"))
+              .setDefault(Message.class, Changes.of("", "name"));
+    }
+
+    @Nested
+    @DisplayName("set the new value of")
+    class Apply {
+
+        @Test
+        @DisplayName("a `string` field")
+        void stringField() {
+            var builder = PROJECT.toBuilder();
+
+            var mismatch = apply(builder, path("name"), Changes.of("Applier", "Patcher"), VERSION);
+
+            assertTrue(mismatch.isEmpty());
+            assertEquals("Patcher", builder.getName());
+        }
+
+        @Test
+        @DisplayName("numeric fields")
+        void numericFields() {
+            var builder = PROJECT.toBuilder();
+
+            var mismatches = ChangeApplier.applyAll(builder, ImmutableMap.of(
+                    path("priority"), Changes.ofInt32(3, 1),
+                    path("budget"), Changes.ofInt64(100_000L, 120_000L),
+                    path("progress"), Changes.of(0.25, 0.5)
+            ), VERSION);
+
+            assertTrue(mismatches.isEmpty());
+            assertEquals(1, builder.getPriority());
+            assertEquals(120_000L, builder.getBudget());
+            assertEquals(0.5, builder.getProgress());
+        }
+
+        @Test
+        @DisplayName("an enum field by the number of the value")
+        void enumField() {
+            var builder = PROJECT.toBuilder();
+            var change = Changes.ofInt32(Status.ACTIVE_VALUE, Status.DONE_VALUE);
+
+            var mismatch = apply(builder, path("status"), change, VERSION);
+
+            assertTrue(mismatch.isEmpty());
+            assertEquals(Status.DONE, builder.getStatus());
+        }
+
+        @Test
+        @DisplayName("a `Timestamp` field")
+        void timestampField() {
+            var builder = PROJECT.toBuilder();
+            var newDeadline = Timestamp.newBuilder()
+                    .setSeconds(1_800_000_000L)
+                    .build();
+
+            var mismatch = apply(builder, path("deadline"),
+                                 Changes.of(PROJECT.getDeadline(), newDeadline), VERSION);
+
+            assertTrue(mismatch.isEmpty());
+            assertEquals(newDeadline, builder.getDeadline());
+        }
+
+        @Test
+        @DisplayName("a field of a nested message")
+        void nestedField() {
+            var builder = PROJECT.toBuilder();
+            var change = Changes.of("jane@example.com", "jane.doe@example.com");
+
+            var mismatch = apply(builder, path("owner", "email"), change, VERSION);
+
+            assertTrue(mismatch.isEmpty());
+            assertEquals("jane.doe@example.com", builder.getOwner().getEmail());
+        }
+    }
+
+    @Test
+    @DisplayName("add numeric deltas to the current values of the fields")
+    void deltas() {
+        var builder = PROJECT.toBuilder();
+
+        var mismatches = ChangeApplier.applyAll(builder, ImmutableMap.of(
+                path("budget"), Changes.ofInt64Delta(-1_000L),
+                path("progress"), Changes.ofDoubleDelta(0.5)
+        ), VERSION);
+
+        assertTrue(mismatches.isEmpty());
+        assertEquals(99_000L, builder.getBudget());
+        assertEquals(0.75, builder.getProgress());
+    }
+
+    @Test
+    @DisplayName("restore the new message from its diff")
+    void applyDiff() {
+        var changed = PROJECT.toBuilder()
+                .setName("Patcher")
+                .setArchived(true)
+                .setLogo(copyFromUtf8("new logo"))
+                .setStatus(Status.DONE)
+                .setOwner(Assignee.newBuilder().setName("John Doe"))
+                .build();
+        var builder = PROJECT.toBuilder();
+
+        var mismatches = ChangeApplier.applyAll(builder, MessageDiff.of(PROJECT, changed),
+                                                VERSION);
+
+        assertTrue(mismatches.isEmpty());
+        assertEquals(changed, builder.build());
+    }
+
+    @Test
+    @DisplayName("restore the presence of a nested message from a diff")
+    void applyPresence() {
+        var unset = PROJECT.toBuilder()
+                .clearOwner()
+                .build();
+        var empty = PROJECT.toBuilder()
+                .setOwner(Assignee.getDefaultInstance())
+                .build();
+
+        var set = unset.toBuilder();
+        var cleared = PROJECT.toBuilder();
+        ChangeApplier.applyAll(set, MessageDiff.of(unset, empty), VERSION);
+        ChangeApplier.applyAll(cleared, MessageDiff.of(PROJECT, unset), VERSION);
+
+        assertEquals(empty, set.build());
+        assertEquals(unset, cleared.build());
+    }
+
+    @Nested
+    @DisplayName("report a mismatch and keep the field intact if the current value")
+    class Mismatch {
+
+        @Test
+        @DisplayName("differs from the previous `string` value")
+        void stringField() {
+            var builder = PROJECT.toBuilder();
+
+            var mismatch = apply(builder, path("name"), Changes.of("Diff", "Patcher"), VERSION);
+
+            assertEquals(StringMismatch.unexpectedValue("Diff", "Applier", "Patcher", VERSION),
+                         mismatch.orElseThrow());
+            assertEquals("Applier", builder.getName());
+        }
+
+        @Test
+        @DisplayName("differs from the previous `int64` value")
+        void longField() {
+            var builder = PROJECT.toBuilder();
+
+            var mismatch = apply(builder, path("budget"), Changes.ofInt64(1L, 2L), VERSION);
+
+            assertEquals(LongMismatch.unexpectedValue(1L, 100_000L, 2L, VERSION),
+                         mismatch.orElseThrow());
+            assertEquals(100_000L, builder.getBudget());
+        }
+
+        @Test
+        @DisplayName("differs from the previous `bool` value")
+        void boolField() {
+            var builder = PROJECT.toBuilder();
+
+            var mismatch = apply(builder, path("archived"), Changes.of(true, false), VERSION);
+
+            assertEquals(BooleanMismatch.expectedTrue(VERSION), mismatch.orElseThrow());
+        }
+
+        @Test
+        @DisplayName("of a nested field differs from the previous value")
+        void nestedField() {
+            var builder = PROJECT.toBuilder();
+            var change = Changes.of("john@example.com", "john.doe@example.com");
+
+            var mismatch = apply(builder, path("owner", "email"), change, VERSION);
+
+            assertTrue(mismatch.isPresent());
+            assertEquals(PROJECT.getOwner(), builder.getOwner());
+        }
+    }
+
+    @Test
+    @DisplayName("apply other changes if some of them conflict")
+    void skipConflicts() {
+        var builder = PROJECT.toBuilder();
+        var changes = ImmutableMap.of(
+                path("name"), Changes.of("Diff", "Patcher"),
+                path("priority"), Changes.ofInt32(3, 5)
+        );
+
+        var mismatches = ChangeApplier.applyAll(builder, changes, VERSION);
+
+        assertEquals(1, mismatches.size());
+        assertEquals("Applier", builder.getName());
+        assertEquals(5, builder.getPriority());
+    }
+
+    @Nested
+    @DisplayName("not accept")
+    class NotAccept {
+
+        @Test
+        @DisplayName("a path to a missing field")
+        void missingField() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(PROJECT.toBuilder(), path("title"),
+                                     Changes.of("a", "b"), VERSION));
+        }
+
+        @Test
+        @DisplayName("a path to a repeated field")
+        void repeatedField() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(PROJECT.toBuilder(), path("tag"),
+                                     Changes.of("a", "b"), VERSION));
+        }
+
+        @Test
+        @DisplayName("a change of another field type")
+        void wrongType() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(PROJECT.toBuilder(), path("name"),
+                                     Changes.ofInt32(1, 2), VERSION));
+        }
+
+        @Test
+        @DisplayName("a delta of another field type")
+        void wrongDeltaType() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(PROJECT.toBuilder(), path("priority"),
+                                     Changes.ofInt64Delta(1L), VERSION));
+        }
+
+        @Test
+        @DisplayName("a decimal delta of a field which does not hold a decimal number")
+        void notDecimal() {
+            var exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> apply(PROJECT.toBuilder(), path("name"),
+                                Changes.ofDecimalDelta(BigDecimal.ONE), VERSION));
+            assertTrue(exception.getMessage()
+                                .contains(Project.getDescriptor()
+                                                 .findFieldByName("name")
+                                                 .getFullName()));
+        }
+
+        @Test
+        @DisplayName("a message which is not a change")
+        void notChange() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(PROJECT.toBuilder(), path("owner"),
+                                     Assignee.getDefaultInstance(), VERSION));
+        }
+    }
+
+    @Test
+    @DisplayName("keep the nested message unset if the change is not applied")
+    void keepNestedUnset() {
+        var builder = Project.newBuilder();
+
+        var mismatch = apply(builder, path("owner", "name"), Changes.of("John", "Jane"), VERSION);
+
+        assertTrue(mismatch.isPresent());
+        assertFalse(builder.hasOwner());
+    }
+
+    private static FieldPath path(String... fieldNames) {
+        return FieldPath.newBuilder()
+                .addAllFieldName(List.of(fieldNames))
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ChangeBatch` utility should")
+class ChangeBatchTest extends UtilityClassTest<ChangeBatch> {
+
+    ChangeBatchTest() {
+        super(ChangeBatch.class);
+    }
+
+    @Nested
+    @DisplayName("create a list of changes for values of type")
+    class CreateList {
+
+        @Test
+        @DisplayName("`int`")
+        void ints() {
+            var result = ChangeBatch.ofInt32(new int[]{1, 2}, new int[]{3, 4});
+
+            assertEquals(2, result.size());
+            assertEquals(Changes.ofInt32(1, 3), result.get(0));
+            assertEquals(Changes.ofInt32(2, 4), result.get(1));
+        }
+
+        @Test
+        @DisplayName("`long`")
+        void longs() {
+            var result = ChangeBatch.ofInt64(new long[]{1L, 2L}, new long[]{3L, 4L});
+
+            assertEquals(Changes.ofInt64(1L, 3L), result.get(0));
+            assertEquals(Changes.ofInt64(2L, 4L), result.get(1));
+        }
+
+        @Test
+        @DisplayName("`float`")
+        void floats() {
+            var result = ChangeBatch.of(new float[]{1.0f}, new float[]{3.0f});
+
+            assertEquals(Changes.of(1.0f, 3.0f), result.get(0));
+        }
+
+        @Test
+        @DisplayName("`double`")
+        void doubles() {
+            var result = ChangeBatch.of(new double[]{1.0, 2.0}, new double[]{3.0, 4.0});
+
+            assertEquals(Changes.of(1.0, 3.0), result.get(0));
+            assertEquals(Changes.of(2.0, 4.0), result.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("create a packed list of changes for values of type")
+    class CreatePacked {
+
+        @Test
+        @DisplayName("`int`")
+        void ints() {
+            var result = ChangeBatch.packInt32(new int[]{1, 2}, new int[]{3, 4});
+
+            assertEquals(2, result.getPreviousValueCount());
+            assertEquals(1, result.getPreviousValue(0));
+            assertEquals(4, result.getNewValue(1));
+        }
+
+        @Test
+        @DisplayName("`long`")
+        void longs() {
+            var result = ChangeBatch.packInt64(new long[]{1L, 2L}, new long[]{3L, 4L});
+
+            assertEquals(2, result.getNewValueCount());
+            assertEquals(2L, result.getPreviousValue(1));
+            assertEquals(3L, result.getNewValue(0));
+        }
+
+        @Test
+        @DisplayName("`float`")
+        void floats() {
+            var result = ChangeBatch.pack(new float[]{1.0f}, new float[]{3.0f});
+
+            assertEquals(1.0f, result.getPreviousValue(0));
+            assertEquals(3.0f, result.getNewValue(0));
+        }
+
+        @Test
+        @DisplayName("`double`")
+        void doubles() {
+            var result = ChangeBatch.pack(new double[]{1.0}, new double[]{3.0});
+
+            assertEquals(1.0, result.getPreviousValue(0));
+            assertEquals(3.0, result.getNewValue(0));
+        }
+    }
+
+    @Test
+    @DisplayName("accept empty arrays")
+    void emptyArrays() {
+        assertTrue(ChangeBatch.ofInt64(new long[0], new long[0]).isEmpty());
+        assertEquals(0, ChangeBatch.packInt64(new long[0], new long[0]).getNewValueCount());
+    }
+
+    @Test
+    @DisplayName("not accept arrays of different length")
+    void differentLength() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> ChangeBatch.ofInt64(new long[]{1L}, new long[]{2L, 3L}));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ChangeBatch.pack(new double[]{1.0, 2.0}, new double[]{3.0}));
+    }
+
+    @Test
+    @DisplayName("not accept equal values at the same index")
+    void equalValues() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> ChangeBatch.ofInt32(new int[]{1, 2}, new int[]{3, 2}));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ChangeBatch.packInt64(new long[]{1L, 2L}, new long[]{1L, 3L}));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ChangeBatch.of(new float[]{Float.NaN}, new float[]{Float.NaN}));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ChangeBatch.pack(new double[]{0.5}, new double[]{0.5}));
+    }
+}
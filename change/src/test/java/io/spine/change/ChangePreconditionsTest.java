@@ -27,16 +27,29 @@
 package io.spine.change;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
 import io.spine.testing.UtilityClassTest;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+
+import static io.spine.change.ChangePreconditions.checkMismatch;
 import static io.spine.change.ChangePreconditions.checkNewValueNotEmpty;
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("`ChangePreconditions` utility should")
 class ChangePreconditionsTest extends UtilityClassTest<ChangePreconditions> {
 
+    private static final int ITERATIONS = 100_000;
+    private static final int VERSION = 7;
+
     ChangePreconditionsTest() {
         super(ChangePreconditions.class);
     }
@@ -54,4 +67,105 @@ class ChangePreconditionsTest extends UtilityClassTest<ChangePreconditions> {
         var str = "";
         assertThrows(IllegalArgumentException.class, () -> checkNewValueNotEmpty(str));
     }
+
+    @Nested
+    @DisplayName("compare primitive expected and actual values")
+    class PrimitiveValues {
+
+        /** The last created mismatch, which keeps the JIT from eliminating the allocations. */
+        private @Nullable Message last;
+
+        @Test
+        @DisplayName("rejecting equal values")
+        void equal() {
+            assertThrows(IllegalArgumentException.class, () -> checkMismatch(7, 7));
+            assertThrows(IllegalArgumentException.class, () -> checkMismatch(7L, 7L));
+            assertThrows(IllegalArgumentException.class, () -> checkMismatch(0.5f, 0.5f));
+            assertThrows(IllegalArgumentException.class, () -> checkMismatch(0.5, 0.5));
+        }
+
+        @Test
+        @DisplayName("in the same way as the boxed values")
+        void asBoxed() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> checkMismatch(Double.NaN, Double.NaN));
+            assertThrows(IllegalArgumentException.class,
+                         () -> checkMismatch(Float.NaN, Float.NaN));
+            assertDoesNotThrow(() -> checkMismatch(0.0, -0.0));
+            assertDoesNotThrow(() -> checkMismatch(0.0f, -0.0f));
+        }
+
+        @Test
+        @DisplayName("so that creating a mismatch allocates only the mismatch itself")
+        void noAllocation() {
+            var threads = ManagementFactory.getThreadMXBean();
+            assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+            var allocations = (com.sun.management.ThreadMXBean) threads;
+            assumeTrue(allocations.isThreadAllocatedMemorySupported()
+                               && allocations.isThreadAllocatedMemoryEnabled());
+            buildMismatches(1_000);
+            createMismatches(1_000);
+
+            var before = allocations.getCurrentThreadAllocatedBytes();
+            buildMismatches(ITERATIONS);
+            var built = allocations.getCurrentThreadAllocatedBytes() - before;
+            before = allocations.getCurrentThreadAllocatedBytes();
+            createMismatches(ITERATIONS);
+            var created = allocations.getCurrentThreadAllocatedBytes() - before;
+            var overhead = created - built;
+
+            // Boxing would allocate at least 16 bytes per value. The JVM itself may allocate
+            // a few bytes on the thread, e.g. when the loop is compiled.
+            assertTrue(overhead < ITERATIONS,
+                       () -> format("Allocated %d bytes over the mismatches in %d iterations.",
+                                    overhead, ITERATIONS));
+        }
+
+        /**
+         * Creates the mismatches via the factories, which check the expected and actual values.
+         *
+         * <p>The values are outside the range of the values cached by the wrappers and by
+         * {@code MismatchValues}, so that boxing them would allocate.
+         */
+        private void createMismatches(int count) {
+            for (var i = 1_000; i < 1_000 + count; i++) {
+                last = IntMismatch.unexpectedValue(i, -i, i + 1, VERSION);
+                last = LongMismatch.unexpectedValue(i, -i, i + 1, VERSION);
+                last = FloatMismatch.unexpectedValue(i, -i, i + 1, VERSION);
+                last = DoubleMismatch.unexpectedValue(i, -i, i + 1, VERSION);
+            }
+        }
+
+        /**
+         * Builds the same mismatches as {@link #createMismatches(int)} without checking
+         * the values.
+         */
+        private void buildMismatches(int count) {
+            for (var i = 1_000; i < 1_000 + count; i++) {
+                last = mismatch(MismatchValue.newBuilder().setInt32Value(i),
+                                MismatchValue.newBuilder().setInt32Value(-i),
+                                MismatchValue.newBuilder().setInt32Value(i + 1));
+                last = mismatch(MismatchValue.newBuilder().setInt64Value(i),
+                                MismatchValue.newBuilder().setInt64Value(-i),
+                                MismatchValue.newBuilder().setInt64Value(i + 1));
+                last = mismatch(MismatchValue.newBuilder().setFloatValue(i),
+                                MismatchValue.newBuilder().setFloatValue(-i),
+                                MismatchValue.newBuilder().setFloatValue(i + 1));
+                last = mismatch(MismatchValue.newBuilder().setDoubleValue(i),
+                                MismatchValue.newBuilder().setDoubleValue(-i),
+                                MismatchValue.newBuilder().setDoubleValue(i + 1));
+            }
+        }
+
+        private ValueMismatch mismatch(MismatchValue.Builder expected,
+                                       MismatchValue.Builder actual,
+                                       MismatchValue.Builder newValue) {
+            return ValueMismatch.newBuilder()
+                    .setTypedExpected(expected)
+                    .setTypedActual(actual)
+                    .setTypedNewValue(newValue)
+                    .setVersion(VERSION)
+                    .build();
+        }
+    }
 }
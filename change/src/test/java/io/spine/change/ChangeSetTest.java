@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ChangeSet` should")
+class ChangeSetTest {
+
+    private static final FieldPath NAME = path("name");
+    private static final FieldPath BUDGET = path("budget");
+
+    @Nested
+    @DisplayName("combine successive changes of a field")
+    class Combine {
+
+        @Test
+        @DisplayName("into a change from the first previous value to the last new value")
+        void chain() {
+            var changes = new ChangeSet()
+                    .add(NAME, Changes.of("A", "B"))
+                    .add(NAME, Changes.of("B", "C"))
+                    .add(BUDGET, Changes.ofInt64(1L, 2L))
+                    .changes();
+
+            assertEquals(ImmutableMap.of(NAME, Changes.of("A", "C"),
+                                         BUDGET, Changes.ofInt64(1L, 2L)),
+                         changes);
+        }
+
+        @Test
+        @DisplayName("removing the change if the field returns to the previous value")
+        void revert() {
+            var set = new ChangeSet()
+                    .add(BUDGET, Changes.ofInt64(1L, 2L))
+                    .add(BUDGET, Changes.ofInt64(2L, 3L))
+                    .add(BUDGET, Changes.ofInt64(3L, 1L));
+
+            assertTrue(set.isEmpty());
+        }
+
+        @Test
+        @DisplayName("of a `Timestamp` type")
+        void timestamps() {
+            var first = Timestamp.newBuilder().setSeconds(1L).build();
+            var second = Timestamp.newBuilder().setSeconds(2L).build();
+            var third = Timestamp.newBuilder().setSeconds(3L).build();
+            var deadline = path("deadline");
+
+            var changes = new ChangeSet()
+                    .add(deadline, Changes.of(first, second))
+                    .add(deadline, Changes.of(second, third))
+                    .changes();
+
+            assertEquals(Changes.of(first, third), changes.get(deadline));
+        }
+
+        @Test
+        @DisplayName("adding up numeric deltas")
+        void deltas() {
+            var changes = new ChangeSet()
+                    .add(BUDGET, Changes.ofInt64Delta(5L))
+                    .add(BUDGET, Changes.ofInt64Delta(-2L))
+                    .changes();
+
+            assertEquals(ImmutableMap.of(BUDGET, Changes.ofInt64Delta(3L)), changes);
+        }
+
+        @Test
+        @DisplayName("shifting the new value of a change by a following delta")
+        void changeAndDelta() {
+            var changes = new ChangeSet()
+                    .add(BUDGET, Changes.ofInt64(1L, 2L))
+                    .add(BUDGET, Changes.ofInt64Delta(5L))
+                    .changes();
+
+            assertEquals(ImmutableMap.of(BUDGET, Changes.ofInt64(1L, 7L)), changes);
+        }
+    }
+
+    @Test
+    @DisplayName("add all changes from a diff")
+    void addAll() {
+        var set = new ChangeSet()
+                .add(NAME, Changes.of("A", "B"))
+                .addAll(ImmutableMap.of(NAME, Changes.of("B", "C"),
+                                        BUDGET, Changes.ofInt64(1L, 2L)));
+
+        assertEquals(2, set.size());
+        assertEquals(Changes.of("A", "C"), set.changes().get(NAME));
+    }
+
+    @Test
+    @DisplayName("clear the changes")
+    void clear() {
+        var set = new ChangeSet().add(NAME, Changes.of("A", "B"));
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+    }
+
+    @Nested
+    @DisplayName("tell if a change of a field can be added")
+    class CanAdd {
+
+        @Test
+        @DisplayName("when it continues the previous change of the field")
+        void continuing() {
+            var set = new ChangeSet()
+                    .add(NAME, Changes.of("A", "B"))
+                    .add(BUDGET, Changes.ofInt64(1L, 2L));
+
+            assertTrue(set.canAdd(NAME, Changes.of("B", "C")));
+            assertTrue(set.canAdd(BUDGET, Changes.ofInt64Delta(5L)));
+            assertTrue(set.canAdd(path("description"), Changes.of("X", "Y")));
+        }
+
+        @Test
+        @DisplayName("not when it breaks the chain of the changes of the field")
+        void breaking() {
+            var set = new ChangeSet()
+                    .add(NAME, Changes.of("A", "B"))
+                    .add(BUDGET, Changes.ofInt64Delta(5L));
+
+            assertFalse(set.canAdd(NAME, Changes.of("C", "D")));
+            assertFalse(set.canAdd(NAME, Changes.ofInt32(1, 2)));
+            assertFalse(set.canAdd(BUDGET, Changes.ofInt64(1L, 2L)));
+            assertFalse(set.canAdd(BUDGET, Changes.ofDoubleDelta(1.0)));
+            assertFalse(new ChangeSet().add(BUDGET, Changes.ofUInt64(1L, 2L))
+                                       .canAdd(BUDGET, Changes.ofInt64Delta(1L)));
+            assertFalse(set.canAdd(NAME, Timestamp.getDefaultInstance()));
+            assertFalse(set.canAdd(NAME, Changes.ofDecimalDelta(BigDecimal.ONE)));
+        }
+    }
+
+    @Nested
+    @DisplayName("not accept")
+    class NotAccept {
+
+        @Test
+        @DisplayName("a change which does not continue the previous change of the field")
+        void brokenChain() {
+            var set = new ChangeSet().add(NAME, Changes.of("A", "B"));
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> set.add(NAME, Changes.of("C", "D")));
+            assertEquals(Changes.of("A", "B"), set.changes().get(NAME));
+        }
+
+        @Test
+        @DisplayName("a change of another type for the same field")
+        void anotherType() {
+            var set = new ChangeSet().add(NAME, Changes.of("A", "B"));
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> set.add(NAME, Changes.ofInt32(1, 2)));
+        }
+
+        @Test
+        @DisplayName("a change following a delta")
+        void changeAfterDelta() {
+            var set = new ChangeSet().add(BUDGET, Changes.ofInt64Delta(5L));
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> set.add(BUDGET, Changes.ofInt64(1L, 2L)));
+        }
+
+        @Test
+        @DisplayName("a message which is not a change")
+        void notChange() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> new ChangeSet().add(NAME, Timestamp.getDefaultInstance()));
+        }
+    }
+
+    private static FieldPath path(String... fieldNames) {
+        return FieldPath.newBuilder()
+                .addAllFieldName(List.of(fieldNames))
+                .build();
+    }
+}
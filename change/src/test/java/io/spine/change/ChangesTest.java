@@ -37,6 +37,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 import static com.google.protobuf.ByteString.copyFromUtf8;
@@ -426,4 +427,86 @@ class ChangesTest extends UtilityClassTest<Changes> {
             assertThrows(NullPointerException.class, executable);
         }
     }
+
+    @Test
+    @DisplayName("fail to create `String` value change with an empty new value")
+    void emptyString() {
+        assertThrows(IllegalArgumentException.class, () -> Changes.of(randomString(), ""));
+    }
+
+    @Nested
+    @DisplayName("create numeric delta")
+    class CreateDelta {
+
+        @Test
+        @DisplayName("of `int64` field")
+        void int64() {
+            assertEquals(5L, Changes.ofInt64Delta(5L).getDelta());
+        }
+
+        @Test
+        @DisplayName("of `double` field")
+        void doubles() {
+            assertEquals(0.5, Changes.ofDoubleDelta(0.5).getDelta());
+        }
+
+        @Test
+        @DisplayName("of decimal field")
+        void decimal() {
+            var delta = new BigDecimal("12.50");
+
+            assertEquals(delta, NumericDeltas.toBigDecimal(Changes.ofDecimalDelta(delta)));
+        }
+
+        @Test
+        @DisplayName("of decimal field written without an exponent")
+        void plainDecimal() {
+            var delta = new BigDecimal("1E+3");
+
+            assertEquals("1000", Changes.ofDecimalDelta(delta).getDelta());
+        }
+
+        @Test
+        @DisplayName("not accepting zero")
+        void zero() {
+            assertThrows(IllegalArgumentException.class, () -> Changes.ofInt64Delta(0L));
+            assertThrows(IllegalArgumentException.class, () -> Changes.ofDoubleDelta(0.0));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Changes.ofDecimalDelta(BigDecimal.ZERO));
+        }
+
+        @Test
+        @DisplayName("not accepting infinite `double` value")
+        void infinite() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> Changes.ofDoubleDelta(Double.POSITIVE_INFINITY));
+        }
+    }
+
+    @Nested
+    @DisplayName("obtain the new value of")
+    class NewValue {
+
+        @Test
+        @DisplayName("a change of a primitive field")
+        void ofPrimitive() {
+            assertEquals(42L, Changes.newValueOf(Changes.ofInt64(1L, 42L)));
+        }
+
+        @Test
+        @DisplayName("a change of a `Timestamp` field")
+        void ofTimestamp() {
+            var newValue = currentTime();
+            var change = Changes.of(Past.minutesAgo(1), newValue);
+
+            assertEquals(newValue, Changes.newValueOf(change));
+        }
+
+        @Test
+        @DisplayName("not accept a message which is not a change")
+        void notChange() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> Changes.newValueOf(Timestamp.getDefaultInstance()));
+        }
+    }
 }
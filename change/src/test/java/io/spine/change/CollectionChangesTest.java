@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.testing.NullPointerTester;
+import io.spine.change.given.Assignee;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.change.CollectionChanges.apply;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`CollectionChanges` utility should")
+class CollectionChangesTest extends UtilityClassTest<CollectionChanges> {
+
+    CollectionChangesTest() {
+        super(CollectionChanges.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(List.class, ImmutableList.of("a"))
+              .setDefault(Map.class, ImmutableMap.of("a", 1L))
+              .setDefault(Class.class, String.class);
+    }
+
+    @Nested
+    @DisplayName("create `RepeatedChange` which")
+    class Repeated {
+
+        @Test
+        @DisplayName("holds only the added and removed elements")
+        void addedAndRemoved() {
+            var previousValue = List.of("a", "b", "c", "d");
+            var newValue = List.of("a", "x", "c", "d", "y");
+
+            var change = CollectionChanges.of(previousValue, newValue);
+
+            assertEquals(1, change.getRemovedCount());
+            assertEquals(1, change.getRemovedList().get(0).getIndex());
+            assertEquals(2, change.getAddedCount());
+            assertEquals(0, change.getMovedCount());
+            assertEquals(newValue, apply(change, previousValue, String.class));
+        }
+
+        @Test
+        @DisplayName("holds a single move for an element moved across a large list")
+        void move() {
+            var previousValue = range(1000);
+            var newValue = new ArrayList<>(previousValue);
+            newValue.add(0, newValue.remove(999));
+
+            var change = CollectionChanges.of(previousValue, newValue);
+
+            assertEquals(1, change.getMovedCount());
+            assertEquals(0, change.getAddedCount());
+            assertEquals(0, change.getRemovedCount());
+            assertEquals(newValue, apply(change, previousValue, Integer.class));
+        }
+
+        @Test
+        @DisplayName("restores the new value with duplicate elements")
+        void duplicates() {
+            var previousValue = List.of("a", "b", "a", "b", "a");
+            var newValue = List.of("b", "a", "a", "c", "b");
+
+            var change = CollectionChanges.of(previousValue, newValue);
+
+            assertEquals(newValue, apply(change, previousValue, String.class));
+        }
+
+        @Test
+        @DisplayName("restores the new value of message elements")
+        void messages() {
+            var jane = Assignee.newBuilder().setName("Jane").build();
+            var john = Assignee.newBuilder().setName("John").build();
+            var previousValue = List.of(jane);
+            var newValue = List.of(john, jane);
+
+            var change = CollectionChanges.of(previousValue, newValue);
+
+            assertEquals(newValue, apply(change, previousValue, Assignee.class));
+        }
+
+        @Test
+        @DisplayName("restores the new value from an empty list")
+        void fromEmpty() {
+            var newValue = List.of(1L, 2L);
+
+            var change = CollectionChanges.of(List.of(), newValue);
+
+            assertEquals(newValue, apply(change, List.of(), Long.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("create `MapChange` which")
+    class MapEntries {
+
+        @Test
+        @DisplayName("holds only the changed entries")
+        void changedEntries() {
+            var previousValue = ImmutableMap.of("design", 5L, "coding", 8L, "testing", 3L);
+            var newValue = ImmutableMap.of("design", 5L, "coding", 13L, "docs", 2L);
+
+            var change = CollectionChanges.of(previousValue, newValue);
+
+            assertEquals(1, change.getRemovedCount());
+            assertEquals(1, change.getAddedCount());
+            assertEquals(1, change.getChangedCount());
+            assertEquals(newValue, apply(change, previousValue, String.class, Long.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("not accept")
+    class NotAccept {
+
+        @Test
+        @DisplayName("equal lists")
+        void equalLists() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> CollectionChanges.of(List.of("a"), List.of("a")));
+        }
+
+        @Test
+        @DisplayName("equal maps")
+        void equalMaps() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> CollectionChanges.of(Map.of("a", 1), Map.of("a", 1)));
+        }
+
+        @Test
+        @DisplayName("a list of another size to apply a change to")
+        void anotherList() {
+            var change = CollectionChanges.of(List.of("a"), List.of("b"));
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(change, List.of("a", "b"), String.class));
+        }
+
+        @Test
+        @DisplayName("a map without the removed keys to apply a change to")
+        void anotherMap() {
+            var change = CollectionChanges.of(Map.of("a", 1), Map.of("b", 1));
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> apply(change, Map.of("c", 1), String.class, Integer.class));
+        }
+    }
+
+    @Test
+    @DisplayName("not report moves for the elements inserted and removed in the middle")
+    void noMovesForEdits() {
+        var previousValue = range(100);
+        var newValue = new ArrayList<>(previousValue);
+        newValue.remove(10);
+        newValue.add(50, -1);
+
+        var change = CollectionChanges.of(previousValue, newValue);
+
+        assertTrue(change.getMovedList().isEmpty());
+    }
+
+    private static ImmutableList<Integer> range(int size) {
+        return IntStream.range(0, size)
+                        .boxed()
+                        .collect(toImmutableList());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ConcurrentChangeSet` should")
+class ConcurrentChangeSetTest {
+
+    private static final int THREADS = 8;
+    private static final int FIELDS_PER_THREAD = 16;
+    private static final int STEPS = 500;
+
+    @Test
+    @DisplayName("combine successive changes of a field")
+    void combine() {
+        var set = new ConcurrentChangeSet()
+                .add(path("name"), Changes.of("A", "B"))
+                .add(path("name"), Changes.of("B", "C"))
+                .add(path("budget"), Changes.ofInt64(1L, 2L))
+                .add(path("budget"), Changes.ofInt64(2L, 1L));
+
+        assertEquals(Map.of(path("name"), Changes.of("A", "C")), set.flush());
+    }
+
+    @Test
+    @DisplayName("become empty after the flush")
+    void flush() {
+        var set = new ConcurrentChangeSet().add(path("name"), Changes.of("A", "B"));
+
+        assertEquals(1, set.flush().size());
+        assertTrue(set.isEmpty());
+        assertTrue(set.flush().isEmpty());
+    }
+
+    @Test
+    @DisplayName("not accept a change which does not continue the previous change of the field")
+    void brokenChain() {
+        var set = new ConcurrentChangeSet().add(path("name"), Changes.of("A", "B"));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> set.add(path("name"), Changes.of("C", "D")));
+    }
+
+    @Test
+    @DisplayName("accumulate changes from many threads while being flushed")
+    void concurrentChanges() throws Exception {
+        var set = new ConcurrentChangeSet();
+        var flushed = new ArrayList<Map<FieldPath, Message>>();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var tasks = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < THREADS; thread++) {
+                var prefix = "thread" + thread;
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (var step = 0L; step < STEPS; step++) {
+                        for (var field = 0; field < FIELDS_PER_THREAD; field++) {
+                            set.add(path(prefix, "field" + field),
+                                    Changes.ofInt64(step, step + 1));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var task : tasks) {
+                while (!task.isDone()) {
+                    flushed.add(set.flush());
+                }
+                task.get();
+            }
+            flushed.add(set.flush());
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        var total = new ChangeSet();
+        flushed.forEach(total::addAll);
+        var changes = total.changes();
+        assertEquals(THREADS * FIELDS_PER_THREAD, changes.size());
+        changes.values()
+               .forEach(change -> assertEquals(Changes.ofInt64(0L, STEPS), change));
+    }
+
+    private static FieldPath path(String... fieldNames) {
+        return FieldPath.newBuilder()
+                .addAllFieldName(List.of(fieldNames))
+                .build();
+    }
+}
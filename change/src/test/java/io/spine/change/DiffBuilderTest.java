@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.given.Assignee;
+import io.spine.change.given.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.protobuf.ByteString.copyFromUtf8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`DiffBuilder` should")
+class DiffBuilderTest {
+
+    private ImmutableMap.Builder<FieldPath, Message> changes;
+    private DiffBuilder diff;
+
+    @BeforeEach
+    void createBuilder() {
+        changes = ImmutableMap.builder();
+        diff = new DiffBuilder(FieldPath.getDefaultInstance(), changes);
+    }
+
+    @Test
+    @DisplayName("not report equal values")
+    void skipEqual() {
+        diff.compare("name", "Jane", "Jane")
+            .compareInt64("budget", 42L, 42L)
+            .compare("progress", 0.5, 0.5)
+            .compare("logo", copyFromUtf8("logo"), copyFromUtf8("logo"))
+            .compare("status", Status.DONE, Status.DONE);
+
+        assertTrue(changes.build().isEmpty());
+    }
+
+    @Test
+    @DisplayName("report changes with the types matching the field types")
+    void reportChanges() {
+        var previousTime = Timestamp.newBuilder().setSeconds(1).build();
+        var newTime = Timestamp.newBuilder().setSeconds(2).build();
+        diff.compare("name", "Jane", "John")
+            .compareInt32("priority", 1, 2)
+            .compareUInt64("budget", 10L, 20L)
+            .compare("archived", false, true)
+            .compare("deadline", previousTime, newTime)
+            .compare("status", Status.ACTIVE, Status.DONE);
+
+        var result = changes.build();
+
+        assertEquals(Changes.of("Jane", "John"), result.get(path("name")));
+        assertEquals(Changes.ofInt32(1, 2), result.get(path("priority")));
+        assertEquals(Changes.ofUInt64(10L, 20L), result.get(path("budget")));
+        assertEquals(Changes.of(false, true), result.get(path("archived")));
+        assertEquals(Changes.of(previousTime, newTime), result.get(path("deadline")));
+        assertEquals(Changes.ofInt32(Status.ACTIVE_VALUE, Status.DONE_VALUE),
+                     result.get(path("status")));
+    }
+
+    @Test
+    @DisplayName("report clearing of a field as `Changes` does")
+    void clearing() {
+        diff.compare("name", "Jane", "")
+            .compare("logo", copyFromUtf8("logo"), ByteString.EMPTY);
+
+        var result = changes.build();
+
+        assertEquals(cleared("Jane"), result.get(path("name")));
+        assertEquals(Changes.of(copyFromUtf8("logo"), ByteString.EMPTY),
+                     result.get(path("logo")));
+    }
+
+    @Test
+    @DisplayName("report changed fields of nested messages")
+    void nested() {
+        var previous = Assignee.newBuilder()
+                .setName("Jane")
+                .setEmail("jane@example.com")
+                .build();
+        var changed = previous.toBuilder()
+                .setEmail("jane.doe@example.com")
+                .build();
+
+        diff.compare("owner", previous, changed);
+
+        var result = changes.build();
+        assertEquals(1, result.size());
+        assertEquals(Changes.of("jane@example.com", "jane.doe@example.com"),
+                     result.get(path("owner", "email")));
+    }
+
+    private static FieldPath path(String... fieldNames) {
+        var result = FieldPath.newBuilder();
+        for (var name : fieldNames) {
+            result.addFieldName(name);
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates the change of a {@code string} field being cleared, which cannot be
+     * created by {@link Changes}.
+     */
+    private static StringChange cleared(String previousValue) {
+        return StringChange.newBuilder()
+                .setPreviousValue(previousValue)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.protobuf.StringValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("`InMemoryChangeMetrics` should")
+class InMemoryChangeMetricsTest {
+
+    private static final String INT32_CHANGE = "spine.change.Int32Change";
+
+    @Test
+    @DisplayName("count the changes and their sizes by type")
+    void changes() {
+        var metrics = new InMemoryChangeMetrics();
+        var change = Changes.ofInt32(1, 2);
+
+        metrics.changeCreated(change, 100L);
+        metrics.changeCreated(change, 200L);
+
+        assertEquals(2L, metrics.changeCounts().get(INT32_CHANGE));
+        assertEquals(2L * change.getSerializedSize(), metrics.changeSizes().get(INT32_CHANGE));
+        assertEquals(2L, metrics.changeLatency().count());
+    }
+
+    @Test
+    @DisplayName("count the mismatches by type of their values")
+    void mismatches() {
+        var metrics = new InMemoryChangeMetrics();
+        var primitive = IntMismatch.of(1, 2, 3, 4);
+        var message = MessageMismatch.unexpectedValue(StringValue.of("a"), StringValue.of("b"),
+                                                      StringValue.of("c"), 4);
+
+        metrics.mismatchCreated(primitive, 10L);
+        metrics.mismatchCreated(message, 20L);
+
+        var counts = metrics.mismatchCounts();
+        assertEquals(1L, counts.get("int32_value"));
+        assertEquals(1L, counts.get("google.protobuf.StringValue"));
+        assertEquals((long) message.getSerializedSize(),
+                     metrics.mismatchSizes().get("google.protobuf.StringValue"));
+        assertEquals(2L, metrics.mismatchLatency().count());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableSortedMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`LatencyHistogram` should")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("count the recorded durations")
+    void count() {
+        var histogram = new LatencyHistogram();
+
+        histogram.record(1L);
+        histogram.record(1_000L);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(3L, histogram.count());
+    }
+
+    @Test
+    @DisplayName("keep small durations in buckets of their own")
+    void smallValues() {
+        var histogram = new LatencyHistogram();
+
+        histogram.record(0L);
+        histogram.record(3L);
+        histogram.record(3L);
+        histogram.record(-5L);
+
+        assertEquals(ImmutableSortedMap.of(0L, 2L, 3L, 2L), histogram.buckets());
+    }
+
+    @Test
+    @DisplayName("obtain the durations at percentiles within a quarter of the value")
+    void percentiles() {
+        var histogram = new LatencyHistogram();
+        for (var i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertWithinQuarter(500_000L, histogram.valueAtPercentile(50.0));
+        assertWithinQuarter(990_000L, histogram.valueAtPercentile(99.0));
+        assertWithinQuarter(1_000_000L, histogram.valueAtPercentile(100.0));
+    }
+
+    @Test
+    @DisplayName("obtain zero at any percentile if empty")
+    void empty() {
+        assertEquals(0L, new LatencyHistogram().valueAtPercentile(50.0));
+    }
+
+    @Test
+    @DisplayName("not accept a percentile out of range")
+    void percentileRange() {
+        var histogram = new LatencyHistogram();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+    }
+
+    private static void assertWithinQuarter(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 4,
+                   () -> actual + " is not within 25% above " + expected);
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.given.Assignee;
+import io.spine.change.given.AssigneeDiffer;
+import io.spine.change.given.Project;
+import io.spine.change.given.Status;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.protobuf.ByteString.copyFromUtf8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`MessageDiff` should")
+class MessageDiffTest extends UtilityClassTest<MessageDiff> {
+
+    private static final Project PROJECT = Project.newBuilder()
+            .setName("Diff engine")
+            .setPriority(3)
+            .setBudget(100_000L)
+            .setProgress(0.25)
+            .setLogo(copyFromUtf8("logo"))
+            .setStatus(Status.ACTIVE)
+            .setDeadline(Timestamp.newBuilder().setSeconds(1_700_000_000L))
+            .setOwner(Assignee.newBuilder()
+                              .setName("Jane Doe")
+                              .setEmail("jane@example.com"))
+            .addTag("diff")
+            .build();
+
+    MessageDiffTest() {
+        super(MessageDiff.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(Message.class, Project.getDefaultInstance());
+    }
+
+    @Test
+    @DisplayName("return no changes for equal messages")
+    void equalMessages() {
+        var copy = PROJECT.toBuilder().build();
+
+        assertTrue(MessageDiff.of(PROJECT, copy).isEmpty());
+    }
+
+    @Nested
+    @DisplayName("report a change of")
+    class Report {
+
+        @Test
+        @DisplayName("a `string` field")
+        void stringField() {
+            var changed = PROJECT.toBuilder()
+                    .setName("Structural diff engine")
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(1, diff.size());
+            assertEquals(Changes.of("Diff engine", "Structural diff engine"),
+                         diff.get(path("name")));
+        }
+
+        @Test
+        @DisplayName("a `string` field being cleared as `Changes` does")
+        void clearedString() {
+            var changed = PROJECT.toBuilder()
+                    .clearName()
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(cleared("Diff engine"), diff.get(path("name")));
+        }
+
+        @Test
+        @DisplayName("numeric fields")
+        void numericFields() {
+            var changed = PROJECT.toBuilder()
+                    .setPriority(1)
+                    .setBudget(120_000L)
+                    .setProgress(0.5)
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(3, diff.size());
+            assertEquals(Changes.ofInt32(3, 1), diff.get(path("priority")));
+            assertEquals(Changes.ofInt64(100_000L, 120_000L), diff.get(path("budget")));
+            assertEquals(Changes.of(0.25, 0.5), diff.get(path("progress")));
+        }
+
+        @Test
+        @DisplayName("a `bool` field")
+        void boolField() {
+            var changed = PROJECT.toBuilder()
+                    .setArchived(true)
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(Changes.of(false, true), diff.get(path("archived")));
+        }
+
+        @Test
+        @DisplayName("a `bytes` field")
+        void bytesField() {
+            var newLogo = copyFromUtf8("new logo");
+            var changed = PROJECT.toBuilder()
+                    .setLogo(newLogo)
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(Changes.of(copyFromUtf8("logo"), newLogo), diff.get(path("logo")));
+        }
+
+        @Test
+        @DisplayName("an enum field as the change of the value number")
+        void enumField() {
+            var changed = PROJECT.toBuilder()
+                    .setStatus(Status.DONE)
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(Changes.ofInt32(Status.ACTIVE_VALUE, Status.DONE_VALUE),
+                         diff.get(path("status")));
+        }
+
+        @Test
+        @DisplayName("a `Timestamp` field as a whole")
+        void timestampField() {
+            var newDeadline = Timestamp.newBuilder()
+                    .setSeconds(1_800_000_000L)
+                    .build();
+            var changed = PROJECT.toBuilder()
+                    .setDeadline(newDeadline)
+                    .build();
+
+            var diff = MessageDiff.of(PROJECT, changed);
+
+            assertEquals(Changes.of(PROJECT.getDeadline(), newDeadline),
+                         diff.get(path("deadline")));
+        }
+
+        @Test
+        @DisplayName("fields of a nested message")
+        void nestedFields() {
+            var changed = PROJECT.toBuilder();
+            changed.getOwnerBuilder()
+                   .setEmail("jane.doe@example.com");
+
+            var diff = MessageDiff.of(PROJECT, changed.build());
+
+            assertEquals(1, diff.size());
+            assertEquals(Changes.of("jane@example.com", "jane.doe@example.com"),
+                         diff.get(path("owner", "email")));
+        }
+    }
+
+    @Nested
+    @DisplayName("report the presence of a nested message")
+    class Presence {
+
+        private final Project unset = PROJECT.toBuilder()
+                .clearOwner()
+                .build();
+
+        @Test
+        @DisplayName("set to the default instance")
+        void setDefault() {
+            var changed = PROJECT.toBuilder()
+                    .setOwner(Assignee.getDefaultInstance())
+                    .build();
+
+            var diff = MessageDiff.of(unset, changed);
+
+            assertEquals(ImmutableMap.of(path("owner"), Changes.of(false, true)), diff);
+        }
+
+        @Test
+        @DisplayName("after the changes of the fields of a cleared message")
+        void cleared() {
+            var diff = MessageDiff.of(PROJECT, unset);
+
+            assertEquals(List.of(path("owner", "name"), path("owner", "email"), path("owner")),
+                         diff.keySet().asList());
+            assertEquals(Changes.of(true, false), diff.get(path("owner")));
+        }
+
+        @Test
+        @DisplayName("not when the message is unset in both")
+        void bothUnset() {
+            var changed = unset.toBuilder()
+                    .setName("Presence")
+                    .build();
+
+            assertEquals(ImmutableMap.of(path("name"), Changes.of("Diff engine", "Presence")),
+                         MessageDiff.of(unset, changed));
+        }
+    }
+
+    @Test
+    @DisplayName("compare messages via a registered `Differ`")
+    void useDiffer() {
+        var invocations = AssigneeDiffer.invocations();
+        var changed = PROJECT.toBuilder();
+        changed.getOwnerBuilder()
+               .setName("Jane Roe");
+
+        var diff = MessageDiff.of(PROJECT, changed.build());
+
+        assertEquals(invocations + 1, AssigneeDiffer.invocations());
+        assertEquals(Changes.of("Jane Doe", "Jane Roe"), diff.get(path("owner", "name")));
+    }
+
+    @Test
+    @DisplayName("not compare repeated and map fields")
+    void skipCollections() {
+        var changed = PROJECT.toBuilder()
+                .addTag("engine")
+                .putEstimate("design", 5L)
+                .build();
+
+        assertTrue(MessageDiff.of(PROJECT, changed).isEmpty());
+    }
+
+    @Test
+    @DisplayName("not accept messages of different types")
+    void differentTypes() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> MessageDiff.of(PROJECT, StringValue.of("project")));
+    }
+
+    @Test
+    @DisplayName("accept the default value of a `bytes` field")
+    void emptyBytes() {
+        var changed = PROJECT.toBuilder()
+                .setLogo(ByteString.EMPTY)
+                .build();
+
+        var diff = MessageDiff.of(PROJECT, changed);
+
+        assertEquals(Changes.of(PROJECT.getLogo(), ByteString.EMPTY), diff.get(path("logo")));
+    }
+
+    private static FieldPath path(String... fieldNames) {
+        return FieldPath.newBuilder()
+                .addAllFieldName(List.of(fieldNames))
+                .build();
+    }
+
+    /**
+     * Creates the change of a {@code string} field being cleared, which cannot be
+     * created by {@link Changes}.
+     */
+    private static StringChange cleared(String previousValue) {
+        return StringChange.newBuilder()
+                .setPreviousValue(previousValue)
+                .build();
+    }
+}
@@ -26,6 +26,7 @@
 
 package io.spine.change;
 
+import com.google.protobuf.Int32Value;
 import com.google.protobuf.StringValue;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +40,7 @@ import static io.spine.change.MessageMismatch.unpackActual;
 import static io.spine.change.MessageMismatch.unpackExpected;
 import static io.spine.change.MessageMismatch.unpackNewValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`MessageMismatch` should")
 class MessageMismatchTest extends UtilityClassTest<MessageMismatch> {
@@ -109,4 +111,68 @@ class MessageMismatchTest extends UtilityClassTest<MessageMismatch> {
             assertEquals(VERSION, mismatch.getVersion());
         }
     }
+
+    @Test
+    @DisplayName("unpack primitive values as wrapper messages")
+    void unpackPrimitives() {
+        var mismatch = IntMismatch.of(1, 2, 3, VERSION);
+
+        assertEquals(Int32Value.of(1), unpackExpected(mismatch));
+        assertEquals(Int32Value.of(2), unpackActual(mismatch));
+        assertEquals(Int32Value.of(3), unpackNewValue(mismatch));
+    }
+
+    @Nested
+    @DisplayName("unpack values of the passed type")
+    class Typed {
+
+        private final ValueMismatch mismatch = unexpectedValue(EXPECTED, ACTUAL, NEW_VALUE,
+                                                               VERSION);
+
+        @Test
+        @DisplayName("by the class")
+        void byClass() {
+            StringValue expected = unpackExpected(mismatch, StringValue.class);
+            StringValue actual = unpackActual(mismatch, StringValue.class);
+            StringValue newValue = unpackNewValue(mismatch, StringValue.class);
+
+            assertEquals(EXPECTED, expected);
+            assertEquals(ACTUAL, actual);
+            assertEquals(NEW_VALUE, newValue);
+        }
+
+        @Test
+        @DisplayName("by the parser")
+        void byParser() {
+            var parser = StringValue.parser();
+
+            assertEquals(EXPECTED, unpackExpected(mismatch, parser));
+            assertEquals(ACTUAL, unpackActual(mismatch, parser));
+            assertEquals(NEW_VALUE, unpackNewValue(mismatch, parser));
+        }
+
+        @Test
+        @DisplayName("including primitive values as wrapper messages")
+        void primitives() {
+            var intMismatch = IntMismatch.of(1, 2, 3, VERSION);
+
+            assertEquals(Int32Value.of(1), unpackExpected(intMismatch, Int32Value.class));
+            assertEquals(Int32Value.of(2), unpackActual(intMismatch, Int32Value.parser()));
+        }
+
+        @Test
+        @DisplayName("not accepting another type")
+        void anotherType() {
+            var intMismatch = IntMismatch.of(1, 2, 3, VERSION);
+
+            assertThrows(RuntimeException.class,
+                         () -> unpackExpected(mismatch, Int32Value.class));
+            assertThrows(IllegalArgumentException.class,
+                         () -> unpackExpected(mismatch, Int32Value.parser()));
+            assertThrows(IllegalArgumentException.class,
+                         () -> unpackNewValue(intMismatch, StringValue.class));
+            assertThrows(IllegalArgumentException.class,
+                         () -> unpackNewValue(intMismatch, StringValue.parser()));
+        }
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.protobuf.TypeConverter.toAny;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`MismatchValues` should")
+class MismatchValuesTest extends UtilityClassTest<MismatchValues> {
+
+    private static final int VERSION = 7;
+
+    MismatchValuesTest() {
+        super(MismatchValues.class);
+    }
+
+    @Test
+    @DisplayName("store primitive values without packing them")
+    void storeTyped() {
+        var mismatch = LongMismatch.of(1L, 2L, 3L, VERSION);
+
+        assertFalse(mismatch.hasExpected());
+        assertFalse(mismatch.hasActual());
+        assertFalse(mismatch.hasNewValue());
+        assertTrue(mismatch.hasTypedExpected());
+        assertEquals(1L, mismatch.getTypedExpected().getInt64Value());
+        assertEquals(2L, mismatch.getTypedActual().getInt64Value());
+        assertEquals(3L, mismatch.getTypedNewValue().getInt64Value());
+    }
+
+    @Test
+    @DisplayName("store the default value of a primitive type")
+    void storeDefault() {
+        var mismatch = StringMismatch.expectedEmpty("actual", "new", VERSION);
+
+        assertTrue(mismatch.hasTypedExpected());
+        assertEquals(MismatchValue.KindCase.STRING_VALUE,
+                     mismatch.getTypedExpected().getKindCase());
+        assertEquals("", StringMismatch.unpackExpected(mismatch));
+    }
+
+    @Nested
+    @DisplayName("read values packed by previous versions of")
+    class ReadPacked {
+
+        @Test
+        @DisplayName("`IntMismatch`")
+        void ints() {
+            var mismatch = ValueMismatch.newBuilder()
+                    .setExpected(toAny(1))
+                    .setActual(toAny(2))
+                    .setNewValue(toAny(3))
+                    .setVersion(VERSION)
+                    .build();
+
+            assertEquals(1, IntMismatch.unpackExpected(mismatch));
+            assertEquals(2, IntMismatch.unpackActual(mismatch));
+            assertEquals(3, IntMismatch.unpackNewValue(mismatch));
+        }
+
+        @Test
+        @DisplayName("`DoubleMismatch`")
+        void doubles() {
+            var mismatch = ValueMismatch.newBuilder()
+                    .setExpected(toAny(1.5))
+                    .setActual(toAny(2.5))
+                    .setNewValue(toAny(3.5))
+                    .setVersion(VERSION)
+                    .build();
+
+            assertEquals(1.5, DoubleMismatch.unpackExpected(mismatch));
+            assertEquals(2.5, DoubleMismatch.unpackActual(mismatch));
+            assertEquals(3.5, DoubleMismatch.unpackNewValue(mismatch));
+        }
+
+        @Test
+        @DisplayName("`StringMismatch`")
+        void strings() {
+            var mismatch = ValueMismatch.newBuilder()
+                    .setExpected(toAny("expected"))
+                    .setActual(toAny("actual"))
+                    .setNewValue(toAny("new"))
+                    .setVersion(VERSION)
+                    .build();
+
+            assertEquals("expected", StringMismatch.unpackExpected(mismatch));
+            assertEquals("actual", StringMismatch.unpackActual(mismatch));
+            assertEquals("new", StringMismatch.unpackNewValue(mismatch));
+        }
+
+        @Test
+        @DisplayName("`BooleanMismatch`")
+        void booleans() {
+            var mismatch = ValueMismatch.newBuilder()
+                    .setExpected(toAny(true))
+                    .setActual(toAny(false))
+                    .setNewValue(toAny(false))
+                    .setVersion(VERSION)
+                    .build();
+
+            assertTrue(BooleanMismatch.unpackExpected(mismatch));
+            assertFalse(BooleanMismatch.unpackActual(mismatch));
+            assertFalse(BooleanMismatch.unpackNewValue(mismatch));
+        }
+    }
+
+    @Test
+    @DisplayName("not read a value of another type")
+    void wrongKind() {
+        var mismatch = IntMismatch.of(1, 2, 3, VERSION);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> LongMismatch.unpackExpected(mismatch));
+    }
+
+    @Nested
+    @DisplayName("share pre-built values for")
+    class Share {
+
+        @Test
+        @DisplayName("`boolean` constants")
+        void booleans() {
+            var first = BooleanMismatch.expectedTrue(1);
+            var second = BooleanMismatch.expectedTrue(2);
+
+            assertSame(first.getTypedExpected(), second.getTypedExpected());
+            assertSame(first.getTypedActual(), second.getTypedActual());
+            assertSame(MismatchValues.of(true), MismatchValues.of(true));
+            assertSame(MismatchValues.of(false), MismatchValues.of(false));
+        }
+
+        @Test
+        @DisplayName("zeros")
+        void zeros() {
+            assertSame(MismatchValues.of(0), MismatchValues.of(0));
+            assertSame(MismatchValues.of(0L), MismatchValues.of(0L));
+            assertSame(MismatchValues.of(0.0f), MismatchValues.of(0.0f));
+            assertSame(MismatchValues.of(0.0), MismatchValues.of(0.0));
+        }
+
+        @Test
+        @DisplayName("the empty string")
+        void emptyString() {
+            assertSame(MismatchValues.of(""), MismatchValues.of(""));
+        }
+
+        @Test
+        @DisplayName("small integers")
+        void smallInts() {
+            assertSame(MismatchValues.of(-128), MismatchValues.of(-128));
+            assertSame(MismatchValues.of(1024), MismatchValues.of(1024));
+            assertSame(MismatchValues.of(42L), MismatchValues.of(42L));
+            assertEquals(1024, MismatchValues.of(1024).getInt32Value());
+            assertEquals(-128L, MismatchValues.of(-128L).getInt64Value());
+        }
+    }
+
+    @Test
+    @DisplayName("not share values for negative zeros")
+    void negativeZero() {
+        assertEquals(-0.0, MismatchValues.of(-0.0).getDoubleValue());
+        assertEquals(-0.0f, MismatchValues.of(-0.0f).getFloatValue());
+        assertEquals(1, Double.compare(0.0, MismatchValues.of(-0.0).getDoubleValue()));
+    }
+}
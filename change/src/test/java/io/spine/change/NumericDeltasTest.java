@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Descriptors.FieldDescriptor.Type;
+import com.google.protobuf.Message;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static io.spine.change.Changes.ofDecimalDelta;
+import static io.spine.change.Changes.ofDoubleDelta;
+import static io.spine.change.Changes.ofInt64Delta;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`NumericDeltas` utility should")
+class NumericDeltasTest extends UtilityClassTest<NumericDeltas> {
+
+    NumericDeltasTest() {
+        super(NumericDeltas.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(Int64Delta.class, ofInt64Delta(1L))
+              .setDefault(DoubleDelta.class, ofDoubleDelta(1.0))
+              .setDefault(DecimalDelta.class, ofDecimalDelta(BigDecimal.ONE))
+              .setDefault(Message.class, ofInt64Delta(1L));
+    }
+
+    @Nested
+    @DisplayName("add together deltas of")
+    class Add {
+
+        @Test
+        @DisplayName("`int64` fields")
+        void int64() {
+            assertEquals(ofInt64Delta(5L), NumericDeltas.add(ofInt64Delta(7L), ofInt64Delta(-2L)));
+        }
+
+        @Test
+        @DisplayName("`double` fields")
+        void doubles() {
+            assertEquals(ofDoubleDelta(0.75),
+                         NumericDeltas.add(ofDoubleDelta(0.5), ofDoubleDelta(0.25)));
+        }
+
+        @Test
+        @DisplayName("decimal fields")
+        void decimals() {
+            var sum = NumericDeltas.add(ofDecimalDelta(new BigDecimal("0.10")),
+                                        ofDecimalDelta(new BigDecimal("0.2")));
+
+            assertEquals(new BigDecimal("0.30"), NumericDeltas.toBigDecimal(sum));
+            assertEquals("0.30", sum.getDelta());
+        }
+
+        @Test
+        @DisplayName("checking `int64` fields for overflow")
+        void overflow() {
+            assertThrows(ArithmeticException.class,
+                         () -> NumericDeltas.add(ofInt64Delta(Long.MAX_VALUE), ofInt64Delta(1L)));
+        }
+    }
+
+    @Nested
+    @DisplayName("add a delta to")
+    class Apply {
+
+        @Test
+        @DisplayName("a value of a matching type")
+        void typed() {
+            assertEquals(42L, NumericDeltas.apply(ofInt64Delta(2L), 40L));
+            assertEquals(1.5, NumericDeltas.apply(ofDoubleDelta(0.5), 1.0));
+            assertEquals(new BigDecimal("1.25"),
+                         NumericDeltas.apply(ofDecimalDelta(new BigDecimal("0.25")),
+                                             BigDecimal.ONE));
+        }
+
+        @Test
+        @DisplayName("a value of a field")
+        void fieldValue() {
+            assertEquals(42L, NumericDeltas.applyTo(ofInt64Delta(2L), 40L));
+            assertEquals("10.5", NumericDeltas.applyTo(ofDecimalDelta(new BigDecimal("0.5")),
+                                                       "10"));
+        }
+
+        @Test
+        @DisplayName("zero if a field has no value")
+        void zero() {
+            assertEquals(2L, NumericDeltas.applyTo(ofInt64Delta(2L), null));
+            assertEquals("0.5", NumericDeltas.applyTo(ofDecimalDelta(new BigDecimal("0.5")), ""));
+        }
+    }
+
+    @Test
+    @DisplayName("add decimal deltas only to decimal numbers")
+    void decimalOnly() {
+        assertTrue(NumericDeltas.isDecimal("-1.5e3"));
+        assertTrue(NumericDeltas.isDecimal(".5"));
+        assertTrue(NumericDeltas.isDecimal(""));
+        assertFalse(NumericDeltas.isDecimal("1.5.3"));
+        assertFalse(NumericDeltas.isDecimal("Applier"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> NumericDeltas.applyTo(ofDecimalDelta(BigDecimal.ONE), "Applier"));
+    }
+
+    @Test
+    @DisplayName("tell if a message is a delta")
+    void isDelta() {
+        assertTrue(NumericDeltas.isDelta(ofDoubleDelta(1.0)));
+        assertFalse(NumericDeltas.isDelta(Changes.ofInt64(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("add `int64` deltas only to signed 64-bit fields")
+    void signedOnly() {
+        var delta = ofInt64Delta(1L);
+
+        assertTrue(NumericDeltas.accepts(delta, Type.INT64));
+        assertTrue(NumericDeltas.accepts(delta, Type.SINT64));
+        assertTrue(NumericDeltas.accepts(delta, Type.SFIXED64));
+        assertFalse(NumericDeltas.accepts(delta, Type.UINT64));
+        assertFalse(NumericDeltas.accepts(delta, Type.FIXED64));
+    }
+
+    @Test
+    @DisplayName("not add deltas of different types")
+    void differentTypes() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> NumericDeltas.sum(ofInt64Delta(1L), ofDoubleDelta(1.0)));
+    }
+}
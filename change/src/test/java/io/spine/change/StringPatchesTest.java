@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.change.StringPatches.apply;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`StringPatches` utility should")
+class StringPatchesTest extends UtilityClassTest<StringPatches> {
+
+    StringPatchesTest() {
+        super(StringPatches.class);
+    }
+
+    @Nested
+    @DisplayName("create a patch which restores the new value")
+    class Restore {
+
+        @Test
+        @DisplayName("after a single character edit")
+        void singleChar() {
+            assertRestores("The quick brown fox", "The quick brawn fox");
+        }
+
+        @Test
+        @DisplayName("after inserting text")
+        void insertion() {
+            assertRestores("The brown fox", "The quick brown fox jumps");
+        }
+
+        @Test
+        @DisplayName("after deleting text")
+        void deletion() {
+            assertRestores("The quick brown fox jumps", "The brown fox");
+        }
+
+        @Test
+        @DisplayName("after several edits")
+        void severalEdits() {
+            assertRestores("lorem ipsum dolor sit amet, consectetur adipiscing elit",
+                           "Lorem ipsum dolor amet, consectetuer adipiscing elit.");
+        }
+
+        @Test
+        @DisplayName("from the empty value")
+        void fromEmpty() {
+            assertRestores("", "text");
+        }
+
+        @Test
+        @DisplayName("without splitting surrogate pairs")
+        void surrogatePairs() {
+            var previousValue = "smile 😀!";
+            var newValue = "smile 😁!";
+
+            var patch = StringPatches.of(previousValue, newValue);
+
+            assertEquals("😁", patch.getEdit(0).getInserted());
+            assertEquals(newValue, apply(patch, previousValue));
+        }
+    }
+
+    @Test
+    @DisplayName("store only the edited parts of a long value")
+    void compact() {
+        var text = "a".repeat(50_000);
+        var newValue = text.substring(0, 25_000) + 'b' + text.substring(25_001);
+
+        var patch = StringPatches.of(text, newValue);
+
+        assertEquals(1, patch.getEditCount());
+        assertTrue(patch.getSerializedSize() < 32);
+        assertEquals(newValue, apply(patch, text));
+    }
+
+    @Test
+    @DisplayName("convert a patch to `StringChange`")
+    void toChange() {
+        var patch = StringPatches.of("previous", "new");
+
+        assertEquals(Changes.of("previous", "new"), StringPatches.toChange(patch, "previous"));
+    }
+
+    @Test
+    @DisplayName("not accept equal values")
+    void equalValues() {
+        assertThrows(IllegalArgumentException.class, () -> StringPatches.of("same", "same"));
+    }
+
+    @Test
+    @DisplayName("not accept empty new value")
+    void emptyNewValue() {
+        assertThrows(IllegalArgumentException.class, () -> StringPatches.of("previous", ""));
+    }
+
+    @Test
+    @DisplayName("not apply a patch to another previous value")
+    void anotherPreviousValue() {
+        var patch = StringPatches.of("previous", "new");
+
+        assertThrows(IllegalArgumentException.class, () -> apply(patch, "other"));
+    }
+
+    private static void assertRestores(String previousValue, String newValue) {
+        var patch = StringPatches.of(previousValue, newValue);
+        assertEquals(newValue, apply(patch, previousValue));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.collect.ImmutableMap;
+import io.spine.base.FieldPath;
+import io.spine.change.given.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ThreeWayMerge` should")
+class ThreeWayMergeTest {
+
+    private static final int VERSION = 7;
+
+    private static final FieldPath NAME = path("name");
+    private static final FieldPath PRIORITY = path("priority");
+    private static final FieldPath BUDGET = path("budget");
+    private static final FieldPath PROGRESS = path("progress");
+
+    private static final Project BASE = Project.newBuilder()
+            .setName("Merge")
+            .setPriority(3)
+            .setBudget(100_000L)
+            .build();
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("the changes of different fields")
+        void differentFields() {
+            var ours = new ChangeSet().add(NAME, Changes.of("Merge", "Rebase"));
+            var theirs = new ChangeSet().add(PRIORITY, Changes.ofInt32(3, 1));
+
+            var merge = ThreeWayMerge.of(BASE, ours.changes(), theirs.changes(), VERSION);
+
+            assertTrue(merge.isClean());
+            assertEquals(BASE.toBuilder()
+                                 .setName("Rebase")
+                                 .setPriority(1)
+                                 .build(),
+                         merge.state());
+            assertEquals(ImmutableMap.of(NAME, Changes.of("Merge", "Rebase"),
+                                         PRIORITY, Changes.ofInt32(3, 1)),
+                         merge.changes());
+        }
+
+        @Test
+        @DisplayName("the same change made by both sides")
+        void sameChange() {
+            var change = Changes.of("Merge", "Rebase");
+
+            var merge = ThreeWayMerge.of(BASE, ImmutableMap.of(NAME, change),
+                                         ImmutableMap.of(NAME, change), VERSION);
+
+            assertTrue(merge.isClean());
+            assertEquals(ImmutableMap.of(NAME, change), merge.changes());
+        }
+
+        @Test
+        @DisplayName("the differences made by both sides to an additive field")
+        void additive() {
+            var merge = ThreeWayMerge.of(BASE,
+                                         budget(100_000L, 120_000L),
+                                         budget(100_000L, 105_000L),
+                                         Set.of(BUDGET),
+                                         VERSION);
+
+            assertTrue(merge.isClean());
+            assertEquals(125_000L, ((Project) merge.state()).getBudget());
+            assertEquals(budget(100_000L, 125_000L), merge.changes());
+        }
+
+        @Test
+        @DisplayName("the differences to an additive field which cancel each other out")
+        void additiveCancelled() {
+            var merge = ThreeWayMerge.of(BASE,
+                                         budget(100_000L, 110_000L),
+                                         budget(100_000L, 90_000L),
+                                         Set.of(BUDGET),
+                                         VERSION);
+
+            assertTrue(merge.isClean());
+            assertEquals(BASE, merge.state());
+            assertTrue(merge.changes().isEmpty());
+        }
+
+        @Test
+        @DisplayName("a difference to an additive field too small to change the value")
+        void additiveLost() {
+            var base = BASE.toBuilder()
+                    .setProgress(1.0e16)
+                    .build();
+            var ours = ImmutableMap.of(PROGRESS, Changes.of(1.0e16, 2.0e16));
+            var theirs = ImmutableMap.of(PROGRESS, Changes.of(1.0e16, 1.0e16 + 2));
+
+            var merge = ThreeWayMerge.of(base, ours, theirs, Set.of(PROGRESS), VERSION);
+
+            assertTrue(merge.isClean());
+            assertEquals(2.0e16, ((Project) merge.state()).getProgress());
+            assertEquals(ours, merge.changes());
+        }
+
+        @Test
+        @DisplayName("the numeric deltas of both sides")
+        void deltas() {
+            var merge = ThreeWayMerge.of(BASE,
+                                         ImmutableMap.of(BUDGET, Changes.ofInt64Delta(-3L)),
+                                         ImmutableMap.of(BUDGET, Changes.ofInt64Delta(-4L)),
+                                         VERSION);
+
+            assertTrue(merge.isClean());
+            assertEquals(99_993L, ((Project) merge.state()).getBudget());
+            assertEquals(ImmutableMap.of(BUDGET, Changes.ofInt64Delta(-7L)), merge.changes());
+        }
+    }
+
+    @Nested
+    @DisplayName("report as a conflict")
+    class Conflict {
+
+        @Test
+        @DisplayName("different changes of the same field")
+        void differentChanges() {
+            var merge = ThreeWayMerge.of(BASE,
+                                         ImmutableMap.of(NAME, Changes.of("Merge", "Ours")),
+                                         ImmutableMap.of(NAME, Changes.of("Merge", "Theirs")),
+                                         VERSION);
+
+            var expected = StringMismatch.unexpectedValue("Merge", "Ours", "Theirs", VERSION);
+            assertFalse(merge.isClean());
+            assertEquals(List.of(expected), merge.conflicts());
+            assertEquals("Ours", ((Project) merge.state()).getName());
+        }
+
+        @Test
+        @DisplayName("different changes of a numeric field which is not additive")
+        void notAdditive() {
+            var merge = ThreeWayMerge.of(BASE,
+                                         ImmutableMap.of(PRIORITY, Changes.ofInt32(3, 1)),
+                                         ImmutableMap.of(PRIORITY, Changes.ofInt32(3, 2)),
+                                         VERSION);
+
+            assertEquals(List.of(IntMismatch.unexpectedValue(3, 1, 2, VERSION)),
+                         merge.conflicts());
+        }
+
+        @Test
+        @DisplayName("a change which does not start from the base state")
+        void stale() {
+            var merge = ThreeWayMerge.of(BASE,
+                                         ImmutableMap.of(NAME, Changes.of("Split", "Ours")),
+                                         ImmutableMap.of(),
+                                         VERSION);
+
+            var expected = StringMismatch.unexpectedValue("Split", "Merge", "Ours", VERSION);
+            assertEquals(List.of(expected), merge.conflicts());
+            assertEquals(BASE, merge.state());
+            assertTrue(merge.changes().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("fail when the differences made to an additive field overflow it")
+    void additiveOverflow() {
+        var base = BASE.toBuilder()
+                .setBudget(Long.MAX_VALUE - 10)
+                .build();
+        var ours = budget(Long.MAX_VALUE - 10, Long.MAX_VALUE - 5);
+        var theirs = budget(Long.MAX_VALUE - 10, Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class,
+                     () -> ThreeWayMerge.of(base, ours, theirs, Set.of(BUDGET), VERSION));
+    }
+
+    private static ImmutableMap<FieldPath, Int64Change> budget(long previousValue,
+                                                               long newValue) {
+        return ImmutableMap.of(BUDGET, Changes.ofInt64(previousValue, newValue));
+    }
+
+    private static FieldPath path(String fieldName) {
+        return FieldPath.newBuilder()
+                .addFieldName(fieldName)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.StringValue;
+import io.spine.change.given.Assignee;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`UnpackCache` should")
+class UnpackCacheTest extends UtilityClassTest<UnpackCache> {
+
+    private static final Assignee ASSIGNEE = Assignee.newBuilder()
+            .setName("Jane Doe")
+            .setEmail("jane@example.com")
+            .build();
+
+    UnpackCacheTest() {
+        super(UnpackCache.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester tester) {
+        super.configure(tester);
+        tester.setDefault(Any.class, pack(ASSIGNEE));
+    }
+
+    @Test
+    @DisplayName("unpack a message")
+    void unpack() {
+        assertEquals(ASSIGNEE, UnpackCache.unpack(pack(ASSIGNEE)));
+        assertEquals(ASSIGNEE, UnpackCache.unpack(pack(ASSIGNEE)));
+    }
+
+    @Test
+    @DisplayName("unpack a message of the expected type")
+    void unpackTyped() {
+        assertEquals(ASSIGNEE, UnpackCache.unpack(pack(ASSIGNEE), Assignee.class));
+        assertEquals(ASSIGNEE, UnpackCache.unpack(pack(ASSIGNEE), Assignee.class));
+    }
+
+    @Test
+    @DisplayName("find the type of a message unpacked before")
+    void hit() {
+        var packed = pack(StringValue.of("cached"));
+        UnpackCache.unpack(packed);
+        var hits = UnpackCache.stats().hitCount();
+
+        UnpackCache.unpack(packed);
+        UnpackCache.unpack(packed, StringValue.class);
+
+        assertEquals(hits + 2, UnpackCache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("count a cached type other than the expected one as a miss")
+    void otherTypeMiss() {
+        var packed = pack(ASSIGNEE);
+        UnpackCache.unpack(packed);
+        var hits = UnpackCache.stats().hitCount();
+        var misses = UnpackCache.stats().missCount();
+
+        assertThrows(RuntimeException.class,
+                     () -> UnpackCache.unpack(packed, StringValue.class));
+
+        assertEquals(hits, UnpackCache.stats().hitCount());
+        assertEquals(misses + 1, UnpackCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("not unpack a message of another type")
+    void wrongType() {
+        var packed = pack(ASSIGNEE);
+        UnpackCache.unpack(packed);
+
+        assertThrows(RuntimeException.class,
+                     () -> UnpackCache.unpack(packed, StringValue.class));
+    }
+
+    @Test
+    @DisplayName("not accept invalid bytes of a known type")
+    void invalidBytes() {
+        var packed = pack(ASSIGNEE);
+        UnpackCache.unpack(packed);
+        var invalid = packed.toBuilder()
+                .setValue(ByteString.copyFrom(new byte[]{(byte) 0xFF}))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> UnpackCache.unpack(invalid));
+    }
+}
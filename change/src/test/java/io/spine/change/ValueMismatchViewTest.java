@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change;
+
+import com.google.common.testing.EqualsTester;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ValueMismatchView` should")
+class ValueMismatchViewTest {
+
+    private static final StringValue EXPECTED = StringValue.of("expected");
+    private static final StringValue ACTUAL = StringValue.of("actual");
+    private static final StringValue NEW_VALUE = StringValue.of("new");
+    private static final int VERSION = 3;
+
+    private static final ValueMismatch MISMATCH =
+            MessageMismatch.unexpectedValue(EXPECTED, ACTUAL, NEW_VALUE, VERSION);
+
+    @Test
+    @DisplayName("unpack values of the mismatch")
+    void unpack() {
+        var view = ValueMismatchView.of(MISMATCH);
+
+        assertEquals(EXPECTED, view.expected());
+        assertEquals(ACTUAL, view.actual());
+        assertEquals(NEW_VALUE, view.newValue());
+        assertEquals(VERSION, view.version());
+        assertSame(MISMATCH, view.mismatch());
+    }
+
+    @Test
+    @DisplayName("unpack each value only once")
+    void memoize() {
+        var view = ValueMismatchView.of(MISMATCH);
+
+        assertSame(view.expected(), view.expected());
+        assertSame(view.actual(), view.actual());
+        assertSame(view.newValue(), view.newValue());
+    }
+
+    @Test
+    @DisplayName("provide the same unpacked value to concurrent readers")
+    void concurrentReaders() {
+        var view = ValueMismatchView.of(MISMATCH);
+        var seen = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100)
+                 .parallel()
+                 .forEach(i -> seen.add(System.identityHashCode(view.expected())));
+
+        assertEquals(1, seen.size());
+    }
+
+    @Test
+    @DisplayName("obtain primitive values as wrapper messages")
+    void primitives() {
+        var view = ValueMismatchView.of(IntMismatch.of(1, 2, 3, VERSION));
+
+        assertEquals(Int32Value.of(1), view.expected());
+        assertEquals(Int32Value.of(2), view.actual());
+        assertEquals(Int32Value.of(3), view.newValue());
+    }
+
+    @Nested
+    @DisplayName("tell the type of")
+    class TellType {
+
+        @Test
+        @DisplayName("a packed value")
+        void packed() {
+            var view = ValueMismatchView.of(MISMATCH);
+
+            assertTrue(view.expectedIs(StringValue.class));
+            assertTrue(view.actualIs(StringValue.class));
+            assertTrue(view.newValueIs(StringValue.class));
+            assertFalse(view.expectedIs(Timestamp.class));
+        }
+
+        @Test
+        @DisplayName("a primitive value")
+        void primitive() {
+            var view = ValueMismatchView.of(IntMismatch.of(1, 2, 3, VERSION));
+
+            assertTrue(view.expectedIs(Int32Value.class));
+            assertTrue(view.actualIs(Int32Value.class));
+            assertTrue(view.newValueIs(Int32Value.class));
+            assertFalse(view.expectedIs(StringValue.class));
+        }
+    }
+
+    @Test
+    @DisplayName("be equal to a view on the same mismatch")
+    void equality() {
+        new EqualsTester()
+                .addEqualityGroup(ValueMismatchView.of(MISMATCH), ValueMismatchView.of(MISMATCH))
+                .addEqualityGroup(ValueMismatchView.of(IntMismatch.of(1, 2, 3, VERSION)))
+                .testEquals();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.given;
+
+import io.spine.change.DiffBuilder;
+import io.spine.change.Differ;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hand-written {@code Differ} for {@link Assignee}, which counts its invocations.
+ */
+public final class AssigneeDiffer implements Differ<Assignee> {
+
+    private static final AtomicInteger invocations = new AtomicInteger();
+
+    @Override
+    public Class<Assignee> messageClass() {
+        return Assignee.class;
+    }
+
+    @Override
+    public void diff(Assignee previousValue, Assignee newValue, DiffBuilder diff) {
+        invocations.incrementAndGet();
+        diff.compare("name", previousValue.getName(), newValue.getName())
+            .compare("email", previousValue.getEmail(), newValue.getEmail());
+    }
+
+    /**
+     * Obtains the number of times this differ was invoked.
+     */
+    public static int invocations() {
+        return invocations.get();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.Changes;
+import io.spine.change.StringChange;
+import io.spine.change.given.Assignee;
+import io.spine.change.given.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.google.protobuf.ByteString.copyFromUtf8;
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ChangeCodec` should")
+class ChangeCodecTest {
+
+    private static final ChangeCodec CODEC = ChangeCodec.forType(Project.getDescriptor());
+
+    @Nested
+    @DisplayName("restore the records of")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("`string` changes")
+        void stringChange() {
+            assertRoundTrip(record("name", Changes.of("Codec", "Encoder")));
+        }
+
+        @Test
+        @DisplayName("`bytes` changes")
+        void bytesChange() {
+            assertRoundTrip(record("logo", Changes.of(copyFromUtf8("old"), copyFromUtf8("new"))));
+        }
+
+        @Test
+        @DisplayName("`bool` changes")
+        void boolChange() {
+            assertRoundTrip(record("archived", Changes.of(false, true)));
+        }
+
+        @Test
+        @DisplayName("floating point changes")
+        void floatingPointChanges() {
+            assertRoundTrip(record("progress", Changes.of(0.25, 0.5)),
+                            record("progress", Changes.of(0.25f, -1.5f)));
+        }
+
+        @Test
+        @DisplayName("integer changes of all types")
+        void integerChanges() {
+            assertRoundTrip(record("priority", Changes.ofInt32(-3, 5)),
+                            record("budget", Changes.ofInt64(Long.MIN_VALUE, Long.MAX_VALUE)),
+                            record("budget", Changes.ofUInt32(0, -1)),
+                            record("budget", Changes.ofUInt64(1L, -1L)),
+                            record("budget", Changes.ofSInt32(-1, 1)),
+                            record("budget", Changes.ofSInt64(-1L, 1L)),
+                            record("budget", Changes.ofFixed32(7, 8)),
+                            record("budget", Changes.ofFixed64(7L, 8L)),
+                            record("budget", Changes.ofSfixed32(-7, 8)),
+                            record("budget", Changes.ofSfixed64(-7L, 8L)));
+        }
+
+        @Test
+        @DisplayName("`Timestamp` changes")
+        void timestampChange() {
+            var previous = Timestamp.newBuilder()
+                    .setSeconds(1_700_000_000L)
+                    .build();
+            var next = Timestamp.newBuilder()
+                    .setSeconds(1_800_000_000L)
+                    .setNanos(42)
+                    .build();
+            assertRoundTrip(record("deadline", Changes.of(previous, next)));
+        }
+
+        @Test
+        @DisplayName("numeric deltas")
+        void deltas() {
+            assertRoundTrip(record("budget", Changes.ofInt64Delta(-1_000L)),
+                            record("progress", Changes.ofDoubleDelta(0.125)),
+                            record("progress", Changes.ofDecimalDelta(new BigDecimal("0.1"))));
+        }
+
+        @Test
+        @DisplayName("changes of nested fields")
+        void nestedField() {
+            assertRoundTrip(record(Changes.of("jane@example.com", "john@example.com"),
+                                   "owner", "email"));
+        }
+
+        @Test
+        @DisplayName("other messages")
+        void otherMessages() {
+            var owner = Assignee.newBuilder()
+                    .setName("Jane Doe")
+                    .build();
+            assertRoundTrip(record("owner", owner));
+        }
+
+        @Test
+        @DisplayName("changes of unknown types")
+        void unknownType() {
+            var change = Any.newBuilder()
+                    .setTypeUrl("type.example.org/example.UnknownChange")
+                    .setValue(copyFromUtf8("opaque"))
+                    .build();
+            var record = record("name", Changes.of("a", "b")).toBuilder()
+                    .setChange(change)
+                    .build();
+            assertRoundTrip(record);
+        }
+
+        @Test
+        @DisplayName("an empty change")
+        void emptyChange() {
+            var record = record("name", Changes.of("a", "b")).toBuilder()
+                    .setChange(Any.getDefaultInstance())
+                    .build();
+            assertRoundTrip(record);
+        }
+
+        @Test
+        @DisplayName("the time of the change")
+        void time() {
+            var record = record("name", Changes.of("Codec", "Encoder")).toBuilder()
+                    .setWhen(Timestamp.newBuilder()
+                                      .setSeconds(1_750_000_000L)
+                                      .setNanos(1_000))
+                    .build();
+            assertRoundTrip(record);
+        }
+
+        @Test
+        @DisplayName("changes which the `Changes` factories reject")
+        void unchecked() {
+            var change = StringChange.newBuilder()
+                    .setPreviousValue("Codec")
+                    .build();
+            assertRoundTrip(record("name", change));
+        }
+
+        @Test
+        @DisplayName("an unset field path")
+        void noField() {
+            var record = ChangeRecord.newBuilder()
+                    .setEntityId("project")
+                    .setVersion(1)
+                    .setChange(pack(Changes.of("a", "b")))
+                    .build();
+            assertRoundTrip(record);
+        }
+    }
+
+    @Test
+    @DisplayName("encode a record in much less bytes than its protobuf form")
+    void compact() {
+        var record = record("budget", Changes.ofInt64(100_000L, 120_000L));
+
+        var encoded = CODEC.encode(List.of(record));
+
+        assertTrue(encoded.size() * 3 < record.getSerializedSize(),
+                   () -> encoded.size() + " bytes vs " + record.getSerializedSize());
+    }
+
+    @Nested
+    @DisplayName("not accept")
+    class NotAccept {
+
+        @Test
+        @DisplayName("a path to a field missing in the type")
+        void missingField() {
+            var record = record("title", Changes.of("a", "b"));
+            assertThrows(IllegalArgumentException.class, () -> CODEC.encode(List.of(record)));
+        }
+
+        @Test
+        @DisplayName("a path through a non-message field")
+        void scalarInPath() {
+            var record = record(Changes.of("a", "b"), "name", "first");
+            assertThrows(IllegalArgumentException.class, () -> CODEC.encode(List.of(record)));
+        }
+
+        @Test
+        @DisplayName("invalid bytes")
+        void invalidBytes() {
+            var bytes = ByteString.copyFrom(new byte[]{3, 0x3F, 0, 0});
+            assertThrows(IllegalArgumentException.class, () -> CODEC.decode(bytes));
+        }
+
+        @Test
+        @DisplayName("an unknown change tag")
+        void unknownTag() {
+            var bytes = ByteString.copyFrom(new byte[]{4, 20, 0, 0, 0});
+            assertThrows(IOException.class, () -> CODEC.read(bytes.newCodedInput()));
+        }
+
+        @Test
+        @DisplayName("truncated records")
+        void truncated() {
+            var encoded = CODEC.encode(List.of(record("name", Changes.of("Codec", "Encoder"))));
+            var bytes = encoded.substring(0, encoded.size() - 1);
+            assertThrows(IllegalArgumentException.class, () -> CODEC.decode(bytes));
+        }
+    }
+
+    private static void assertRoundTrip(ChangeRecord... records) {
+        var expected = List.of(records);
+
+        var decoded = CODEC.decode(CODEC.encode(expected));
+
+        assertEquals(expected, decoded);
+    }
+
+    private static ChangeRecord record(String field, Message change) {
+        return record(change, field);
+    }
+
+    private static ChangeRecord record(Message change, String... fieldNames) {
+        var path = FieldPath.newBuilder()
+                .addAllFieldName(List.of(fieldNames))
+                .build();
+        return ChangeRecord.newBuilder()
+                .setEntityId("project-1")
+                .setField(path)
+                .setVersion(7)
+                .setChange(pack(change))
+                .build();
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import io.spine.change.Changes;
+import io.spine.change.Int32Change;
+import io.spine.change.IntMismatch;
+import io.spine.change.StringPatches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ChangeCompactor` should")
+class ChangeCompactorTest {
+
+    private static final FieldPath NAME = path("name");
+    private static final FieldPath BUDGET = path("budget");
+
+    @TempDir
+    @SuppressWarnings("PackageVisibleField" /* Injected by JUnit. */)
+    Path directory;
+
+    @Nested
+    @DisplayName("squash the changes of a field")
+    class Squash {
+
+        @Test
+        @DisplayName("into one change per checkpoint")
+        void perCheckpoint() {
+            var source = new ArrayList<ChangeRecord>();
+            for (var version = 1; version <= 25; version++) {
+                source.add(record("project", NAME, version, version - 1, version));
+            }
+
+            var compacted = compact(new ChangeCompactor(10), source);
+
+            assertEquals(List.of(record("project", NAME, 10, 0, 10),
+                                 record("project", NAME, 20, 10, 20),
+                                 record("project", NAME, 25, 20, 25)),
+                         compacted);
+        }
+
+        @Test
+        @DisplayName("dropping the changes which cancel each other out")
+        void cancelled() {
+            var source = List.of(record("project", NAME, 1, 0, 1),
+                                 record("project", NAME, 2, 1, 0));
+
+            var compacted = compact(new ChangeCompactor(10), source);
+
+            assertEquals(List.of(), compacted);
+        }
+
+        @Test
+        @DisplayName("not combining the changes which do not continue each other")
+        void brokenChain() {
+            var first = record("project", NAME, 1, 0, 1);
+            var second = record("project", NAME, 2, 5, 6);
+
+            var compacted = compact(new ChangeCompactor(10), List.of(first, second));
+
+            assertEquals(List.of(first, second), compacted);
+        }
+    }
+
+    @Test
+    @DisplayName("preserve the values of the fields as of the checkpoints")
+    void preserveCheckpoints() {
+        var source = interleavedHistory();
+
+        var compacted = compact(new ChangeCompactor(7), source);
+
+        for (var checkpoint = 7; checkpoint <= 42; checkpoint += 7) {
+            for (var entity : List.of("project-1", "project-2")) {
+                for (var field : List.of(NAME, BUDGET)) {
+                    assertEquals(valueAsOf(source, entity, field, checkpoint),
+                                 valueAsOf(compacted, entity, field, checkpoint));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("preserve the values as of the checkpoints when pending fields are limited")
+    void limitPendingFields() {
+        var source = interleavedHistory();
+
+        var compacted = compact(new ChangeCompactor(7, 1), source);
+
+        for (var checkpoint = 7; checkpoint <= 42; checkpoint += 7) {
+            assertEquals(valueAsOf(source, "project-2", BUDGET, checkpoint),
+                         valueAsOf(compacted, "project-2", BUDGET, checkpoint));
+        }
+    }
+
+    @Test
+    @DisplayName("pass through the records which are not supported changes")
+    void passThrough() {
+        var mismatch = ChangeRecord.newBuilder()
+                .setEntityId("project")
+                .setField(NAME)
+                .setVersion(1)
+                .setChange(pack(IntMismatch.of(1, 2, 3, 1)))
+                .build();
+
+        var compacted = compact(new ChangeCompactor(10), List.of(mismatch));
+
+        assertEquals(List.of(mismatch), compacted);
+    }
+
+    @Test
+    @DisplayName("write the pending change of a field before an unsupported record of the field")
+    void keepOrder() {
+        var first = record(1, Changes.of("Alpha", "Beta"));
+        var patch = record(2, StringPatches.of("Beta", "Beta 2"));
+        var last = record(3, Changes.of("Beta 2", "Gamma"));
+
+        var compacted = compact(new ChangeCompactor(10), List.of(first, patch, last));
+
+        assertEquals(List.of(first, patch, last), compacted);
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive checkpoint interval")
+    void rejectInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeCompactor(0));
+    }
+
+    private List<ChangeRecord> compact(ChangeCompactor compactor, List<ChangeRecord> records) {
+        try (var source = ChangeLog.open(directory.resolve("source"));
+             var target = ChangeLog.open(directory.resolve("target"))) {
+            records.forEach(source::append);
+            var written = compactor.compact(source, target);
+            var result = new ArrayList<ChangeRecord>();
+            target.forEach(ChangeRecord.parser(), (position, record) -> result.add(record));
+            assertEquals(written, result.size());
+            return result;
+        }
+    }
+
+    /**
+     * Creates the history of two fields of two entities, in which the changes of
+     * the fields are interleaved and some of them return to the earlier values.
+     */
+    private static List<ChangeRecord> interleavedHistory() {
+        var result = new ArrayList<ChangeRecord>();
+        var values = new int[4];
+        for (var version = 1; version <= 40; version++) {
+            var i = 0;
+            for (var entity : List.of("project-1", "project-2")) {
+                for (var field : List.of(NAME, BUDGET)) {
+                    var previous = values[i];
+                    var next = (previous + 1 + (version * 31 + i) % 4) % 5;
+                    values[i] = next;
+                    result.add(record(entity, field, version, previous, next));
+                    i++;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int valueAsOf(List<ChangeRecord> records,
+                                 String entityId,
+                                 FieldPath field,
+                                 int version) {
+        var result = 0;
+        for (var record : records) {
+            if (record.getEntityId().equals(entityId)
+                    && record.getField().equals(field)
+                    && record.getVersion() <= version) {
+                var change = (Int32Change) unpack(record.getChange());
+                result = change.getNewValue();
+            }
+        }
+        return result;
+    }
+
+    private static ChangeRecord record(String entityId,
+                                       FieldPath field,
+                                       int version,
+                                       int previousValue,
+                                       int newValue) {
+        return ChangeRecord.newBuilder()
+                .setEntityId(entityId)
+                .setField(field)
+                .setVersion(version)
+                .setChange(pack(Changes.ofInt32(previousValue, newValue)))
+                .build();
+    }
+
+    private static ChangeRecord record(int version, Message change) {
+        return ChangeRecord.newBuilder()
+                .setEntityId("project")
+                .setField(NAME)
+                .setVersion(version)
+                .setChange(pack(change))
+                .build();
+    }
+
+    private static FieldPath path(String fieldName) {
+        return FieldPath.newBuilder()
+                .addFieldName(fieldName)
+                .build();
+    }
+}
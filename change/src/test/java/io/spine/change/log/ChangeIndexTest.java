@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import io.spine.base.FieldPath;
+import io.spine.change.Changes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ChangeIndex` should")
+class ChangeIndexTest {
+
+    private static final FieldPath NAME = path("name");
+    private static final FieldPath BUDGET = path("budget");
+
+    @TempDir
+    @SuppressWarnings("PackageVisibleField" /* Injected by JUnit. */)
+    Path directory;
+
+    @Test
+    @DisplayName("find the records of an entity field in a range of versions")
+    void findRange() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            var positions = new ArrayList<Long>();
+            for (var version = 1; version <= 20; version++) {
+                positions.add(index.append(record("project-1", NAME, version)));
+                index.append(record("project-1", BUDGET, version));
+                index.append(record("project-2", NAME, version));
+            }
+
+            var found = index.find("project-1", NAME, 5, 7);
+
+            assertArrayEquals(new long[]{positions.get(4), positions.get(5), positions.get(6)},
+                              found);
+        }
+    }
+
+    @Test
+    @DisplayName("read the found records")
+    void readRecords() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            var expected = record("project-1", NAME, 2);
+            index.append(record("project-1", NAME, 1));
+            index.append(expected);
+
+            assertEquals(List.of(expected), index.records("project-1", NAME, 2, 2));
+        }
+    }
+
+    @Test
+    @DisplayName("find the records written to runs and kept in memory")
+    void findFlushed() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            for (var version = 1; version <= 10; version++) {
+                index.append(record("project", NAME, version));
+                if (version % 3 == 0) {
+                    index.flush();
+                }
+            }
+
+            assertEquals(10, index.find("project", NAME, 1, 10).length);
+        }
+    }
+
+    @Test
+    @DisplayName("index the records appended to the log directly")
+    void catchUp() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            var position = log.append(record("project", NAME, 1));
+
+            index.catchUp();
+
+            assertArrayEquals(new long[]{position}, index.find("project", NAME, 1, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("catch up with the log when reopened")
+    void reopen() {
+        try (var log = openLog()) {
+            try (var index = ChangeIndex.open(indexDir(), log)) {
+                index.append(record("project", NAME, 1));
+            }
+            log.append(record("project", NAME, 2));
+
+            try (var index = ChangeIndex.open(indexDir(), log)) {
+                assertEquals(2, index.find("project", NAME, 1, 2).length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("drop the entries of the records lost by the log")
+    void truncatedLog() throws IOException {
+        var logDir = directory.resolve("log");
+        var copy = directory.resolve("copy");
+        long kept;
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            kept = index.append(record("project", NAME, 1));
+            index.flush();
+            copyFiles(logDir, copy);
+            index.append(record("project", NAME, 2));
+            index.append(record("project", NAME, 3));
+        }
+        copyFiles(copy, logDir);
+
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            assertArrayEquals(new long[]{kept}, index.find("project", NAME, 1, 3));
+
+            var appended = index.append(record("project", NAME, 3));
+            assertArrayEquals(new long[]{kept, appended}, index.find("project", NAME, 1, 3));
+        }
+    }
+
+    @Test
+    @DisplayName("be rebuilt from the log")
+    void rebuild() {
+        try (var log = openLog()) {
+            long[] expected;
+            try (var index = ChangeIndex.open(indexDir(), log)) {
+                for (var version = 1; version <= 5; version++) {
+                    index.append(record("project", NAME, version));
+                }
+                expected = index.find("project", NAME, 1, 5);
+            }
+
+            try (var index = ChangeIndex.rebuild(indexDir(), log)) {
+                assertArrayEquals(expected, index.find("project", NAME, 1, 5));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("not accept an empty version range")
+    void emptyRange() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> index.find("project", NAME, 2, 1));
+        }
+    }
+
+    /**
+     * Copies the files of one directory to another, replacing the existing files.
+     */
+    private static void copyFiles(Path from, Path to) throws IOException {
+        Files.createDirectories(to);
+        try (var files = Files.list(from)) {
+            for (var file : files.toList()) {
+                Files.copy(file, to.resolve(file.getFileName()), REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private ChangeLog openLog() {
+        return ChangeLog.open(directory.resolve("log"));
+    }
+
+    private Path indexDir() {
+        return directory.resolve("index");
+    }
+
+    private static ChangeRecord record(String entityId, FieldPath field, int version) {
+        return ChangeRecord.newBuilder()
+                .setEntityId(entityId)
+                .setField(field)
+                .setVersion(version)
+                .setChange(pack(Changes.ofInt32(version - 1, version)))
+                .build();
+    }
+
+    private static FieldPath path(String fieldName) {
+        return FieldPath.newBuilder()
+                .addFieldName(fieldName)
+                .build();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.common.primitives.Bytes;
+import io.spine.change.Changes;
+import io.spine.change.StringChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ChangeLog` should")
+class ChangeLogTest {
+
+    private static final LogOptions SMALL_SEGMENTS = LogOptions.newBuilder()
+            .setSegmentSize(4096)
+            .setSyncPolicy(SyncPolicy.BATCH)
+            .setBatchSize(16)
+            .build();
+
+    @TempDir
+    @SuppressWarnings("PackageVisibleField" /* Injected by JUnit. */)
+    Path directory;
+
+    @Test
+    @DisplayName("read the appended records by their positions")
+    void readByPosition() {
+        try (var log = ChangeLog.open(directory)) {
+            var first = log.append(Changes.of("A", "B"));
+            var second = log.append(Changes.of("B", "C"));
+
+            assertEquals(Changes.of("B", "C"), log.read(second, StringChange.parser()));
+            assertEquals(Changes.of("A", "B"), log.read(first, StringChange.parser()));
+        }
+    }
+
+    @Test
+    @DisplayName("read all records in the order of appending")
+    void readAll() {
+        try (var log = ChangeLog.open(directory)) {
+            var expected = appendChanges(log, 10);
+
+            assertEquals(expected, readAll(log));
+        }
+    }
+
+    @Test
+    @DisplayName("read the records starting at a position")
+    void readFrom() {
+        try (var log = ChangeLog.open(directory)) {
+            appendChanges(log, 3);
+            var from = log.end();
+            var expected = appendChanges(log, 2);
+
+            var records = new ArrayList<StringChange>();
+            log.forEach(from, StringChange.parser(), (position, record) -> records.add(record));
+
+            assertEquals(expected, records);
+        }
+    }
+
+    @Nested
+    @DisplayName("start a new segment")
+    class Rollover {
+
+        @Test
+        @DisplayName("when a record does not fit the current one")
+        void whenFull() throws IOException {
+            try (var log = ChangeLog.open(directory, SMALL_SEGMENTS)) {
+                var expected = appendChanges(log, 1000);
+
+                assertEquals(expected, readAll(log));
+            }
+            try (var files = Files.list(directory)) {
+                assertTrue(files.count() > 1);
+            }
+        }
+
+        @Test
+        @DisplayName("not accepting a record larger than a segment")
+        void tooLarge() {
+            try (var log = ChangeLog.open(directory, SMALL_SEGMENTS)) {
+                var large = Changes.of("", "x".repeat(5000));
+
+                assertThrows(IllegalArgumentException.class, () -> log.append(large));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("when reopened")
+    class Reopen {
+
+        @Test
+        @DisplayName("keep the records")
+        void keepRecords() {
+            List<StringChange> expected;
+            try (var log = ChangeLog.open(directory, SMALL_SEGMENTS)) {
+                expected = appendChanges(log, 500);
+            }
+            try (var log = ChangeLog.open(directory, SMALL_SEGMENTS)) {
+                assertEquals(expected, readAll(log));
+            }
+        }
+
+        @Test
+        @DisplayName("erase a partially written record at the tail")
+        void recoverTail() throws IOException {
+            List<StringChange> expected;
+            long end;
+            try (var log = ChangeLog.open(directory, SMALL_SEGMENTS)) {
+                expected = appendChanges(log, 10);
+                end = log.end();
+            }
+            writeTornRecord(end);
+
+            try (var log = ChangeLog.open(directory, SMALL_SEGMENTS)) {
+                assertEquals(end, log.end());
+                assertEquals(expected, readAll(log));
+
+                var position = log.append(Changes.of("X", "Y"));
+                assertEquals(Changes.of("X", "Y"), log.read(position, StringChange.parser()));
+            }
+        }
+
+        private void writeTornRecord(long position) throws IOException {
+            var file = directory.resolve(String.format("%08d.segment", position >>> 32));
+            try (var channel = FileChannel.open(file, WRITE)) {
+                var header = ByteBuffer.allocate(16)
+                                       .putInt(8)
+                                       .putInt(42)
+                                       .putLong(-1L)
+                                       .flip();
+                channel.write(header, (int) position);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("flush each record under the corresponding policy")
+    void syncEveryRecord() {
+        var options = LogOptions.newBuilder()
+                .setSyncPolicy(SyncPolicy.EVERY_RECORD)
+                .build();
+        try (var log = ChangeLog.open(directory, options)) {
+            var expected = appendChanges(log, 3);
+
+            assertEquals(expected, readAll(log));
+        }
+    }
+
+    @Nested
+    @DisplayName("flush periodically")
+    class Periodic {
+
+        @Test
+        @DisplayName("in the background while the log is idle")
+        void idle() throws InterruptedException, IOException {
+            var interval = Duration.ofMillis(20);
+            var options = LogOptions.newBuilder()
+                    .setSyncInterval(interval)
+                    .build();
+            try (var log = ChangeLog.open(directory, options)) {
+                var change = Changes.of("A", "B");
+                log.append(change);
+
+                Thread.sleep(interval.multipliedBy(3).toMillis());
+
+                var segment = Files.readAllBytes(directory.resolve("00000000.segment"));
+                assertTrue(Bytes.indexOf(segment, change.toByteArray()) >= 0);
+            }
+        }
+
+        @Test
+        @DisplayName("stopping when the log is closed")
+        void stopOnClose() throws InterruptedException {
+            var log = ChangeLog.open(directory);
+            var flusher = flusher();
+            assertTrue(flusher.isAlive());
+
+            log.close();
+
+            flusher.join(Duration.ofSeconds(10).toMillis());
+            assertFalse(flusher.isAlive());
+        }
+
+        private Thread flusher() {
+            var name = ChangeLog.flusherName(directory);
+            return Thread.getAllStackTraces()
+                         .keySet()
+                         .stream()
+                         .filter(thread -> thread.getName().equals(name))
+                         .findFirst()
+                         .orElseThrow();
+        }
+    }
+
+    @Test
+    @DisplayName("not accept records after closing")
+    void closed() {
+        var log = ChangeLog.open(directory);
+        log.close();
+
+        assertThrows(IllegalStateException.class, () -> log.append(Changes.of("A", "B")));
+    }
+
+    private static List<StringChange> appendChanges(ChangeLog log, int count) {
+        var result = new ArrayList<StringChange>();
+        for (var i = 0; i < count; i++) {
+            var change = Changes.of("value " + i, "value " + (i + 1));
+            log.append(change);
+            result.add(change);
+        }
+        return result;
+    }
+
+    private static List<StringChange> readAll(ChangeLog log) {
+        var result = new ArrayList<StringChange>();
+        log.forEach(StringChange.parser(), (position, record) -> result.add(record));
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.log;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.change.Changes;
+import io.spine.change.IntMismatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`FieldTimeline` should")
+class FieldTimelineTest {
+
+    private static final FieldPath NAME = path("name");
+    private static final FieldPath BUDGET = path("budget");
+
+    @TempDir
+    @SuppressWarnings("PackageVisibleField" /* Injected by JUnit. */)
+    Path directory;
+
+    @Test
+    @DisplayName("obtain the value of the field at any moment")
+    void valueAt() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            for (var version = 1; version <= 100; version++) {
+                index.append(record(NAME, version, Changes.ofInt32(version - 1, version)));
+                index.append(record(BUDGET, version, Changes.ofInt32(-version + 1, -version)));
+            }
+
+            var timeline = FieldTimeline.build(log, index, "project", NAME, 8);
+
+            assertEquals(100, timeline.size());
+            for (var second = 10; second <= 1010; second++) {
+                var expected = Math.min(second / 10, 100);
+                assertEquals(Optional.of(expected), timeline.valueAt(seconds(second)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("not obtain a value before the first change")
+    void beforeFirstChange() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            index.append(record(NAME, 1, Changes.ofInt32(0, 1)));
+
+            var timeline = FieldTimeline.build(log, index, "project", NAME);
+
+            assertEquals(Optional.empty(), timeline.valueAt(seconds(9)));
+        }
+    }
+
+    @Test
+    @DisplayName("obtain the values of `Timestamp` fields")
+    void timestampValues() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            index.append(record(NAME, 1, Changes.of(seconds(1), seconds(2))));
+            index.append(record(NAME, 2, Changes.of(seconds(2), seconds(3))));
+
+            var timeline = FieldTimeline.build(log, index, "project", NAME);
+
+            assertEquals(Optional.of(seconds(2)), timeline.valueAt(seconds(15)));
+        }
+    }
+
+    @Test
+    @DisplayName("not change the value by the records which are not changes")
+    void skipMismatches() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            index.append(record(NAME, 1, Changes.ofInt32(0, 1)));
+            index.append(record(NAME, 2, IntMismatch.of(1, 5, 2, 2)));
+
+            var timeline = FieldTimeline.build(log, index, "project", NAME, 1);
+
+            assertEquals(Optional.of(1), timeline.valueAt(seconds(25)));
+        }
+    }
+
+    @Test
+    @DisplayName("not accept records made out of the order of versions")
+    void rejectDisorder() {
+        try (var log = openLog(); var index = ChangeIndex.open(indexDir(), log)) {
+            index.append(record(NAME, 2, Changes.ofInt32(1, 2)));
+            index.append(ChangeRecord.newBuilder()
+                                 .setEntityId("project")
+                                 .setField(NAME)
+                                 .setVersion(1)
+                                 .setWhen(seconds(30))
+                                 .setChange(pack(Changes.ofInt32(0, 1)))
+                                 .build());
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> FieldTimeline.build(log, index, "project", NAME));
+        }
+    }
+
+    private ChangeLog openLog() {
+        return ChangeLog.open(directory.resolve("log"));
+    }
+
+    private Path indexDir() {
+        return directory.resolve("index");
+    }
+
+    /**
+     * Creates a record of the project made at the second ten times the version.
+     */
+    private static ChangeRecord record(FieldPath field, int version, Message change) {
+        return ChangeRecord.newBuilder()
+                .setEntityId("project")
+                .setField(field)
+                .setVersion(version)
+                .setWhen(seconds(version * 10))
+                .setChange(pack(change))
+                .build();
+    }
+
+    private static Timestamp seconds(long seconds) {
+        return Timestamp.newBuilder()
+                .setSeconds(seconds)
+                .build();
+    }
+
+    private static FieldPath path(String fieldName) {
+        return FieldPath.newBuilder()
+                .addFieldName(fieldName)
+                .build();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.change.stream;
+
+import io.spine.base.FieldPath;
+import io.spine.change.Changes;
+import io.spine.change.log.ChangeRecord;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`ChangeStream` should")
+class ChangeStreamTest {
+
+    /**
+     * Delivers the records on the thread which publishes or requests them.
+     */
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final FieldPath BUDGET = FieldPath.newBuilder()
+            .addFieldName("budget")
+            .build();
+
+    @Test
+    @DisplayName("deliver as many records as requested, in the order of publishing")
+    void demand() throws InterruptedException {
+        var stream = new ChangeStream(DIRECT, 4);
+        var subscriber = new RecordingSubscriber<ChangeRecord>(2);
+        stream.subscribe(subscriber);
+
+        for (var version = 1; version <= 3; version++) {
+            stream.publish(record(version));
+        }
+
+        assertEquals(List.of(record(1), record(2)), subscriber.items);
+        subscriber.subscription().request(1);
+        assertEquals(List.of(record(1), record(2), record(3)), subscriber.items);
+    }
+
+    @Nested
+    @DisplayName("when the buffer of a subscriber is full")
+    class Backpressure {
+
+        @Test
+        @DisplayName("make publishing wait until the subscriber requests a record")
+        void waitForDemand() throws InterruptedException {
+            var stream = new ChangeStream(DIRECT, 2);
+            var subscriber = new RecordingSubscriber<ChangeRecord>(0);
+            stream.subscribe(subscriber);
+            var producer = producer(stream, 3);
+
+            producer.start();
+            producer.join(200);
+            assertTrue(producer.isAlive());
+
+            subscriber.subscription().request(1);
+            producer.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(producer.isAlive());
+            assertEquals(List.of(record(1)), subscriber.items);
+        }
+
+        @Test
+        @DisplayName("make publishing wait until the subscriber cancels the subscription")
+        void waitForCancel() throws InterruptedException {
+            var stream = new ChangeStream(DIRECT, 1);
+            var subscriber = new RecordingSubscriber<ChangeRecord>(0);
+            stream.subscribe(subscriber);
+            var producer = producer(stream, 3);
+
+            producer.start();
+            producer.join(200);
+            assertTrue(producer.isAlive());
+
+            subscriber.subscription().cancel();
+            producer.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(producer.isAlive());
+            assertEquals(0, stream.subscriberCount());
+        }
+    }
+
+    @Test
+    @DisplayName("deliver the buffered records in batches")
+    void batches() throws InterruptedException {
+        var stream = new ChangeStream(DIRECT, 10);
+        var subscriber = new RecordingSubscriber<List<ChangeRecord>>(0);
+        stream.batches(3).subscribe(subscriber);
+        for (var version = 1; version <= 5; version++) {
+            stream.publish(record(version));
+        }
+
+        subscriber.subscription().request(2);
+
+        assertEquals(List.of(List.of(record(1), record(2), record(3)),
+                             List.of(record(4), record(5))),
+                     subscriber.items);
+    }
+
+    @Test
+    @DisplayName("complete the subscribers when closed")
+    void close() throws InterruptedException {
+        var stream = new ChangeStream(DIRECT, 4);
+        var subscriber = new RecordingSubscriber<ChangeRecord>(0);
+        stream.subscribe(subscriber);
+        stream.publish(record(1));
+
+        stream.close();
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription().request(1);
+        assertTrue(subscriber.completed);
+        assertEquals(List.of(record(1)), subscriber.items);
+        assertThrows(IllegalStateException.class, () -> stream.publish(record(2)));
+    }
+
+    @Test
+    @DisplayName("signal an error for a non-positive request")
+    void rejectRequest() {
+        var stream = new ChangeStream(DIRECT, 4);
+        var subscriber = new RecordingSubscriber<ChangeRecord>(0);
+        stream.subscribe(subscriber);
+
+        subscriber.subscription().request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    private static Thread producer(ChangeStream stream, int records) {
+        return new Thread(() -> {
+            try {
+                for (var version = 1; version <= records; version++) {
+                    stream.publish(record(version));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private static ChangeRecord record(int version) {
+        return ChangeRecord.newBuilder()
+                .setEntityId("project")
+                .setField(BUDGET)
+                .setVersion(version)
+                .setChange(pack(Changes.ofInt64Delta(version)))
+                .build();
+    }
+
+    /**
+     * Remembers the signals it receives.
+     */
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long initialRequest;
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private volatile Flow.@Nullable Subscription subscription;
+        private volatile @Nullable Throwable error;
+        private volatile boolean completed;
+
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private Flow.Subscription subscription() {
+            var result = subscription;
+            assertTrue(result != null);
+            return result;
+        }
+    }
+}
@@ -2,3 +2,5 @@
 rootProject.name = "spine-change"
 
 include("change")
+include("change-codegen")
+include("change-benchmarks")